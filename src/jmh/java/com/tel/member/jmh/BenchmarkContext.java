@@ -0,0 +1,64 @@
+package com.tel.member.jmh;
+
+import com.tel.member.MemberApplication;
+import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.service.MovieService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Application context shared by the JMH benchmarks
+ * JMH 벤치마크용 애플리케이션 컨텍스트
+ *
+ * <p>Starts the real application without a web server on a private in-memory H2 database
+ * (MySQL mode, same as the test profile) with SQL and debug logging turned off, so the
+ * measured paths go through the same beans, proxies and queries as in production.</p>
+ */
+final class BenchmarkContext {
+
+    static final String[] GENRES = {"Action", "Drama", "Comedy", "Thriller", "Romance", "Animation", "SF", "Horror"};
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Start the application on a fresh H2 database
+     * 새 H2 데이터베이스로 애플리케이션 시작
+     *
+     * @param name 데이터베이스 이름 (벤치마크마다 분리)
+     */
+    static ConfigurableApplicationContext start(String name, String... properties) {
+        return new SpringApplicationBuilder(MemberApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.tel.member=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * Insert movies through the service (genre index and release date columns filled as usual)
+     * 서비스를 통해 영화 등록 (장르 인덱스, 개봉일 컬럼도 평소처럼 채워짐)
+     */
+    static void seedMovies(ConfigurableApplicationContext context, int count) {
+        MovieService movieService = context.getBean(MovieService.class);
+        for (int i = 0; i < count; i++) {
+            movieService.createMovie(MovieCreateRequestDto.builder()
+                    .title("Benchmark Movie " + i)
+                    .genre(GENRES[i % GENRES.length] + ", " + GENRES[(i + 3) % GENRES.length])
+                    .releaseDate(String.format("%d-%02d-%02d", 1990 + i % 35, 1 + i % 12, 1 + i % 28))
+                    .description("Description of benchmark movie " + i)
+                    .posterUrl("https://example.com/posters/" + i + ".jpg")
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.tel.member.jmh;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.tel.member.aop.LoggingAspect;
+import com.tel.member.dto.MemberSummaryDto;
+import com.tel.member.repository.MemberRepository;
+import com.tel.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-call overhead of LoggingAspect by mode
+ * 모드별 LoggingAspect 호출당 오버헤드 벤치마크
+ *
+ * <p>Proxies MemberService.findSummaries (20-row page from an in-memory repository) with
+ * the aspect in each mode; {@code none} is the unproxied baseline. Log output goes through
+ * a real pattern encoder into a discarding stream, so formatting cost is measured without
+ * console I/O.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LoggingAspectBenchmark {
+
+    @Param({"none", "off", "sampled", "full"})
+    public String mode;
+
+    private MemberService memberService;
+
+    @Setup
+    public void setUp() {
+        discardLogOutput(LoggingAspect.class.getName());
+        MemberService target = new MemberService(summaryRepository(), null);
+        if ("none".equals(mode)) {
+            memberService = target;
+            return;
+        }
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LoggingAspect(mode, 0.01, 500, 200));
+        memberService = factory.getProxy();
+    }
+
+    @Benchmark
+    public Page<MemberSummaryDto> findSummaries() {
+        return memberService.findSummaries(0, 20);
+    }
+
+    /**
+     * Repository that only answers findSummaries with a fixed page
+     * findSummaries 에만 고정 페이지를 반환하는 저장소
+     */
+    private static MemberRepository summaryRepository() {
+        List<MemberSummaryDto> members = IntStream.range(0, 20)
+                .mapToObj(i -> new MemberSummaryDto("member" + i, "회원" + i, "member" + i + "@example.com",
+                        LocalDate.of(2024, 1, 1), "C"))
+                .toList();
+        Page<MemberSummaryDto> page = new PageImpl<>(members, PageRequest.of(0, 20), 1_000);
+        return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findSummaries")) {
+                        return page;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void discardLogOutput(String loggerName) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %5level [%thread] %logger{36} : %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger logger = context.getLogger(loggerName);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+}
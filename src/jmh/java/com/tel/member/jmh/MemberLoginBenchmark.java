@@ -0,0 +1,71 @@
+package com.tel.member.jmh;
+
+import com.tel.member.dto.MemberDTO;
+import com.tel.member.service.MemberService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Member login (lookup + BCrypt verify on the password hashing pool)
+ * 회원 로그인 벤치마크 (조회 + 비밀번호 해싱 풀에서의 BCrypt 검증)
+ *
+ * <p>{@code strength} overrides {@code member.password.strength}; BCrypt dominates the
+ * successful login, the failed lookup shows the cost without it.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MemberLoginBenchmark {
+
+    private static final String PASSWORD = "jmh-password-1234";
+
+    @Param({"10"})
+    public int strength;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private MemberDTO validLogin;
+    private MemberDTO unknownMember;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("login-" + strength, "member.password.strength=" + strength);
+        memberService = context.getBean(MemberService.class);
+
+        MemberDTO member = new MemberDTO();
+        member.setId("jmh-member");
+        member.setName("Benchmark");
+        member.setEmail("jmh@example.com");
+        member.setBirth("19900101");
+        member.setPassword(PASSWORD);
+        memberService.save(member);
+
+        validLogin = credentials("jmh-member", PASSWORD);
+        unknownMember = credentials("jmh-unknown", PASSWORD);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberDTO login() {
+        return memberService.login(validLogin);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public MemberDTO loginUnknownMember() {
+        return memberService.login(unknownMember);
+    }
+
+    private static MemberDTO credentials(String id, String password) {
+        MemberDTO dto = new MemberDTO();
+        dto.setId(id);
+        dto.setPassword(password);
+        return dto;
+    }
+}
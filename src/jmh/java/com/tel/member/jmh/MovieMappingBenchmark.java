@@ -0,0 +1,48 @@
+package com.tel.member.jmh;
+
+import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.entity.MovieEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO mapping
+ * 엔티티 → 응답 DTO 변환 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MovieMappingBenchmark {
+
+    private MovieEntity entity;
+
+    @Setup
+    public void setUp() {
+        entity = MovieEntity.builder()
+                .id(42L)
+                .title("Benchmark Movie")
+                .genre("Action, Drama")
+                .releaseDate("2010-07-21")
+                .releasedOn(LocalDate.of(2010, 7, 21))
+                .releaseYear(2010)
+                .description("A movie used to benchmark the response mapping")
+                .posterUrl("https://example.com/posters/42.jpg")
+                .recommendationCount(17)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                .updatedAt(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .build();
+    }
+
+    @Benchmark
+    public MovieResponseDto fromEntity() {
+        return MovieResponseDto.fromEntity(entity);
+    }
+
+    @Benchmark
+    public MovieResponseDto fromEntityWithRecommendation() {
+        return MovieResponseDto.fromEntity(entity, true);
+    }
+}
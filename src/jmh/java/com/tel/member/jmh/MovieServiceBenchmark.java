@@ -0,0 +1,85 @@
+package com.tel.member.jmh;
+
+import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.dto.RecommendationResponseDto;
+import com.tel.member.service.MovieService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Movie list / search / recommendation toggle through the service layer on H2
+ * H2 위에서 서비스 계층을 통한 영화 목록 / 검색 / 추천 토글 벤치마크
+ *
+ * <p>Calls go through the Spring proxies (transactions, aspects, caches), so the numbers
+ * include everything a controller call would pay except HTTP and JSON.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MovieServiceBenchmark {
+
+    private static final String MEMBER_ID = "jmh-member";
+
+    @Param({"1000"})
+    public int movieCount;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private MovieService movieService;
+    private Pageable firstPage;
+    private Pageable deepPage;
+    private long toggledMovieId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("movies");
+        BenchmarkContext.seedMovies(context, movieCount);
+        movieService = context.getBean(MovieService.class);
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+        firstPage = PageRequest.of(0, pageSize, sort);
+        deepPage = PageRequest.of(Math.max(0, movieCount / pageSize / 2), pageSize, sort);
+        toggledMovieId = movieService.getAllMovies(firstPage, null).getContent().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<MovieResponseDto> listFirstPage() {
+        return movieService.getAllMovies(firstPage, MEMBER_ID);
+    }
+
+    @Benchmark
+    public Page<MovieResponseDto> listDeepPage() {
+        return movieService.getAllMovies(deepPage, MEMBER_ID);
+    }
+
+    @Benchmark
+    public Page<MovieResponseDto> listByGenre() {
+        return movieService.getMoviesByGenre("Drama", firstPage, MEMBER_ID);
+    }
+
+    @Benchmark
+    public Page<MovieResponseDto> searchByTitle() {
+        return movieService.searchMovies("Movie 5", firstPage, MEMBER_ID);
+    }
+
+    /**
+     * Each call adds or removes the same recommendation, so the table stays the same size
+     * 호출마다 같은 추천을 추가 / 취소하므로 테이블 크기는 일정하게 유지
+     */
+    @Benchmark
+    public RecommendationResponseDto toggleRecommendation() {
+        return movieService.toggleRecommendation(toggledMovieId, MEMBER_ID);
+    }
+}
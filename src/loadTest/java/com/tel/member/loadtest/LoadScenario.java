@@ -0,0 +1,97 @@
+package com.tel.member.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Request types of the mixed load scenario
+ * 혼합 부하 시나리오의 요청 종류
+ */
+enum LoadScenario {
+
+    /** GET /api/movies (첫 10 페이지 중 하나) */
+    BROWSE("GET /api/movies") {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return get(base, "/api/movies?page=" + random.nextInt(10) + "&size=20&memberId=" + seed.randomMember(random));
+        }
+    },
+
+    /** GET /api/movies/search (제목 단어 검색) */
+    SEARCH("GET /api/movies/search") {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            String keyword = SeedData.TITLE_WORDS.get(random.nextInt(SeedData.TITLE_WORDS.size()));
+            return get(base, "/api/movies/search?keyword=" + SeedData.encode(keyword) + "&size=20&memberId="
+                    + seed.randomMember(random));
+        }
+    },
+
+    /** POST /api/movies/{id}/recommend (추천 토글) */
+    TOGGLE("POST /api/movies/{id}/recommend") {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            return HttpRequest.newBuilder(base.resolve("/api/movies/" + seed.randomMovie(random)
+                            + "/recommend?memberId=" + seed.randomMember(random)))
+                    .POST(HttpRequest.BodyPublishers.noBody());
+        }
+    },
+
+    /** POST /api/member/login (BCrypt 검증 포함) */
+    LOGIN("POST /api/member/login") {
+        @Override
+        HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random) {
+            String body = "{\"id\":\"" + seed.randomMember(random) + "\",\"password\":\"" + SeedData.PASSWORD + "\"}";
+            return HttpRequest.newBuilder(base.resolve("/api/member/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+        }
+    };
+
+    private final String endpoint;
+
+    LoadScenario(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    abstract HttpRequest.Builder request(URI base, SeedData seed, ThreadLocalRandom random);
+
+    HttpRequest build(URI base, SeedData seed, ThreadLocalRandom random) {
+        return request(base, seed, random).timeout(Duration.ofSeconds(30)).build();
+    }
+
+    private static HttpRequest.Builder get(URI base, String pathAndQuery) {
+        return HttpRequest.newBuilder(base.resolve(pathAndQuery)).GET();
+    }
+
+    /**
+     * IDs created while seeding
+     * 데이터 준비 단계에서 생성된 ID
+     */
+    record SeedData(List<Long> movieIds, List<String> memberIds) {
+
+        static final String PASSWORD = "load-test-1234";
+        static final List<String> TITLE_WORDS = List.of("사랑", "전쟁", "여름", "도시", "비밀", "바다", "기억", "Night", "Road", "Star");
+
+        long randomMovie(ThreadLocalRandom random) {
+            return movieIds.get(random.nextInt(movieIds.size()));
+        }
+
+        String randomMember(ThreadLocalRandom random) {
+            return memberIds.get(random.nextInt(memberIds.size()));
+        }
+
+        static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tel.member.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings read from {@code load.*} system properties
+ * {@code load.*} 시스템 프로퍼티에서 읽는 부하 테스트 설정
+ *
+ * <p>The Gradle {@code loadTest} task forwards {@code -Pload.xxx=...} project properties,
+ * e.g. {@code ./gradlew loadTest -Pload.rate=500 -Pload.mix=browse=70,search=30}.</p>
+ *
+ * @param rate 초당 요청 도착률 (open model: 응답 속도와 무관하게 일정)
+ * @param duration 측정 구간 길이
+ * @param warmup 워밍업 구간 길이 (결과에서 제외)
+ * @param poisson true 면 지수 분포 도착 간격, false 면 균등 간격
+ * @param mix 시나리오별 가중치
+ * @param movies 미리 등록할 영화 수
+ * @param members 미리 가입시킬 회원 수
+ * @param maxInFlight 동시 진행 요청 상한 (초과 도착분은 dropped 로 집계)
+ * @param outputDir 엔드포인트별 HDR 백분위 분포 (.hgrm) 출력 디렉터리
+ */
+record LoadTestConfig(double rate, Duration duration, Duration warmup, boolean poisson,
+                      Map<LoadScenario, Integer> mix, int movies, int members, int maxInFlight,
+                      Path outputDir) {
+
+    static LoadTestConfig fromSystemProperties() {
+        LoadTestConfig config = new LoadTestConfig(
+                Double.parseDouble(property("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(property("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(property("warmup", "15"))),
+                !"uniform".equalsIgnoreCase(property("arrival", "poisson")),
+                parseMix(property("mix", "browse=60,search=25,toggle=10,login=5")),
+                Integer.parseInt(property("movies", "2000")),
+                Integer.parseInt(property("members", "50")),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                Path.of(property("output", "build/results/loadtest")));
+        if (config.rate <= 0 || config.movies <= 0 || config.members <= 0 || config.maxInFlight <= 0) {
+            throw new IllegalArgumentException("load.rate, load.movies, load.members 와 load.max-in-flight 는 양수여야 합니다.");
+        }
+        return config;
+    }
+
+    /**
+     * Parse a weighted scenario mix like {@code browse=60,search=25,toggle=10,login=5}
+     * 시나리오 가중치 문자열 파싱
+     */
+    static Map<LoadScenario, Integer> parseMix(String text) {
+        Map<LoadScenario, Integer> mix = new EnumMap<>(LoadScenario.class);
+        for (String part : text.split(",")) {
+            String[] entry = part.trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("잘못된 load.mix 항목: " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("load.mix 가중치는 0 이상이어야 합니다: " + part);
+            }
+            if (weight > 0) {
+                mix.put(LoadScenario.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix 에 시나리오가 하나 이상 필요합니다.");
+        }
+        return mix;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("load." + name, defaultValue);
+    }
+}
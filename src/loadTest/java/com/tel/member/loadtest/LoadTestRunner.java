@@ -0,0 +1,144 @@
+package com.tel.member.loadtest;
+
+import com.tel.member.MemberApplication;
+import com.tel.member.dto.MemberDTO;
+import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.service.MemberService;
+import com.tel.member.service.MovieService;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * End-to-end HTTP load test of the REST API against the application booted on H2
+ * H2 로 띄운 애플리케이션에 대한 REST API 종단 간 HTTP 부하 테스트
+ *
+ * <p>Boots the application on a random port with a private in-memory H2 database, seeds movies
+ * and members through the services, then drives the mixed browse / search / toggle / login
+ * scenario with {@link OpenModelDriver}. Prints throughput and HDR latency percentiles per
+ * endpoint and writes each endpoint's full percentile distribution as {@code .hgrm} (milliseconds)
+ * to {@code load.output}. Run with {@code ./gradlew loadTest}; see {@link LoadTestConfig} for options.
+ * Other {@code -P} properties such as {@code spring.threads.virtual.enabled} are passed to the application.</p>
+ */
+public final class LoadTestRunner {
+
+    private static final String[] GENRES = {"Action", "Drama", "Comedy", "Thriller", "Romance", "Animation", "SF", "Horror"};
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemberApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.com.tel.member=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run(args)) {
+            LoadScenario.SeedData seed = seed(context, config);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            System.out.printf("Load test: %.0f req/s (%s arrivals), warmup %ds, measure %ds, mix %s%n",
+                    config.rate(), config.poisson() ? "poisson" : "uniform",
+                    config.warmup().toSeconds(), config.duration().toSeconds(), config.mix());
+            OpenModelDriver.Result result =
+                    new OpenModelDriver(URI.create("http://localhost:" + port), seed, config).run();
+
+            print(result, config, System.out);
+            write(result, config.outputDir());
+        }
+    }
+
+    private static LoadScenario.SeedData seed(ConfigurableApplicationContext context, LoadTestConfig config) {
+        long started = System.nanoTime();
+        MovieService movieService = context.getBean(MovieService.class);
+        List<Long> movieIds = new ArrayList<>(config.movies());
+        List<String> words = LoadScenario.SeedData.TITLE_WORDS;
+        for (int i = 0; i < config.movies(); i++) {
+            movieIds.add(movieService.createMovie(MovieCreateRequestDto.builder()
+                    .title(words.get(i % words.size()) + " " + (i + 1))
+                    .genre(GENRES[i % GENRES.length] + ", " + GENRES[(i + 3) % GENRES.length])
+                    .releaseDate(String.format("%d-%02d-%02d", 1990 + i % 35, 1 + i % 12, 1 + i % 28))
+                    .description("Load test movie " + (i + 1))
+                    .posterUrl("https://example.com/posters/" + (i + 1) + ".jpg")
+                    .build()).getId());
+        }
+
+        // 가입은 운영과 같은 BCrypt 강도로 해시 (로그인 시나리오 비용이 실제와 같도록)
+        MemberService memberService = context.getBean(MemberService.class);
+        List<String> memberIds = new ArrayList<>(config.members());
+        for (int i = 0; i < config.members(); i++) {
+            MemberDTO member = new MemberDTO();
+            member.setId("load" + i);
+            member.setName("부하" + i);
+            member.setEmail("load" + i + "@example.com");
+            member.setBirth("19900101");
+            member.setPassword(LoadScenario.SeedData.PASSWORD);
+            memberService.save(member);
+            memberIds.add(member.getId());
+        }
+        System.out.printf("Seeded %,d movies and %,d members in %d ms%n",
+                movieIds.size(), memberIds.size(), (System.nanoTime() - started) / 1_000_000);
+        return new LoadScenario.SeedData(movieIds, memberIds);
+    }
+
+    private static void print(OpenModelDriver.Result result, LoadTestConfig config, PrintStream out) {
+        out.printf("%nArrivals %,d (target %,.0f), dropped %,d%n", result.arrivals(),
+                config.rate() * config.duration().toSeconds(), result.dropped());
+        out.printf("%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<LoadScenario, Histogram> entry : result.histograms().entrySet()) {
+            printRow(out, entry.getKey().endpoint(), entry.getValue(), result.errors().get(entry.getKey()), result);
+        }
+        long totalErrors = result.errors().values().stream().mapToLong(Long::longValue).sum();
+        printRow(out, "total", result.total(), totalErrors, result);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors,
+                                 OpenModelDriver.Result result) {
+        out.printf(Locale.ROOT, "%-32s %,9d %,7d %,9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errors, result.throughput(histogram),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    /**
+     * Write one HdrHistogram percentile distribution per endpoint (values in milliseconds)
+     * 엔드포인트별 HdrHistogram 백분위 분포 파일 출력 (밀리초 단위)
+     */
+    private static void write(OpenModelDriver.Result result, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        for (Map.Entry<LoadScenario, Histogram> entry : result.histograms().entrySet()) {
+            Path file = outputDir.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve("total.hgrm")))) {
+            result.total().outputPercentileDistribution(out, 1_000_000.0);
+        }
+        System.out.println("Percentile distributions written to " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.tel.member.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load driver: requests arrive on a schedule, independent of response times
+ * Open model 부하 생성기: 응답 시간과 무관하게 정해진 일정으로 요청 도착
+ *
+ * <p>Each request gets an intended start time from the arrival schedule (uniform or Poisson
+ * at {@code load.rate}) and runs on its own virtual thread. Latency is measured from the
+ * intended start, not from when the request was actually sent, so a stalled server shows up
+ * as queueing delay instead of silently lowering the offered load (coordinated omission).
+ * Requests whose intended start falls in the warmup window are sent but not recorded.
+ * Arrivals beyond {@code load.max-in-flight} concurrent requests are counted as dropped.</p>
+ */
+final class OpenModelDriver {
+
+    // 60 초를 넘는 응답은 60 초로 기록 (유효 숫자 3 자리)
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final URI base;
+    private final LoadScenario.SeedData seed;
+    private final LoadTestConfig config;
+    private final LoadScenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final HttpClient client;
+
+    private final Map<LoadScenario, Recorder> recorders = new EnumMap<>(LoadScenario.class);
+    private final Map<LoadScenario, LongAdder> errors = new EnumMap<>(LoadScenario.class);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    OpenModelDriver(URI base, LoadScenario.SeedData seed, LoadTestConfig config) {
+        this.base = base;
+        this.seed = seed;
+        this.config = config;
+        this.scenarios = config.mix().keySet().toArray(LoadScenario[]::new);
+        this.cumulativeWeights = new int[scenarios.length];
+        int total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += config.mix().get(scenarios[i]);
+            cumulativeWeights[i] = total;
+            recorders.put(scenarios[i], new Recorder(MAX_TRACKABLE_NANOS, 3));
+            errors.put(scenarios[i], new LongAdder());
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Run warmup and measurement, then wait for in-flight requests
+     * 워밍업 + 측정 구간 실행 후 진행 중인 요청 완료 대기
+     */
+    Result run() {
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup().toNanos();
+        long window = config.warmup().toNanos() + config.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+
+        long arrivals = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            double offset = 0;
+            while (offset < window) {
+                long intended = start + (long) offset;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = intended >= measureStart;
+                if (measured) {
+                    arrivals++;
+                }
+                LoadScenario scenario = pick(ThreadLocalRandom.current());
+                if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        dropped.increment();
+                    }
+                } else {
+                    requests.submit(() -> send(scenario, intended, measured));
+                }
+                offset += config.poisson()
+                        ? -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos
+                        : meanIntervalNanos;
+            }
+        }
+
+        Map<LoadScenario, Histogram> histograms = new EnumMap<>(LoadScenario.class);
+        Map<LoadScenario, Long> errorCounts = new EnumMap<>(LoadScenario.class);
+        for (LoadScenario scenario : scenarios) {
+            histograms.put(scenario, recorders.get(scenario).getIntervalHistogram());
+            errorCounts.put(scenario, errors.get(scenario).sum());
+        }
+        return new Result(histograms, errorCounts, arrivals, dropped.sum(), config.duration());
+    }
+
+    private void send(LoadScenario scenario, long intended, boolean measured) {
+        boolean failed;
+        try {
+            HttpRequest request = scenario.build(base, seed, ThreadLocalRandom.current());
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            failed = response.statusCode() >= 400;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+        } catch (Exception e) {
+            failed = true;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (measured) {
+            recorders.get(scenario).recordValue(Math.min(System.nanoTime() - intended, MAX_TRACKABLE_NANOS));
+            if (failed) {
+                errors.get(scenario).increment();
+            }
+        }
+    }
+
+    private LoadScenario pick(ThreadLocalRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    /**
+     * Latency histograms (nanoseconds) and error counts of the measurement window
+     * 측정 구간의 엔드포인트별 지연 히스토그램 (나노초) 과 오류 수
+     *
+     * @param arrivals 측정 구간에 도착한 요청 수 (dropped 포함)
+     */
+    record Result(Map<LoadScenario, Histogram> histograms, Map<LoadScenario, Long> errors,
+                  long arrivals, long dropped, Duration duration) {
+
+        Histogram total() {
+            Histogram total = new Histogram(MAX_TRACKABLE_NANOS, 3);
+            histograms.values().forEach(total::add);
+            return total;
+        }
+
+        double throughput(Histogram histogram) {
+            return histogram.getTotalCount() / (duration.toNanos() / 1_000_000_000.0);
+        }
+    }
+}
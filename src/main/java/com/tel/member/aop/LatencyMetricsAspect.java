@@ -0,0 +1,36 @@
+package com.tel.member.aop;
+
+import com.tel.member.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 / 서비스 메서드 지연 시간을 MetricsRegistry 히스토그램에 기록하는 Aspect
+ *
+ * <p>LoggingAspect 와 같은 포인트컷을 사용한다. 호출마다 nanoTime 두 번과 히스토그램 기록만 한다.</p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LatencyMetricsAspect {
+
+    private final MetricsRegistry metricsRegistry;
+
+    @Around("com.tel.member.aop.LoggingAspect.serviceLayer() || com.tel.member.aop.LoggingAspect.controllerLayer()")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        MetricsRegistry.MethodTimer timer = metricsRegistry.timer(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long startTime = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer.record(System.nanoTime() - startTime);
+            return result;
+        } catch (Throwable throwable) {
+            timer.recordFailure(System.nanoTime() - startTime);
+            throw throwable;
+        }
+    }
+}
@@ -1,19 +1,68 @@
 package com.tel.member.aop;
 
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
 /**
  * 로깅을 위한 AOP Aspect 클래스
+ *
+ * <p>Controller / Service 호출을 하나의 {@code @Around} 로 감싸 {@code System.nanoTime()} 으로 시간을 잰다.
+ * 모드 ({@code member.logging.aspect.mode}):</p>
+ * <ul>
+ *     <li>{@code sampled} (기본) - {@code sample-rate} 비율의 호출, {@code slow-threshold-ms} 이상 걸린 호출, 예외가 난 호출만 기록</li>
+ *     <li>{@code full} - 모든 호출 기록 (디버깅용)</li>
+ *     <li>{@code off} - 기록하지 않음</li>
+ * </ul>
+ * <p>파라미터 / 반환값 문자열은 기록할 호출에서만 만든다. Page, 컬렉션은 크기만, 긴 값은 잘라서,
+ * 비밀번호 필드는 가려서 기록하고, {@link SensitiveArgs} 가 붙은 클래스 / 메서드는 파라미터 전체를 가린다.
+ * 출력은 logback-spring.xml 의 비동기 appender 가 담당한다.</p>
  */
 @Aspect
 @Component
 @Slf4j
 public class LoggingAspect {
 
+    enum Mode { OFF, SAMPLED, FULL }
+
+    // Lombok toString 형식의 비밀번호 필드 (password=..., newPassword=...)
+    private static final Pattern PASSWORD_FIELD = Pattern.compile("(?i)(\\w*password\\w*)=[^,)\\]}]*");
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxValueLength;
+
+    public LoggingAspect(
+            @Value("${member.logging.aspect.mode:sampled}") String mode,
+            @Value("${member.logging.aspect.sample-rate:0.01}") double sampleRate,
+            @Value("${member.logging.aspect.slow-threshold-ms:500}") long slowThresholdMillis,
+            @Value("${member.logging.aspect.max-value-length:200}") int maxValueLength) {
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.maxValueLength = maxValueLength;
+    }
+
     /**
      * Service 패키지의 모든 메서드에 대한 포인트컷 정의
      */
@@ -27,55 +76,105 @@ public class LoggingAspect {
     public void controllerLayer() {}
 
     /**
-     * 메서드 실행 전 로깅
+     * 메서드 실행 시간 측정 및 샘플링 / 느린 호출 / 예외 로깅
      */
-    @Before("serviceLayer() || controllerLayer()") //"타겟 메서드 실행 전에" 공통 기능을 실행하도록 지정
-    public void logBefore(JoinPoint joinPoint) { // 스프링 AOP에서 어떤 메서드가 실행되었는지 간략한 정보를 얻을 때 사용
-        log.info("=== 메서드 실행 시작: {} ===", joinPoint.getSignature().toShortString());// joinPoint:현재 AOP가 작동 중인 지점(point) 정보를 담고 있는 객체 ,   getSignature() :현재 실행 중인 메서드의 시그니처(Signature) 정보를 가져옴, toShortString() : 그 시그니처를 간략하게 문자열로 반환 (예: MemberController.login(..))
-        Object[] args = joinPoint.getArgs();
-        if (args.length > 0) {
-            log.info("파라미터: {}", args);
+    @Around("serviceLayer() || controllerLayer()")
+    public Object logCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (mode == Mode.OFF) {
+            return joinPoint.proceed();
+        }
+        // 샘플링 여부는 호출 전에 결정 (기록하지 않을 호출은 문자열을 만들지 않음)
+        boolean sampled = mode == Mode.FULL
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        long startTime = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable throwable) {
+            long elapsed = System.nanoTime() - startTime;
+            // 스택 트레이스는 GlobalExceptionHandler 에서 기록
+            log.warn("메서드 실행 중 예외 발생: {} ({} ms) - {} - 파라미터: {}",
+                    joinPoint.getSignature().toShortString(), millis(elapsed), throwable.toString(),
+                    renderArgs(joinPoint));
+            throw throwable;
+        }
+        long elapsed = System.nanoTime() - startTime;
+        if (elapsed >= slowThresholdNanos) {
+            log.warn("느린 호출: {} ({} ms) - 파라미터: {} - 반환값: {}",
+                    joinPoint.getSignature().toShortString(), millis(elapsed),
+                    renderArgs(joinPoint), render(result));
+        } else if (sampled && log.isInfoEnabled()) {
+            log.info("메서드 실행: {} ({} ms) - 파라미터: {} - 반환값: {}",
+                    joinPoint.getSignature().toShortString(), millis(elapsed),
+                    renderArgs(joinPoint), render(result));
         }
+        return result;
     }
 
-    /**
-     * 메서드 실행 후 로깅 (정상 반환)
-     */
-    @AfterReturning(pointcut = "serviceLayer() || controllerLayer()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        log.info("=== 메서드 실행 완료: {} ===", joinPoint.getSignature().toShortString());
-        if (result != null) {
-            log.info("반환값: {}", result);
+    private String renderArgs(JoinPoint joinPoint) {
+        if (isSensitive(joinPoint)) {
+            return "[***]";
+        }
+        Object[] args = joinPoint.getArgs();
+        if (args.length == 0) {
+            return "[]";
         }
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(render(args[i]));
+        }
+        return text.append(']').toString();
     }
 
     /**
-     * 메서드 실행 중 예외 발생 시 로깅
+     * 로그용 값 문자열 (큰 객체는 요약, 비밀번호는 마스킹, 길이 제한)
      */
-    @AfterThrowing(pointcut = "serviceLayer() || controllerLayer()", throwing = "exception")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable exception) {
-        log.error("=== 메서드 실행 중 예외 발생: {} ===", joinPoint.getSignature().toShortString());
-        log.error("예외 내용: {}", exception.getMessage(), exception);
+    String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof ResponseEntity<?> response) {
+            return "ResponseEntity[" + response.getStatusCode().value() + ", " + render(response.getBody()) + "]";
+        }
+        if (value instanceof Page<?> page) {
+            return "Page[number=" + page.getNumber() + ", size=" + page.getSize()
+                    + ", elements=" + page.getNumberOfElements() + ", total=" + page.getTotalElements() + "]";
+        }
+        if (value instanceof Slice<?> slice) {
+            return "Slice[number=" + slice.getNumber() + ", elements=" + slice.getNumberOfElements()
+                    + ", hasNext=" + slice.hasNext() + "]";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value instanceof ServletRequest || value instanceof ServletResponse
+                || value instanceof InputStream || value instanceof OutputStream || value instanceof byte[]) {
+            return value.getClass().getSimpleName();
+        }
+        String text = PASSWORD_FIELD.matcher(String.valueOf(value)).replaceAll("$1=***");
+        return text.length() <= maxValueLength ? text : text.substring(0, maxValueLength) + "...";
     }
 
-    /**
-     * 메서드 실행 시간 측정
-     */
-    @Around("serviceLayer()")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        
-        try {
-            Object result = joinPoint.proceed();
-            long endTime = System.currentTimeMillis();
-            log.info("메서드 실행 시간: {}ms - {}", 
-                    (endTime - startTime), joinPoint.getSignature().toShortString());
-            return result;
-        } catch (Throwable throwable) {
-            long endTime = System.currentTimeMillis();
-            log.error("메서드 실행 시간: {}ms (예외 발생) - {}", 
-                    (endTime - startTime), joinPoint.getSignature().toShortString());
-            throw throwable;
+    // 기록할 호출에서만 확인하므로 샘플링되지 않은 호출에는 비용이 없음
+    private static boolean isSensitive(JoinPoint joinPoint) {
+        if (joinPoint.getSignature() instanceof MethodSignature signature) {
+            Method method = signature.getMethod();
+            if (method.isAnnotationPresent(SensitiveArgs.class)
+                    || method.getDeclaringClass().isAnnotationPresent(SensitiveArgs.class)) {
+                return true;
+            }
         }
+        Object target = joinPoint.getTarget();
+        return target != null && target.getClass().isAnnotationPresent(SensitiveArgs.class);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,21 @@
+package com.tel.member.aop;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type or method whose arguments must never be written to the call log
+ * 호출 로그에 파라미터를 남기면 안 되는 클래스 / 메서드 표시
+ *
+ * <p>{@link LoggingAspect} still records the call and its timing but replaces the whole
+ * argument list with {@code [***]}. Use it for raw credentials that are plain strings, which
+ * the password field masking of Lombok toString output cannot recognize.</p>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SensitiveArgs {
+}
@@ -0,0 +1,22 @@
+package com.tel.member.cache;
+
+import java.util.Map;
+
+/**
+ * In-memory cache that reports its statistics
+ * 통계를 제공하는 인메모리 캐시 인터페이스
+ */
+public interface CacheStatsProvider {
+
+    /**
+     * Cache name used as the key in the stats response
+     * 통계 응답에서 사용되는 캐시 이름
+     */
+    String getCacheName();
+
+    /**
+     * Current statistics (hits, misses, size, memory, ...)
+     * 현재 캐시 통계 (적중, 미스, 크기, 메모리 등)
+     */
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,74 @@
+package com.tel.member.cache;
+
+/**
+ * Count-min sketch of recent access frequency, used for cache admission (TinyLFU)
+ * 캐시 진입 판단(TinyLFU)을 위한 최근 접근 빈도 카운트-민 스케치
+ *
+ * <p>Four rows of saturating 4-bit style counters (capped at 15). After a sample of
+ * accesses every counter is halved so that old popularity fades. Updates are not
+ * synchronized: lost increments only make the estimate slightly lower, which is acceptable
+ * for an admission heuristic.</p>
+ */
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final int MIN_WIDTH = 1024;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final int[][] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(MIN_WIDTH, maximumSize) - 1) << 1;
+        this.table = new int[SEEDS.length][width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Record one access of the key
+     * 키 접근 1회 기록
+     */
+    void increment(long key) {
+        for (int row = 0; row < SEEDS.length; row++) {
+            int index = index(key, row);
+            if (table[row][index] < MAX_COUNT) {
+                table[row][index]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Estimated access frequency of the key
+     * 키의 예상 접근 빈도
+     */
+    int frequency(long key) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < SEEDS.length; row++) {
+            frequency = Math.min(frequency, table[row][index(key, row)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        additions = 0;
+        for (int[] row : table) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>>= 1;
+            }
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key + SEEDS[row]) * SEEDS[row];
+        hash ^= hash >>> 29;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,138 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.MovieCreatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of the distinct genre list served to the genre menu
+ * 장르 메뉴에 제공되는 고유 장르 목록 스냅샷
+ *
+ * <p>The snapshot is invalidated by bumping a version only when a committed movie write
+ * introduces a genre the snapshot does not contain. Concurrent rebuilds after an
+ * invalidation are coalesced into a single query.</p>
+ */
+@Component
+public class GenreCatalogCache implements CacheStatsProvider {
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<List<String>>> rebuild = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder coalescedWaits = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Get the genre list, rebuilding it through the loader when stale
+     * 장르 목록 조회 (스냅샷이 무효화된 경우 loader 로 재구성)
+     *
+     * @param loader DB 조회 함수
+     * @return 정렬된 고유 장르 목록 (수정 불가)
+     */
+    public List<String> get(Supplier<List<String>> loader) {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            hits.increment();
+            return current.genres;
+        }
+
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        CompletableFuture<List<String>> running = rebuild.compareAndExchange(null, future);
+        if (running != null) {
+            // 이미 진행 중인 재구성이 있으면 그 결과를 기다림
+            coalescedWaits.increment();
+            return running.join();
+        }
+
+        try {
+            current = snapshot.get();
+            if (current != null) {
+                future.complete(current.genres);
+                return current.genres;
+            }
+            long startVersion = version.get();
+            Snapshot rebuilt = new Snapshot(List.copyOf(loader.get()));
+            rebuilds.increment();
+            snapshot.set(rebuilt);
+            if (version.get() != startVersion) {
+                // 재구성 도중 무효화된 경우 설치한 스냅샷을 되돌림
+                snapshot.compareAndSet(rebuilt, null);
+            }
+            future.complete(rebuilt.genres);
+            return rebuilt.genres;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuild.set(null);
+        }
+    }
+
+    /**
+     * Invalidate the snapshot when a committed movie introduces a new genre
+     * 커밋된 영화가 새로운 장르를 추가한 경우 스냅샷 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCreated(MovieCreatedEvent event) {
+        String genre = event.getGenre();
+        if (genre == null) {
+            return;
+        }
+        Snapshot current = snapshot.get();
+        if (current == null || !current.genreSet.contains(genre)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Force the next read to rebuild the snapshot
+     * 다음 조회 시 스냅샷을 재구성하도록 무효화
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        snapshot.set(null);
+        invalidations.increment();
+    }
+
+    @Override
+    public String getCacheName() {
+        return "genres";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("version", version.get());
+        stats.put("valid", current != null);
+        stats.put("size", current == null ? 0 : current.genres.size());
+        stats.put("hits", hits.sum());
+        stats.put("rebuilds", rebuilds.sum());
+        stats.put("coalescedWaits", coalescedWaits.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    private static final class Snapshot {
+        private final List<String> genres;
+        private final Set<String> genreSet;
+
+        private Snapshot(List<String> genres) {
+            this.genres = genres;
+            this.genreSet = new HashSet<>(genres);
+        }
+    }
+}
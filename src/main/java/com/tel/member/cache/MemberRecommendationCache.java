@@ -0,0 +1,259 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.RecommendationToggledEvent;
+import com.tel.member.event.RecommendationsImportedEvent;
+import com.tel.member.repository.MovieRecommendationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-member cache of recommended movie IDs
+ * 회원별 추천 영화 ID 캐시
+ *
+ * <p>Each active member's recommendations are loaded once with
+ * {@link MovieRecommendationRepository#findMovieIdsByMemberId(String)} and kept as a
+ * {@link RecommendedMovieIds} (sorted primitive array). Toggles are applied in place after
+ * commit. Entries are evicted after an idle period and, least recently used first, when the
+ * estimated memory exceeds the budget.</p>
+ */
+@Component
+@Slf4j
+public class MemberRecommendationCache implements CacheStatsProvider {
+
+    /** Map node + entry object + member ID string, rough JVM estimate */
+    private static final long ENTRY_OVERHEAD_BYTES = 128L;
+    private static final int STAMP_STRIPES = 64;
+
+    private final MovieRecommendationRepository recommendationRepository;
+    private final long maxBytes;
+    private final long idleNanos;
+    private final int maxIdsPerMember;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 로딩 중에 발생한 추천 변경을 감지하기 위한 회원 해시별 변경 카운터
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder oversized = new LongAdder();
+    private final LongAdder idleEvictions = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+
+    public MemberRecommendationCache(
+            MovieRecommendationRepository recommendationRepository,
+            @Value("${movie.cache.recommendation.max-bytes:67108864}") long maxBytes,
+            @Value("${movie.cache.recommendation.idle-seconds:1800}") long idleSeconds,
+            @Value("${movie.cache.recommendation.max-ids-per-member:100000}") int maxIdsPerMember) {
+        this.recommendationRepository = recommendationRepository;
+        this.maxBytes = maxBytes;
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+        this.maxIdsPerMember = maxIdsPerMember;
+    }
+
+    /**
+     * Get the member's recommended movie IDs, loading them on a miss
+     * 회원의 추천 영화 ID 조회 (캐시에 없으면 DB에서 로딩)
+     *
+     * @param memberId 회원 ID
+     * @return 추천 영화 ID 집합, 회원의 추천 수가 캐시 한도를 넘으면 null
+     */
+    public RecommendedMovieIds get(String memberId) {
+        if (memberId == null) {
+            return RecommendedMovieIds.EMPTY;
+        }
+        Entry entry = entries.get(memberId);
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccessNanos = System.nanoTime();
+            return entry.ids;
+        }
+        misses.increment();
+        return load(memberId);
+    }
+
+    /**
+     * Apply a committed recommendation toggle to the cached entry
+     * 커밋된 추천 변경 사항을 캐시 항목에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        String memberId = event.getMemberId();
+        stamps.incrementAndGet(stripe(memberId));
+        entries.computeIfPresent(memberId, (key, entry) -> {
+            RecommendedMovieIds updated = event.isRecommended()
+                    ? entry.ids.with(event.getMovieId())
+                    : entry.ids.without(event.getMovieId());
+            if (updated.size() > maxIdsPerMember) {
+                usedBytes.addAndGet(-entry.bytes());
+                return null;
+            }
+            Entry replacement = new Entry(updated, entry.lastAccessNanos);
+            usedBytes.addAndGet(replacement.bytes() - entry.bytes());
+            return replacement;
+        });
+    }
+
+    /**
+     * Evict all members after a bulk import (imported members are not tracked individually)
+     * 대량 적재 이후 모든 캐시 항목 제거 (적재된 회원을 개별 추적하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationsImported(RecommendationsImportedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * Evict a single member
+     * 특정 회원의 캐시 항목 제거
+     */
+    public void invalidate(String memberId) {
+        stamps.incrementAndGet(stripe(memberId));
+        Entry removed = entries.remove(memberId);
+        if (removed != null) {
+            usedBytes.addAndGet(-removed.bytes());
+        }
+    }
+
+    /**
+     * Evict all members (e.g. after a bulk import)
+     * 모든 캐시 항목 제거 (대량 적재 이후 등)
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        for (String memberId : entries.keySet()) {
+            Entry removed = entries.remove(memberId);
+            if (removed != null) {
+                usedBytes.addAndGet(-removed.bytes());
+            }
+        }
+    }
+
+    /**
+     * Remove entries that have not been read within the idle period
+     * 유휴 시간 동안 조회되지 않은 항목 제거
+     */
+    @Scheduled(fixedDelayString = "${movie.cache.recommendation.sweep-interval-ms:60000}")
+    public void evictIdleEntries() {
+        long now = System.nanoTime();
+        entries.forEach((memberId, entry) -> {
+            if (now - entry.lastAccessNanos > idleNanos && entries.remove(memberId, entry)) {
+                usedBytes.addAndGet(-entry.bytes());
+                idleEvictions.increment();
+            }
+        });
+    }
+
+    @Override
+    public String getCacheName() {
+        return "memberRecommendations";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("oversizedMembers", oversized.sum());
+        stats.put("idleEvictions", idleEvictions.sum());
+        stats.put("sizeEvictions", sizeEvictions.sum());
+        stats.put("estimatedBytes", usedBytes.get());
+        stats.put("maxBytes", maxBytes);
+        return stats;
+    }
+
+    private RecommendedMovieIds load(String memberId) {
+        int stripe = stripe(memberId);
+        long stamp = stamps.get(stripe);
+
+        List<Long> movieIds = recommendationRepository.findMovieIdsByMemberId(memberId);
+        if (movieIds.size() > maxIdsPerMember) {
+            // 추천 수가 매우 많은 회원은 캐시하지 않고 페이지 단위 조회로 처리
+            oversized.increment();
+            return null;
+        }
+
+        RecommendedMovieIds ids = RecommendedMovieIds.of(movieIds);
+        if (stamps.get(stripe) != stamp) {
+            return ids;
+        }
+        Entry entry = new Entry(ids, System.nanoTime());
+        if (entries.putIfAbsent(memberId, entry) == null) {
+            usedBytes.addAndGet(entry.bytes());
+            // 로딩과 추천 변경이 겹친 경우 오래된 값이 남지 않도록 제거
+            if (stamps.get(stripe) != stamp && entries.remove(memberId, entry)) {
+                usedBytes.addAndGet(-entry.bytes());
+            }
+            evictIfOverBudget();
+        }
+        return ids;
+    }
+
+    private void evictIfOverBudget() {
+        if (usedBytes.get() <= maxBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            // 예산의 90%까지 오래 조회되지 않은 순서대로 제거
+            long target = maxBytes - maxBytes / 10;
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((memberId, entry) -> candidates.add(new Candidate(memberId, entry, entry.lastAccessNanos)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccessNanos));
+            for (Candidate candidate : candidates) {
+                if (usedBytes.get() <= target) {
+                    break;
+                }
+                if (entries.remove(candidate.memberId(), candidate.entry())) {
+                    usedBytes.addAndGet(-candidate.entry().bytes());
+                    sizeEvictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int stripe(String memberId) {
+        return memberId.hashCode() & (STAMP_STRIPES - 1);
+    }
+
+    private record Candidate(String memberId, Entry entry, long lastAccessNanos) {
+    }
+
+    private static final class Entry {
+        private final RecommendedMovieIds ids;
+        private volatile long lastAccessNanos;
+
+        private Entry(RecommendedMovieIds ids, long lastAccessNanos) {
+            this.ids = ids;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+
+        private long bytes() {
+            return ENTRY_OVERHEAD_BYTES + ids.estimatedBytes();
+        }
+    }
+}
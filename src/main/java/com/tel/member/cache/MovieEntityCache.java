@@ -0,0 +1,281 @@
+package com.tel.member.cache;
+
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.event.RecommendationToggledEvent;
+import com.tel.member.event.RecommendationsImportedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of MovieEntity snapshots keyed by movie ID
+ * 영화 ID 기준 MovieEntity 스냅샷 읽기 캐시
+ *
+ * <p>Size bounded. When full, a new movie is admitted only if its estimated access frequency
+ * ({@link FrequencySketch}) is higher than the oldest cached movie's, so a scan of cold IDs
+ * cannot flush popular titles. Snapshots are copied in and out so callers never share a
+ * mutable entity. Recommendation toggles update the cached count after commit.</p>
+ */
+@Component
+public class MovieEntityCache implements CacheStatsProvider {
+
+    private static final int STAMP_STRIPES = 64;
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Long, MovieEntity> snapshots = new ConcurrentHashMap<>();
+    // 진입 순서 (퇴출 후보 선정용), lock 으로 보호
+    private final ArrayDeque<Long> insertionOrder = new ArrayDeque<>();
+    private final FrequencySketch sketch;
+    // 로딩 중 변경 감지용 영화 ID 해시별 변경 카운터
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    // synchronized 대신 ReentrantLock: 가상 스레드 모드에서 캐리어 스레드를 고정(pinning)하지 않음
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MovieEntityCache(@Value("${movie.cache.entity.max-size:10000}") int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Get a movie snapshot, loading it through the loader on a miss
+     * 영화 스냅샷 조회 (캐시에 없으면 loader 로 로딩 후 캐시)
+     *
+     * @param movieId 영화 ID
+     * @param loader DB 조회 함수
+     * @return 영화 엔티티 복사본
+     */
+    public Optional<MovieEntity> get(Long movieId, Function<Long, Optional<MovieEntity>> loader) {
+        sketch.increment(movieId);
+        MovieEntity cached = snapshots.get(movieId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(copyOf(cached));
+        }
+        misses.increment();
+
+        int stripe = stripe(movieId);
+        long stamp = stamps.get(stripe);
+        Optional<MovieEntity> loaded = loader.apply(movieId);
+        loaded.ifPresent(movie -> {
+            if (stamps.get(stripe) == stamp) {
+                admit(copyOf(movie));
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Get a cached snapshot without loading
+     * 로딩 없이 캐시된 스냅샷만 조회
+     *
+     * @param movieId 영화 ID
+     * @return 영화 엔티티 복사본, 없으면 null
+     */
+    public MovieEntity getIfPresent(Long movieId) {
+        sketch.increment(movieId);
+        MovieEntity cached = snapshots.get(movieId);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copyOf(cached);
+    }
+
+    /**
+     * Get several movie snapshots, loading all misses with one loader call
+     * 여러 영화 스냅샷 조회 (캐시에 없는 영화는 loader 한 번으로 일괄 로딩)
+     *
+     * @param movieIds 영화 ID 목록
+     * @param loader ID 목록으로 영화를 일괄 조회하는 함수
+     * @return 영화 ID별 엔티티 복사본 (존재하지 않는 영화는 제외)
+     */
+    public Map<Long, MovieEntity> getAll(Collection<Long> movieIds, Function<List<Long>, List<MovieEntity>> loader) {
+        Map<Long, MovieEntity> movies = new HashMap<>(movieIds.size() * 2);
+        List<Long> missingIds = new ArrayList<>();
+        for (Long movieId : movieIds) {
+            sketch.increment(movieId);
+            MovieEntity cached = snapshots.get(movieId);
+            if (cached != null) {
+                hits.increment();
+                movies.put(movieId, copyOf(cached));
+            } else {
+                misses.increment();
+                missingIds.add(movieId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return movies;
+        }
+
+        long[] stampsBefore = new long[STAMP_STRIPES];
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            stampsBefore[i] = stamps.get(i);
+        }
+        for (MovieEntity movie : loader.apply(missingIds)) {
+            int stripe = stripe(movie.getId());
+            if (stamps.get(stripe) == stampsBefore[stripe]) {
+                admit(copyOf(movie));
+            }
+            movies.put(movie.getId(), movie);
+        }
+        return movies;
+    }
+
+    /**
+     * Update the cached recommendation count after a committed toggle
+     * 커밋된 추천 변경에 맞춰 캐시된 추천 수 갱신
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        if (!event.isCountPersisted()) {
+            // write-behind 모드: 스냅샷은 DB 추천 수 기준으로 유지 (반영 시 무효화됨)
+            return;
+        }
+        Long movieId = event.getMovieId();
+        stamps.incrementAndGet(stripe(movieId));
+        snapshots.computeIfPresent(movieId, (id, movie) -> {
+            MovieEntity updated = copyOf(movie);
+            updated.setRecommendationCount(event.getRecommendationCount());
+            return updated;
+        });
+    }
+
+    /**
+     * Drop movies whose recommendation count was recomputed by a bulk import
+     * 대량 적재로 추천 수가 재계산된 영화 캐시 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationsImported(RecommendationsImportedEvent event) {
+        if (event.getMovieIds().size() >= maximumSize) {
+            invalidateAll();
+        } else {
+            event.getMovieIds().forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Remove a single movie
+     * 특정 영화 캐시 제거
+     */
+    public void invalidate(Long movieId) {
+        stamps.incrementAndGet(stripe(movieId));
+        lock.lock();
+        try {
+            if (snapshots.remove(movieId) != null) {
+                insertionOrder.remove(movieId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all movies (e.g. after a bulk import)
+     * 모든 영화 캐시 제거 (대량 적재 이후 등)
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < STAMP_STRIPES; i++) {
+            stamps.incrementAndGet(i);
+        }
+        lock.lock();
+        try {
+            snapshots.clear();
+            insertionOrder.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return "movieEntities";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", snapshots.size());
+        stats.put("maximumSize", maximumSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", requests == 0 ? 0.0 : (double) hitCount / requests);
+        stats.put("admissions", admissions.sum());
+        stats.put("rejections", rejections.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    private void admit(MovieEntity movie) {
+        Long movieId = movie.getId();
+        lock.lock();
+        try {
+            if (snapshots.containsKey(movieId)) {
+                snapshots.put(movieId, movie);
+                return;
+            }
+            if (snapshots.size() >= maximumSize) {
+                Long victimId = insertionOrder.peekFirst();
+                if (victimId != null && sketch.frequency(movieId) <= sketch.frequency(victimId)) {
+                    // 후보가 더 자주 쓰이지 않으면 거절, 퇴출 후보는 뒤로 보내 다음 비교 대상을 바꿈
+                    insertionOrder.addLast(insertionOrder.pollFirst());
+                    rejections.increment();
+                    return;
+                }
+                if (victimId != null) {
+                    insertionOrder.pollFirst();
+                    snapshots.remove(victimId);
+                    evictions.increment();
+                }
+            }
+            snapshots.put(movieId, movie);
+            insertionOrder.addLast(movieId);
+            admissions.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripe(Long movieId) {
+        return Long.hashCode(movieId) & (STAMP_STRIPES - 1);
+    }
+
+    private static MovieEntity copyOf(MovieEntity movie) {
+        return MovieEntity.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .genre(movie.getGenre())
+                .releaseDate(movie.getReleaseDate())
+                .releasedOn(movie.getReleasedOn())
+                .releaseYear(movie.getReleaseYear())
+                .description(movie.getDescription())
+                .posterUrl(movie.getPosterUrl())
+                .recommendationCount(movie.getRecommendationCount())
+                .createdAt(movie.getCreatedAt())
+                .updatedAt(movie.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,332 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.repository.MovieRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory n-gram inverted index over movie title and genre
+ * 영화 제목/장르 대상 인메모리 n-gram 역색인
+ *
+ * <p>Replaces {@code LOWER(title) LIKE '%keyword%' OR LOWER(genre) LIKE '%keyword%'}, which
+ * cannot use an index. Every character (unigram) and every pair of adjacent characters
+ * (bigram) of the folded title and genre is mapped to a sorted list of movie IDs. A Hangul
+ * syllable is one character, so one-syllable Korean keywords are served by the unigram lists.
+ * Candidates from the bigram intersection are verified with a substring check. Seeded at
+ * startup and updated by committed new movies.</p>
+ * <p>Folding approximates MySQL's {@code utf8mb4_0900_ai_ci} comparison: compatibility forms
+ * (full-width letters), accents and case are ignored and {@code ß} matches {@code ss}. It is
+ * not the full collation (contractions, ignorable characters and other expansions differ), and
+ * {@code %} / {@code _} are plain characters here while the LIKE fallback escapes them too, so
+ * index and database results agree for ordinary keywords but may differ for exotic text.</p>
+ */
+@Component
+@Slf4j
+public class MovieSearchIndex implements CacheStatsProvider {
+
+    private static final long BIGRAM_FLAG = 1L << 32;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{Mn}+");
+
+    private final MovieRepository movieRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, PostingList> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    // 재구성 중 도착한 신규 영화 (구성 완료 후 다시 반영)
+    private final List<Document> changesDuringRebuild = new ArrayList<>();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder candidates = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public MovieSearchIndex(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    /**
+     * Build the index from the database at startup
+     * 애플리케이션 시작 시 DB에서 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("Failed to build movie search index, falling back to database queries", e);
+        }
+    }
+
+    /**
+     * IDs of movies whose title or genre contains the keyword (case-insensitive)
+     * 제목 또는 장르에 키워드가 포함된 영화 ID 조회 (대소문자 무시)
+     *
+     * @param keyword 검색 키워드
+     * @return ID 오름차순 영화 ID 배열, 색인이 아직 준비되지 않았으면 null
+     */
+    public long[] search(String keyword) {
+        if (!ready) {
+            return null;
+        }
+        searches.increment();
+        String normalized = normalize(keyword);
+        lock.readLock().lock();
+        try {
+            long[] result;
+            if (normalized.isEmpty()) {
+                result = documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            } else if (normalized.length() == 1) {
+                PostingList posting = postings.get(unigram(normalized.charAt(0)));
+                result = posting == null ? new long[0] : posting.toArray();
+            } else {
+                result = searchBigrams(normalized);
+            }
+            matches.add(result.length);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add a committed new movie
+     * 커밋된 신규 영화 색인
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCreated(MovieCreatedEvent event) {
+        Document document = new Document(event.getMovieId(), normalize(event.getTitle()), normalize(event.getGenre()));
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changesDuringRebuild.add(document);
+            }
+            add(postings, documents, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the whole index from the database
+     * DB에서 색인 전체 재구성
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, PostingList> loadedPostings = new HashMap<>();
+        Map<Long, Document> loadedDocuments = new HashMap<>();
+        try {
+            for (Object[] row : movieRepository.findSearchDocuments()) {
+                add(loadedPostings, loadedDocuments,
+                        new Document((Long) row[0], normalize((String) row[1]), normalize((String) row[2])));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Document change : changesDuringRebuild) {
+                add(loadedPostings, loadedDocuments, change);
+            }
+            changesDuringRebuild.clear();
+            postings = loadedPostings;
+            documents = loadedDocuments;
+            rebuilding = false;
+            ready = true;
+            rebuilds.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Movie search index built with {} movies and {} n-grams", loadedDocuments.size(), loadedPostings.size());
+    }
+
+    @Override
+    public String getCacheName() {
+        return "movieSearchIndex";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("movies", documents.size());
+            stats.put("ngrams", postings.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("ready", ready);
+        stats.put("searches", searches.sum());
+        stats.put("candidates", candidates.sum());
+        stats.put("matches", matches.sum());
+        stats.put("rebuilds", rebuilds.sum());
+        return stats;
+    }
+
+    // read lock 보유 상태에서 호출
+    private long[] searchBigrams(String keyword) {
+        List<PostingList> lists = new ArrayList<>(keyword.length() - 1);
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            PostingList posting = postings.get(bigram(keyword.charAt(i), keyword.charAt(i + 1)));
+            if (posting == null) {
+                return new long[0];
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        long[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).retainAll(result);
+        }
+        candidates.add(result.length);
+
+        // 제목/장르 경계를 넘거나 순서가 다른 bigram 조합을 걸러내기 위해 실제 포함 여부 확인
+        int size = 0;
+        for (long movieId : result) {
+            Document document = documents.get(movieId);
+            if (document != null && document.contains(keyword)) {
+                result[size++] = movieId;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void add(Map<Long, PostingList> postings, Map<Long, Document> documents, Document document) {
+        if (documents.put(document.movieId(), document) != null) {
+            // 이미 색인된 영화 (재구성과 이벤트가 겹친 경우)
+            return;
+        }
+        addField(postings, document.movieId(), document.title());
+        addField(postings, document.movieId(), document.genre());
+    }
+
+    private static void addField(Map<Long, PostingList> postings, long movieId, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            postings.computeIfAbsent(unigram(text.charAt(i)), key -> new PostingList()).add(movieId);
+            if (i + 1 < text.length()) {
+                postings.computeIfAbsent(bigram(text.charAt(i), text.charAt(i + 1)), key -> new PostingList()).add(movieId);
+            }
+        }
+    }
+
+    private static long unigram(char c) {
+        return c;
+    }
+
+    private static long bigram(char first, char second) {
+        return BIGRAM_FLAG | ((long) first << 16) | second;
+    }
+
+    /**
+     * Fold text for indexing and searching (compatibility forms, accents and case ignored)
+     * 색인/검색용 문자열 정규화 (호환 문자 분해 후 결합 부호 제거, 한글 자모는 음절로 다시 결합, 소문자 변환)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String unaccented = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(unaccented, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).replace("ß", "ss");
+    }
+
+    private record Document(long movieId, String title, String genre) {
+
+        boolean contains(String keyword) {
+            return title.contains(keyword) || genre.contains(keyword);
+        }
+    }
+
+    /**
+     * Growable sorted list of movie IDs (write lock required for add)
+     * 정렬된 영화 ID 가변 배열 (add 는 write lock 필요)
+     */
+    private static final class PostingList {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(long movieId) {
+            if (size > 0 && ids[size - 1] == movieId) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            if (size == 0 || ids[size - 1] < movieId) {
+                // 신규 영화는 대부분 가장 큰 ID 이므로 뒤에 추가
+                ids[size++] = movieId;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, movieId);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = movieId;
+            size++;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        long[] retainAll(long[] sortedIds) {
+            long[] retained = new long[Math.min(size, sortedIds.length)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < sortedIds.length) {
+                if (ids[i] == sortedIds[j]) {
+                    retained[count++] = ids[i];
+                    i++;
+                    j++;
+                } else if (ids[i] < sortedIds[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(retained, count);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.event.RecommendationToggledEvent;
+import com.tel.member.event.RecommendationsImportedEvent;
+import com.tel.member.repository.MovieRepository;
+import com.tel.member.service.RecommendationCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory top-K window of movies ordered by recommendation count
+ * 추천 수 기준 상위 K개 영화 순위표 (인메모리)
+ *
+ * <p>Same order as {@link MovieRepository#findTopMoviesByRecommendationCount(Pageable)}:
+ * recommendation count descending, then created at descending (ID descending as the last
+ * tie breaker). Only the top {@code movie.leaderboard.capacity} movies are kept, so memory
+ * does not grow with the catalog. Seeded at startup, updated in O(log K) by committed toggles
+ * and new movies, and periodically re-verified against the database. Every movie outside the
+ * window ranks at or below the last one inside: an outside movie enters only when it overtakes
+ * that last movie (evicting it when the window is full), and a movie that falls to the end of
+ * the window is dropped, since an outside movie might rank above it. When drops leave fewer
+ * than {@code movie.leaderboard.refill-threshold} movies the window is reloaded from the
+ * database; requests for more movies than the window holds are answered by the database.
+ * Counts read from the database include the write-behind delta not yet flushed, the same
+ * count the toggle events carry.</p>
+ */
+@Component
+@Slf4j
+public class RecommendationLeaderboard implements CacheStatsProvider {
+
+    private static final Comparator<Rank> ORDER = Comparator.comparingInt(Rank::count).reversed()
+            .thenComparing(Rank::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(Comparator.comparingLong(Rank::movieId).reversed());
+
+    private final MovieRepository movieRepository;
+    private final RecommendationCounterService recommendationCounter;
+    private final int verifySize;
+    private final int capacity;
+    private final int refillThreshold;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TreeSet<Rank> ranking = new TreeSet<>(ORDER);
+    private Map<Long, Rank> ranksById = new HashMap<>();
+    // 재적재 중 도착한 변경 사항 (적재 완료 후 다시 반영)
+    private final List<Rank> changesDuringReload = new ArrayList<>();
+    private boolean reloading;
+    // 창 밖에 영화가 없음 (전체 영화 수가 창 크기 이하)
+    private boolean complete;
+    private volatile boolean ready;
+
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    public RecommendationLeaderboard(
+            MovieRepository movieRepository,
+            RecommendationCounterService recommendationCounter,
+            @Value("${movie.leaderboard.verify-size:100}") int verifySize,
+            @Value("${movie.leaderboard.capacity:1000}") int capacity,
+            @Value("${movie.leaderboard.refill-threshold:500}") int refillThreshold) {
+        this.movieRepository = movieRepository;
+        this.recommendationCounter = recommendationCounter;
+        this.verifySize = verifySize;
+        this.capacity = capacity;
+        this.refillThreshold = refillThreshold;
+    }
+
+    /**
+     * Seed the leaderboard from the database at startup
+     * 애플리케이션 시작 시 DB에서 순위표 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Failed to seed recommendation leaderboard, falling back to database queries", e);
+        }
+    }
+
+    /**
+     * Top movie IDs in leaderboard order
+     * 상위 영화 ID 목록 조회
+     *
+     * @param limit 조회할 영화 수
+     * @return 영화 ID 목록, 아직 적재되지 않았거나 순위표 범위를 넘으면 null
+     */
+    public List<Long> topMovieIds(int limit) {
+        if (!ready) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            if (limit > ranking.size() && !complete) {
+                // 창보다 많은 순위는 DB에서 조회
+                return null;
+            }
+            List<Long> movieIds = new ArrayList<>(Math.min(limit, ranking.size()));
+            Iterator<Rank> iterator = ranking.iterator();
+            while (iterator.hasNext() && movieIds.size() < limit) {
+                movieIds.add(iterator.next().movieId());
+            }
+            return movieIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed recommendation toggle
+     * 커밋된 추천 변경 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationToggled(RecommendationToggledEvent event) {
+        lock.writeLock().lock();
+        try {
+            Rank current = ranksById.get(event.getMovieId());
+            // 창 밖 영화의 등록일은 모르므로 같은 추천 수 안에서는 뒤로 정렬됨 (검증에서 순서는 비교하지 않음)
+            LocalDateTime createdAt = current == null ? null : current.createdAt();
+            apply(new Rank(event.getMovieId(), event.getRecommendationCount(), createdAt));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refillIfNeeded();
+    }
+
+    /**
+     * Add a committed new movie
+     * 커밋된 신규 영화 추가
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMovieCreated(MovieCreatedEvent event) {
+        int count = event.getRecommendationCount() == null ? 0 : event.getRecommendationCount();
+        lock.writeLock().lock();
+        try {
+            apply(new Rank(event.getMovieId(), count, event.getCreatedAt()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reload after a bulk import recomputed recommendation counts
+     * 대량 적재로 추천 수가 재계산된 뒤 순위표 재적재
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecommendationsImported(RecommendationsImportedEvent event) {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("Failed to reload recommendation leaderboard after import, next verification retries", e);
+        }
+    }
+
+    /**
+     * Compare the top of the leaderboard with the database and reload on drift
+     * 순위표 상위 구간을 DB와 비교하고 차이가 있으면 재적재
+     */
+    @Scheduled(initialDelayString = "${movie.leaderboard.verify-interval-ms:300000}",
+            fixedDelayString = "${movie.leaderboard.verify-interval-ms:300000}")
+    public void verify() {
+        if (!ready) {
+            seed();
+            return;
+        }
+        List<Rank> expected = toRanks(movieRepository.findRankings(PageRequest.of(0, Math.min(verifySize, capacity))));
+        // DB 는 반영된 추천 수 기준으로 정렬하므로 대기 변경량을 더한 뒤 다시 정렬
+        expected.sort(ORDER);
+        lock.readLock().lock();
+        boolean consistent;
+        try {
+            consistent = matches(expected);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!consistent) {
+            mismatches.increment();
+            log.warn("Recommendation leaderboard drifted from database, reloading");
+            reload();
+        }
+    }
+
+    /**
+     * Rebuild the top-K window from the database
+     * DB에서 상위 K개 순위표 재구성
+     */
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+            changesDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        TreeSet<Rank> loadedRanking = new TreeSet<>(ORDER);
+        Map<Long, Rank> loadedById = new HashMap<>();
+        boolean loadedAll;
+        try {
+            List<Rank> loaded = toRanks(movieRepository.findRankings(PageRequest.of(0, capacity)));
+            loadedAll = loaded.size() < capacity;
+            for (Rank rank : loaded) {
+                loadedRanking.add(rank);
+                loadedById.put(rank.movieId(), rank);
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                reloading = false;
+                changesDuringReload.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ranking = loadedRanking;
+            ranksById = loadedById;
+            complete = loadedAll;
+            reloading = false;
+            for (Rank change : changesDuringReload) {
+                Rank current = ranksById.get(change.movieId());
+                LocalDateTime createdAt = change.createdAt() != null || current == null ? change.createdAt() : current.createdAt();
+                apply(new Rank(change.movieId(), change.count(), createdAt));
+            }
+            changesDuringReload.clear();
+            ready = true;
+            reloads.increment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Recommendation leaderboard loaded with {} movies (capacity {})", loadedById.size(), capacity);
+    }
+
+    /**
+     * Reload once drops left the window below the refill threshold
+     * 창 끝에서 빠진 영화로 순위표가 기준 크기보다 작아지면 DB에서 다시 채움
+     */
+    private void refillIfNeeded() {
+        boolean refill;
+        lock.readLock().lock();
+        try {
+            refill = ready && !complete && !reloading && ranking.size() < refillThreshold;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (refill) {
+            try {
+                reload();
+            } catch (RuntimeException e) {
+                log.error("Failed to refill recommendation leaderboard, next verification retries", e);
+            }
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return "recommendationLeaderboard";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("size", ranksById.size());
+            stats.put("complete", complete);
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("capacity", capacity);
+        stats.put("ready", ready);
+        stats.put("updates", updates.sum());
+        stats.put("reloads", reloads.sum());
+        stats.put("mismatches", mismatches.sum());
+        return stats;
+    }
+
+    // write lock 보유 상태에서 호출
+    private void apply(Rank rank) {
+        if (reloading) {
+            changesDuringReload.add(rank);
+        }
+        Rank previous = ranksById.remove(rank.movieId());
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        if (!complete) {
+            boolean last = ranking.isEmpty() || ORDER.compare(rank, ranking.last()) > 0;
+            if (previous == null && last) {
+                // 창 밖 영화가 창의 마지막 영화를 앞서지 못함
+                return;
+            }
+            if (previous != null && last && ORDER.compare(rank, previous) > 0) {
+                // 순위가 내려가 창 끝에 오면 창 밖 영화보다 앞서는지 알 수 없으므로 제외
+                updates.increment();
+                return;
+            }
+        }
+        ranksById.put(rank.movieId(), rank);
+        ranking.add(rank);
+        if (ranking.size() > capacity) {
+            Rank evicted = ranking.pollLast();
+            ranksById.remove(evicted.movieId());
+            complete = false;
+        }
+        updates.increment();
+    }
+
+    // read lock 보유 상태에서 호출
+    private boolean matches(List<Rank> expected) {
+        Iterator<Rank> actual = ranking.iterator();
+        for (Rank expectedRank : expected) {
+            if (!actual.hasNext()) {
+                return false;
+            }
+            Rank actualRank = actual.next();
+            Rank cachedRank = ranksById.get(expectedRank.movieId());
+            // 추천 수와 등록일이 같은 영화의 순서는 DB에서도 정해지지 않으므로 정렬 키와 영화별 추천 수만 비교
+            if (actualRank.count() != expectedRank.count()
+                    || cachedRank == null
+                    || cachedRank.count() != expectedRank.count()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Rank> toRanks(List<Object[]> rows) {
+        List<Rank> ranks = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long movieId = (Long) row[0];
+            int count = recommendationCounter.effectiveCount(movieId, (Integer) row[1]);
+            ranks.add(new Rank(movieId, count, (LocalDateTime) row[2]));
+        }
+        return ranks;
+    }
+
+    private record Rank(long movieId, int count, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.tel.member.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of movie IDs recommended by one member, stored as a sorted long array
+ * 회원 한 명이 추천한 영화 ID 집합 (정렬된 long 배열로 저장되는 불변 객체)
+ */
+public final class RecommendedMovieIds {
+
+    public static final RecommendedMovieIds EMPTY = new RecommendedMovieIds(new long[0]);
+
+    /** Object header + array header, rough JVM estimate */
+    private static final long BASE_BYTES = 32L;
+
+    private final long[] sortedIds;
+
+    private RecommendedMovieIds(long[] sortedIds) {
+        this.sortedIds = sortedIds;
+    }
+
+    /**
+     * Create from a collection of movie IDs
+     * 영화 ID 컬렉션으로부터 생성
+     */
+    public static RecommendedMovieIds of(Collection<Long> movieIds) {
+        if (movieIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = movieIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new RecommendedMovieIds(ids);
+    }
+
+    /**
+     * Check membership with a binary search
+     * 이진 탐색으로 추천 여부 확인
+     */
+    public boolean contains(long movieId) {
+        return Arrays.binarySearch(sortedIds, movieId) >= 0;
+    }
+
+    public int size() {
+        return sortedIds.length;
+    }
+
+    /**
+     * Estimated heap footprint in bytes
+     * 예상 힙 사용량 (바이트)
+     */
+    public long estimatedBytes() {
+        return BASE_BYTES + 8L * sortedIds.length;
+    }
+
+    /**
+     * Copy with the movie ID added
+     * 영화 ID가 추가된 복사본 반환
+     */
+    public RecommendedMovieIds with(long movieId) {
+        int index = Arrays.binarySearch(sortedIds, movieId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] ids = new long[sortedIds.length + 1];
+        System.arraycopy(sortedIds, 0, ids, 0, insertAt);
+        ids[insertAt] = movieId;
+        System.arraycopy(sortedIds, insertAt, ids, insertAt + 1, sortedIds.length - insertAt);
+        return new RecommendedMovieIds(ids);
+    }
+
+    /**
+     * Copy with the movie ID removed
+     * 영화 ID가 제거된 복사본 반환
+     */
+    public RecommendedMovieIds without(long movieId) {
+        int index = Arrays.binarySearch(sortedIds, movieId);
+        if (index < 0) {
+            return this;
+        }
+        if (sortedIds.length == 1) {
+            return EMPTY;
+        }
+        long[] ids = new long[sortedIds.length - 1];
+        System.arraycopy(sortedIds, 0, ids, 0, index);
+        System.arraycopy(sortedIds, index + 1, ids, index, sortedIds.length - index - 1);
+        return new RecommendedMovieIds(ids);
+    }
+}
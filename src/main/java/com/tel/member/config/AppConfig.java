@@ -1,15 +1,11 @@
 package com.tel.member.config;
 
 
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+// BCrypt 인코더는 PasswordHashingService 가 전용 스레드 풀과 함께 관리
 @Configuration
+@EnableScheduling   // 캐시 정리 등 주기 작업 활성화
 public class AppConfig {
-
-    @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
@@ -0,0 +1,61 @@
+package com.tel.member.config;
+
+import com.tel.member.service.DatasetGeneratorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * CLI mode that bulk-loads a synthetic dataset and exits
+ * 합성 데이터셋을 대량 적재하고 종료하는 CLI 모드
+ *
+ * <p>Enabled with {@code --member.dataset.generate=true} (see the {@code generateDataset}
+ * Gradle task). The runner exits the JVM itself once the load is done: runners are called
+ * before {@code ApplicationReadyEvent}, so the startup warm-ups (search index, leaderboard,
+ * backfill) never run against the freshly loaded tables. Volumes and distribution come from
+ * the {@code member.dataset.*} properties below.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "member.dataset.generate", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private final DatasetGeneratorService datasetGeneratorService;
+    private final ApplicationContext applicationContext;
+
+    @Value("${member.dataset.movies:100000}")
+    private long movies;
+
+    @Value("${member.dataset.members:10000}")
+    private long members;
+
+    @Value("${member.dataset.recommendations:1000000}")
+    private long recommendations;
+
+    @Value("${member.dataset.zipf-exponent:1.0}")
+    private double zipfExponent;
+
+    @Value("${member.dataset.seed:42}")
+    private long seed;
+
+    @Value("${member.dataset.member-id-prefix:gen}")
+    private String memberIdPrefix;
+
+    @Value("${member.dataset.password:password1234}")
+    private String password;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        datasetGeneratorService.generate(new DatasetGeneratorService.Spec(
+                movies, members, recommendations, zipfExponent, seed, memberIdPrefix, password));
+        // 준비 완료 이벤트(색인/순위표 적재, 백필) 전에 종료
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,90 @@
+package com.tel.member.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the emulated ID sequences past IDs issued by the former AUTO_INCREMENT columns
+ * 기존 AUTO_INCREMENT 로 발급된 ID 이후부터 시퀀스가 ID를 발급하도록 맞추는 컴포넌트
+ *
+ * <p>MySQL has no sequences, so Hibernate keeps each pooled sequence in a one-row table
+ * ({@code next_val}) that starts at 1 when first created. Runs once all singletons are
+ * created, before the web server accepts requests and before any ID block is fetched.
+ * Databases with native sequences are created together with their tables and need no
+ * alignment at startup, only after rows are inserted with explicit IDs
+ * ({@link #alignAfterBulkLoad()}).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 동일
+    private static final long ALLOCATION_SIZE = 50;
+
+    // 시퀀스 테이블 -> ID를 사용하는 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "movies_seq", "movies",
+            "movie_recommendations_seq", "movie_recommendations",
+            "movie_genres_seq", "movie_genres");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (!isMySql()) {
+                return;
+            }
+            SEQUENCES.forEach(this::align);
+        } catch (RuntimeException e) {
+            log.error("Failed to align ID sequences with existing rows", e);
+        }
+    }
+
+    /**
+     * Move every sequence past rows inserted with explicit IDs (bulk loads bypassing Hibernate)
+     * 명시적 ID로 대량 적재한 행 이후부터 ID를 발급하도록 모든 시퀀스 조정
+     */
+    public void alignAfterBulkLoad() {
+        boolean mySql = isMySql();
+        SEQUENCES.forEach((sequence, table) -> {
+            if (mySql) {
+                align(sequence, table);
+            } else {
+                restart(sequence, table);
+            }
+        });
+    }
+
+    private boolean isMySql() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(database);
+    }
+
+    private void align(String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        // pooled 옵티마이저는 next_val 이전 블록을 사용할 수 있으므로 한 블록만큼 여유를 둠
+        long nextValue = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update(
+                "UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+        if (updated > 0) {
+            log.info("Aligned sequence {} to {} (max {}.id = {})", sequence, nextValue, table, maxId);
+        }
+    }
+
+    // 네이티브 시퀀스 (H2 등)
+    private void restart(String sequence, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long nextValue = (maxId == null ? 0 : maxId) + ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + nextValue);
+        log.info("Restarted sequence {} at {} (max {}.id = {})", sequence, nextValue, table, maxId);
+    }
+}
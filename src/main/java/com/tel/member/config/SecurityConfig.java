@@ -1,11 +1,21 @@
 package com.tel.member.config;
 
+import com.tel.member.security.LoginContext;
+import com.tel.member.security.TokenAuthenticationFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -14,20 +24,55 @@ import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
+@Slf4j
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, LoginContext loginContext) throws Exception {
         http
                 .csrf().disable()  // 개발 시 임시 비활성화 (프로덕션은 별도 CSRF 설정 필요)
                 .cors().and()
                 .authorizeHttpRequests(authorize -> authorize
-                        .anyRequest().permitAll()  // 모든 요청 인증 없이 허용
-                );
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")  // 운영용 API 는 관리자 계정만 허용
+                        .anyRequest().permitAll()  // 그 외 요청은 인증 없이 허용
+                )
+                .httpBasic(Customizer.withDefaults());  // 관리자 인증 (인증 실패 시 401)
+
+        if (loginContext.isStateless()) {
+            // 토큰 모드: 세션을 만들지 않고 요청마다 서명 토큰으로 인증
+            http
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .addFilterBefore(new TokenAuthenticationFilter(loginContext), UsernamePasswordAuthenticationFilter.class);
+        }
 
         return http.build();
     }
 
+    /**
+     * Admin account for /api/admin/** (HTTP Basic)
+     * 운영용 API 관리자 계정 (HTTP Basic)
+     *
+     * <p>{@code member.admin.password} may be plain text (hashed at startup) or already encoded
+     * with an id prefix such as {@code {bcrypt}...}. Without a password no admin account
+     * exists and every admin request is rejected.</p>
+     */
+    @Bean
+    public UserDetailsService adminUserDetailsService(
+            @Value("${member.admin.username:admin}") String username,
+            @Value("${member.admin.password:}") String password) {
+        if (password.isBlank()) {
+            log.warn("member.admin.password is not set, /api/admin endpoints are disabled");
+            return new InMemoryUserDetailsManager();
+        }
+        String encoded = password.startsWith("{")
+                ? password
+                : PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(password);
+        return new InMemoryUserDetailsManager(User.withUsername(username)
+                .password(encoded)
+                .roles("ADMIN")
+                .build());
+    }
+
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
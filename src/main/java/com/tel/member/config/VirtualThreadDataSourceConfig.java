@@ -0,0 +1,44 @@
+package com.tel.member.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Shorter Hikari connection wait in virtual-thread mode
+ * 가상 스레드 모드에서 Hikari 커넥션 대기 시간 단축
+ *
+ * <p>With platform threads the Tomcat worker pool already bounds how many requests wait for a
+ * connection, so the Hikari default (30 s) stays. With virtual threads
+ * ({@code spring.threads.virtual.enabled=true}) every request can queue on the pool, which then
+ * should fail fast instead: the connection timeout becomes
+ * {@code member.datasource.virtual-threads.connection-timeout} (default 3000 ms) unless
+ * {@code spring.datasource.hikari.connection-timeout} is set explicitly.</p>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor virtualThreadConnectionTimeout(Environment environment) {
+        long timeout = environment.getProperty(
+                "member.datasource.virtual-threads.connection-timeout", Long.class, 3000L);
+        boolean explicit = environment.containsProperty("spring.datasource.hikari.connection-timeout");
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!explicit && bean instanceof HikariDataSource dataSource) {
+                    dataSource.setConnectionTimeout(timeout);
+                    log.info("Hikari connection timeout set to {} ms for virtual threads", timeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,144 @@
+package com.tel.member.controller;
+
+import com.tel.member.cache.CacheStatsProvider;
+import com.tel.member.dto.RecommendationImportStatusDto;
+import com.tel.member.metrics.MetricsRegistry;
+import com.tel.member.service.MemberExportService;
+import com.tel.member.service.MovieImportService;
+import com.tel.member.service.RecommendationImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * REST Controller for operational endpoints
+ * 운영용 관리 REST 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final List<CacheStatsProvider> caches;
+    private final RecommendationImportService recommendationImportService;
+    private final MovieImportService movieImportService;
+    private final MemberExportService memberExportService;
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Get statistics of all in-memory caches
+     * 모든 인메모리 캐시의 통계 조회
+     *
+     * @return 캐시 이름별 통계
+     */
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        for (CacheStatsProvider cache : caches) {
+            stats.put(cache.getCacheName(), cache.getStats());
+        }
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Latency histograms and error counts in the Prometheus text format
+     * 지연 시간 히스토그램과 예외 수를 Prometheus 텍스트 형식으로 조회
+     *
+     * @return 메서드별 p50 / p90 / p99 / p999, 호출 수, 예외 수
+     */
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public ResponseEntity<String> getMetrics() {
+        return ResponseEntity.ok(metricsRegistry.scrape());
+    }
+
+    /**
+     * Start a background import of historical recommendations sent in the request body
+     * 요청 본문으로 받은 과거 추천 이력의 백그라운드 적재 시작
+     *
+     * <p>Responds with 202 once the body is received; progress and the result are read from
+     * {@code GET /api/admin/recommendations/import}.</p>
+     *
+     * @param format csv 또는 ndjson (생략 시 Content-Type 으로 판단, 기본 csv)
+     * @param request HTTP 요청 (본문을 직접 스트리밍)
+     * @return 시작 시점의 적재 상태
+     */
+    @PostMapping("/recommendations/import")
+    public ResponseEntity<RecommendationImportStatusDto> importRecommendations(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) throws IOException {
+        String resolvedFormat = format != null ? format : formatOf(request.getContentType());
+        log.info("Recommendation import requested: format={}, contentLength={}", resolvedFormat, request.getContentLengthLong());
+        return ResponseEntity.accepted().body(recommendationImportService.startImport(request.getInputStream(), resolvedFormat));
+    }
+
+    /**
+     * Progress of the running recommendation import (or the result of the last one)
+     * 진행 중인 추천 적재의 진행 상황 조회 (없으면 마지막 적재 결과)
+     *
+     * @return 적재 상태, 적재 이력이 없으면 204
+     */
+    @GetMapping("/recommendations/import")
+    public ResponseEntity<RecommendationImportStatusDto> getRecommendationImportStatus() {
+        RecommendationImportStatusDto status = recommendationImportService.getStatus();
+        return status == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(status);
+    }
+
+    /**
+     * Import movies streamed in the request body (JSON array or CSV with a header)
+     * 요청 본문으로 스트리밍되는 영화 목록 적재 (JSON 배열 또는 헤더가 있는 CSV)
+     *
+     * <p>Responds with one NDJSON result line per input row, written as each batch is
+     * committed.</p>
+     *
+     * @param format json 또는 csv (생략 시 Content-Type 으로 판단, 기본 json)
+     * @param request HTTP 요청 (본문을 직접 스트리밍)
+     * @param response HTTP 응답 (행별 결과를 직접 스트리밍)
+     */
+    @PostMapping("/movies/import")
+    public void importMovies(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        String contentType = request.getContentType();
+        String resolvedFormat = format != null ? format
+                : contentType != null && contentType.contains("csv") ? MovieImportService.FORMAT_CSV
+                : MovieImportService.FORMAT_JSON;
+        log.info("Movie import requested: format={}, contentLength={}", resolvedFormat, request.getContentLengthLong());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        movieImportService.importMovies(request.getInputStream(), resolvedFormat, response.getOutputStream());
+    }
+
+    /**
+     * Export all members as NDJSON (ID order, without passwords)
+     * 전체 회원을 NDJSON 으로 내보내기 (ID 순, 비밀번호 제외)
+     *
+     * @param response HTTP 응답 (결과를 직접 스트리밍)
+     */
+    @GetMapping("/members/export")
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        memberExportService.exportSummaries(response.getOutputStream());
+    }
+
+    private static String formatOf(String contentType) {
+        if (contentType != null && (contentType.contains("ndjson") || contentType.contains("json"))) {
+            return RecommendationImportService.FORMAT_NDJSON;
+        }
+        return RecommendationImportService.FORMAT_CSV;
+    }
+}
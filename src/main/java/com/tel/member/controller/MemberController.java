@@ -3,16 +3,19 @@ package com.tel.member.controller;
 import com.tel.member.dto.*;
 import com.tel.member.exception.InvalidPasswordException;
 import com.tel.member.service.MemberApiService;
+import com.tel.member.security.LoginContext;
+import com.tel.member.security.LoginToken;
 import com.tel.member.service.MemberService;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -27,6 +30,8 @@ public class MemberController {
     // 서비스 주입
     private final MemberService memberService;
     private final MemberApiService memberApiService;
+    // 로그인 상태 (세션 또는 서명 토큰, member.auth.mode)
+    private final LoginContext loginContext;
 
     /**
      * 회원 가입 API
@@ -42,22 +47,26 @@ public class MemberController {
      * 로그인 처리 API
      */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody MemberDTO memberDTO, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody MemberDTO memberDTO,
+                                                     HttpServletRequest request, HttpServletResponse response) {
         log.info("로그인 요청: {}", memberDTO);
         MemberDTO loginResult = memberService.login(memberDTO);
 
         if (loginResult != null) {
             // 로그인 성공
             log.info("로그인 성공: {}", loginResult.getId());
-            // 세션에 로그인 ID 저장
-            session.setAttribute("loginId", loginResult.getId());
-            session.setAttribute("loginEmail", loginResult.getEmail()); // MemberApiController와의 호환성을 위해 추가
+            // 세션에 로그인 ID 저장 (토큰 모드에서는 토큰 발급)
+            LoginToken token = loginContext.login(request, response, loginResult);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("result", "ok");
-            response.put("user", loginResult);
+            Map<String, Object> body = new HashMap<>();
+            body.put("result", "ok");
+            body.put("user", loginResult);
+            if (token != null) {
+                body.put("token", token.token());
+                body.put("expiresAt", token.expiresAt());
+            }
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(body);
         } else {
             // 로그인 실패
             log.info("로그인 실패");
@@ -73,8 +82,8 @@ public class MemberController {
      * 로그인 상태 확인 API
      */
     @GetMapping("/check-session")
-    public ResponseEntity<?> checkSession(HttpSession session) {
-        String loginId = (String) session.getAttribute("loginId");
+    public ResponseEntity<?> checkSession(HttpServletRequest request) {
+        String loginId = loginContext.getLoginId(request);
 
         if (loginId != null) {
             Map<String, String> userMap = new HashMap<>();
@@ -89,8 +98,8 @@ public class MemberController {
      * 현재 로그인한 사용자 ID 조회 API
      */
     @GetMapping("/me")
-    public ResponseEntity<String> getLoginId(HttpSession session) {
-        String loginId = (String) session.getAttribute("loginId");
+    public ResponseEntity<String> getLoginId(HttpServletRequest request) {
+        String loginId = loginContext.getLoginId(request);
 
         if (loginId != null) {
             return ResponseEntity.ok(loginId);
@@ -114,17 +123,23 @@ public class MemberController {
     }
 
     /**
-     * 모든 회원 정보 목록 불러오기
+     * 회원 목록 페이지 조회 (ID 순, 비밀번호 제외)
      */
     @GetMapping("/all")
-    public ResponseEntity<List<MemberDTO>> findAll() {
-        List<MemberDTO> memberDTOList = memberService.findAll();
+    public ResponseEntity<Page<MemberSummaryDto>> findAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(memberService.findSummaries(page, size));
+    }
 
-        if (memberDTOList != null) {
-            return ResponseEntity.ok(memberDTOList);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+    /**
+     * 커서 기반 회원 목록 조회 (ID 순, 첫 요청은 after 생략)
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<MemberSliceResponseDto> scroll(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(memberService.scrollSummaries(after, size));
     }
 
     /**
@@ -161,8 +176,8 @@ public class MemberController {
      * 로그아웃 API
      */
     @GetMapping("/logout")
-    public ResponseEntity<String> logout(HttpSession session) {
-        session.invalidate();
+    public ResponseEntity<String> logout(HttpServletRequest request, HttpServletResponse response) {
+        loginContext.logout(request, response);
         return ResponseEntity.ok("logout");
     }
 
@@ -186,11 +201,11 @@ public class MemberController {
      */
     @PostMapping("/change-password")
     public ResponseEntity<Map<String, String>> changePassword(
-            HttpSession session,
+            HttpServletRequest request,
             @RequestBody PasswordChangeRequestDto passwordChangeRequestDto) {
         
-        // 세션에서 로그인된 사용자 ID 가져오기
-        String loginId = (String) session.getAttribute("loginId");
+        // 세션(또는 토큰)에서 로그인된 사용자 ID 가져오기
+        String loginId = loginContext.getLoginId(request);
         Map<String, String> response = new HashMap<>();
         
 
@@ -2,8 +2,11 @@ package com.tel.member.controller;
 
 import com.tel.member.dto.MovieCreateRequestDto;
 import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.dto.MovieSliceResponseDto;
 import com.tel.member.dto.RecommendationResponseDto;
+import com.tel.member.service.MovieExportService;
 import com.tel.member.service.MovieService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,10 +14,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -27,7 +33,11 @@ import java.util.List;
 @Slf4j
 public class MovieController {
 
+    // 연도별 조회 정렬: 개봉일 최신순 (idx_release_year 의 released_on 순서 사용)
+    private static final Sort RELEASE_ORDER = Sort.by(Sort.Order.desc("releasedOn"), Sort.Order.desc("id"));
+
     private final MovieService movieService;
+    private final MovieExportService movieExportService;
     
     /**
      * Create a new movie
@@ -71,6 +81,49 @@ public class MovieController {
         return ResponseEntity.ok(movies);
     }
     
+    /**
+     * Export the whole catalog as NDJSON (one movie per line, ID order)
+     * 전체 영화 카탈로그를 NDJSON 으로 내보내기 (한 줄에 영화 하나, ID 순)
+     * 
+     * @param genre 장르 필터 (선택)
+     * @param updatedSince 이 시각 이후 수정된 영화만 (선택, ISO-8601)
+     * @param response HTTP 응답 (결과를 직접 스트리밍)
+     */
+    @GetMapping("/export")
+    public void exportMovies(
+            @RequestParam(required = false) String genre,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            HttpServletResponse response) throws IOException {
+        
+        log.info("Exporting movies - genre: {}, updatedSince: {}", genre, updatedSince);
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        movieExportService.exportMovies(genre, updatedSince, response.getOutputStream());
+    }
+    
+    /**
+     * Get movies with cursor pagination (infinite scroll)
+     * 커서 기반 영화 조회 (무한 스크롤용)
+     * 
+     * @param sort 정렬 기준 (createdAt, recommendationCount) - 항상 내림차순
+     * @param cursor 이전 응답의 nextCursor (첫 요청은 생략)
+     * @param size 슬라이스 크기
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 슬라이스 응답 DTO
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<MovieSliceResponseDto> scrollMovies(
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String memberId) {
+        
+        log.info("Scrolling movies - sort: {}, size: {}", sort, size);
+        
+        MovieSliceResponseDto movies = movieService.scrollMovies(sort, cursor, size, memberId);
+        return ResponseEntity.ok(movies);
+    }
+    
     /**
      * Get movies by genre with pagination
      * 장르별 영화 조회 (페이징)
@@ -96,6 +149,58 @@ public class MovieController {
         return ResponseEntity.ok(movies);
     }
     
+    /**
+     * Get movies released in a year with pagination (latest release first)
+     * 개봉 연도별 영화 조회 (페이징, 최신 개봉순)
+     * 
+     * @param year 개봉 연도
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 응답 DTO 페이지
+     */
+    @GetMapping("/year/{year}")
+    public ResponseEntity<Page<MovieResponseDto>> getMoviesByYear(
+            @PathVariable int year,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String memberId) {
+        
+        log.info("Getting movies by release year: {}", year);
+        
+        Pageable pageable = PageRequest.of(page, size, RELEASE_ORDER);
+        Page<MovieResponseDto> movies = movieService.getMoviesByYear(year, pageable, memberId);
+        
+        return ResponseEntity.ok(movies);
+    }
+    
+    /**
+     * Get movies released in a range of years with pagination (latest release first)
+     * 개봉 연도 범위별 영화 조회 (페이징, 최신 개봉순)
+     * 
+     * @param from 시작 연도 (포함)
+     * @param to 종료 연도 (포함)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 응답 DTO 페이지
+     */
+    @GetMapping("/years")
+    public ResponseEntity<Page<MovieResponseDto>> getMoviesByYearRange(
+            @RequestParam int from,
+            @RequestParam int to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String memberId) {
+        
+        log.info("Getting movies by release year range: {} - {}", from, to);
+        
+        Pageable pageable = PageRequest.of(page, size, RELEASE_ORDER);
+        Page<MovieResponseDto> movies = movieService.getMoviesByYearRange(from, to, pageable, memberId);
+        
+        return ResponseEntity.ok(movies);
+    }
+    
     /**
      * Search movies by keyword with pagination
      * 키워드로 영화 검색 (페이징)
@@ -144,6 +249,27 @@ public class MovieController {
         return ResponseEntity.ok(movies);
     }
     
+    /**
+     * Get recommended movies with cursor pagination (infinite scroll)
+     * 추천 수 기준 커서 기반 영화 조회 (무한 스크롤용)
+     * 
+     * @param cursor 이전 응답의 nextCursor (첫 요청은 생략)
+     * @param size 슬라이스 크기
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 슬라이스 응답 DTO
+     */
+    @GetMapping("/recommended/scroll")
+    public ResponseEntity<MovieSliceResponseDto> scrollRecommendedMovies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String memberId) {
+        
+        log.info("Scrolling recommended movies - size: {}", size);
+        
+        MovieSliceResponseDto movies = movieService.scrollMovies("recommendationCount", cursor, size, memberId);
+        return ResponseEntity.ok(movies);
+    }
+    
     /**
      * Get top recommended movies
      * 추천 수 상위 영화 조회
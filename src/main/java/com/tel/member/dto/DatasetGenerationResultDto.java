@@ -0,0 +1,27 @@
+package com.tel.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of a synthetic dataset load
+ * 합성 데이터셋 적재 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetGenerationResultDto {
+
+    private long movies;
+    private long movieGenres;           // movie_genres 매핑 행 수
+    private long members;
+    private long recommendations;
+    private long moviesMillis;
+    private long membersMillis;
+    private long recommendationsMillis; // 추천 수 재계산 포함
+    private long elapsedMillis;
+    private double rowsPerSecond;       // 전체 행 수 / 전체 시간
+}
@@ -0,0 +1,24 @@
+package com.tel.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a cursor-paged slice of members
+ * 커서 기반 회원 슬라이스 응답 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSliceResponseDto {
+
+    private List<MemberSummaryDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;      // 마지막 회원 ID (다음 요청의 after 값)
+}
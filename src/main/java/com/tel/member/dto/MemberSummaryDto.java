@@ -0,0 +1,24 @@
+package com.tel.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Member listing projection (selected directly by JPQL, no password)
+ * 회원 목록용 프로젝션 DTO (JPQL 에서 필요한 컬럼만 직접 조회, 비밀번호 제외)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MemberSummaryDto {
+    private String id;
+    private String name;
+    private String email;
+    private LocalDate joinDate;
+    private String grade;
+}
@@ -0,0 +1,56 @@
+package com.tel.member.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor holding the last (sort key, id) of a slice
+ * 슬라이스의 마지막 (정렬 키, ID)를 담는 커서 (클라이언트에는 불투명 문자열로 전달)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MovieCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sort;
+    private final String sortKey;
+    private final Long id;
+
+    /**
+     * Encode as a URL-safe string
+     * URL에 안전한 문자열로 인코딩
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        String raw = sort + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()} for the given sort
+     * 주어진 정렬 기준의 커서 문자열 디코딩
+     *
+     * @param cursor 커서 문자열
+     * @param expectedSort 요청한 정렬 기준
+     * @return MovieCursor
+     * @throws IllegalArgumentException 잘못된 커서이거나 정렬 기준이 다른 경우
+     */
+    public static MovieCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+            }
+            return new MovieCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 및 Base64 디코딩 오류 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tel.member.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the result of one row of a movie bulk import
+ * 영화 대량 적재의 행별 처리 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MovieImportResultDto {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    private long row;                   // 입력 내 순번 (1부터, CSV 헤더 제외)
+    private String title;
+    private String status;              // CREATED, DUPLICATE, INVALID, FAILED
+    private Long movieId;
+    private String message;
+}
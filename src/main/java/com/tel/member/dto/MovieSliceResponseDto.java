@@ -0,0 +1,24 @@
+package com.tel.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a cursor-paged slice of movies
+ * 커서 기반 영화 슬라이스 응답 DTO 클래스
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MovieSliceResponseDto {
+
+    private List<MovieResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,35 @@
+package com.tel.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the progress and result of a recommendation import
+ * 추천 대량 적재 진행 상황 및 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationImportStatusDto {
+
+    private String state;               // RUNNING, COMPLETED, FAILED
+    private String format;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long rowsRead;              // 읽은 데이터 행 수 (헤더, 빈 줄 제외)
+    private long imported;              // 새로 저장된 추천 수
+    private long skippedExisting;       // 이미 존재하는 (영화, 회원) 쌍
+    private long unknownMovies;         // 존재하지 않는 영화 ID
+    private long invalidRows;           // 형식 오류
+    private long affectedMovies;        // 추천 수를 재계산한 영화 수
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<String> errors;        // 형식 오류 예시 (최대 10건)
+    private String message;
+}
@@ -0,0 +1,30 @@
+package com.tel.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Backfill Progress Entity recording up to which movie ID a startup backfill has run
+ * 시작 시 백필이 어느 영화 ID까지 처리했는지 기록하는 엔티티 클래스
+ *
+ * <p>Rows up to {@code lastId} were either backfilled or found to have nothing to derive
+ * (e.g. a blank genre), so later startups only scan the movies added after it.</p>
+ */
+@Entity
+@Table(name = "backfill_progress")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillProgressEntity {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+}
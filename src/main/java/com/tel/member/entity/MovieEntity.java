@@ -8,7 +8,11 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Movie Entity for storing movie information
@@ -19,7 +23,9 @@ import java.time.LocalDateTime;
     @Index(name = "idx_title", columnList = "title"),
     @Index(name = "idx_genre", columnList = "genre"),
     @Index(name = "idx_recommendation_count", columnList = "recommendationCount"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_release_year", columnList = "releaseYear, releasedOn"),
+    @Index(name = "idx_released_on", columnList = "releasedOn")
 })
 @Data
 @NoArgsConstructor
@@ -27,8 +33,14 @@ import java.time.LocalDateTime;
 @Builder
 public class MovieEntity {
     
+    // 2010-07-21, 2010.07.21, 2010/07/21, 20100721, 2010-07, 2010 형식 허용
+    private static final Pattern RELEASE_DATE_PATTERN =
+            Pattern.compile("^\\s*(\\d{4})(?:[-./]?(\\d{1,2})(?:[-./]?(\\d{1,2}))?)?");
+    
+    // IDENTITY 는 INSERT 배치를 막으므로 미리 할당된 ID 블록(pooled) 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movies_seq")
+    @SequenceGenerator(name = "movies_seq", sequenceName = "movies_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 255)
@@ -40,6 +52,14 @@ public class MovieEntity {
     @Column(name = "release_date", length = 20)
     private String releaseDate;
     
+    // releaseDate 원문에서 파싱한 개봉일 (저장 시 자동 설정)
+    @Column(name = "released_on")
+    private LocalDate releasedOn;
+    
+    // 개봉 연도 (연도만 입력된 경우에도 설정)
+    @Column(name = "release_year")
+    private Integer releaseYear;
+    
     @Column(columnDefinition = "TEXT")
     private String description;
     
@@ -73,4 +93,56 @@ public class MovieEntity {
     public void decrementRecommendationCount() {
         this.recommendationCount = Math.max(0, (this.recommendationCount == null ? 0 : this.recommendationCount) - 1);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Derive the typed release date and year from the original release date string
+     * 개봉일 원문에서 개봉일/개봉 연도 컬럼 값 설정 (저장 및 수정 시 자동 호출)
+     */
+    @PrePersist
+    @PreUpdate
+    public void syncReleaseDate() {
+        this.releasedOn = parseReleaseDate(releaseDate);
+        this.releaseYear = parseReleaseYear(releaseDate);
+    }
+    
+    /**
+     * Parse a release date string into a date
+     * 개봉일 문자열을 날짜로 파싱
+     * 
+     * @param releaseDate 개봉일 원문
+     * @return 개봉일, 일자까지 없거나 유효하지 않으면 null
+     */
+    public static LocalDate parseReleaseDate(String releaseDate) {
+        Matcher matcher = matchReleaseDate(releaseDate);
+        if (matcher == null || matcher.group(3) == null) {
+            return null;
+        }
+        try {
+            return LocalDate.of(Integer.parseInt(matcher.group(1)),
+                    Integer.parseInt(matcher.group(2)),
+                    Integer.parseInt(matcher.group(3)));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Parse the release year from a release date string
+     * 개봉일 문자열에서 개봉 연도 파싱
+     * 
+     * @param releaseDate 개봉일 원문
+     * @return 개봉 연도, 없으면 null
+     */
+    public static Integer parseReleaseYear(String releaseDate) {
+        Matcher matcher = matchReleaseDate(releaseDate);
+        return matcher == null ? null : Integer.valueOf(matcher.group(1));
+    }
+    
+    private static Matcher matchReleaseDate(String releaseDate) {
+        if (releaseDate == null) {
+            return null;
+        }
+        Matcher matcher = RELEASE_DATE_PATTERN.matcher(releaseDate);
+        return matcher.find() ? matcher : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.tel.member.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Movie Genre Entity mapping a movie to each of its normalized genres
+ * 영화와 정규화된 개별 장르를 연결하는 엔티티 클래스
+ *
+ * <p>MovieEntity.genre keeps the comma separated display string ("액션, SF"); this table holds
+ * one row per genre so genre browsing can use the (genre, movie_id) index instead of LIKE.</p>
+ */
+@Entity
+@Table(name = "movie_genres",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "unique_movie_genre", columnNames = {"movieId", "genre"})
+       },
+       indexes = {
+           @Index(name = "idx_genre_movie_id", columnList = "genre, movieId")
+       })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MovieGenreEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_genres_seq")
+    @SequenceGenerator(name = "movie_genres_seq", sequenceName = "movie_genres_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(nullable = false, length = 100)
+    private String genre;
+
+    /**
+     * Create the genre mappings of a movie
+     * 영화의 장르 문자열로 장르 매핑 목록 생성
+     *
+     * @param movieId 영화 ID
+     * @param genres 쉼표로 구분된 장르 문자열
+     * @return MovieGenreEntity 목록
+     */
+    public static List<MovieGenreEntity> forMovie(Long movieId, String genres) {
+        List<MovieGenreEntity> mappings = new ArrayList<>();
+        for (String genre : parseGenres(genres)) {
+            mappings.add(MovieGenreEntity.builder()
+                    .movieId(movieId)
+                    .genre(genre)
+                    .build());
+        }
+        return mappings;
+    }
+
+    /**
+     * Split a genre string into normalized genres (trimmed, lower case, no duplicates)
+     * 장르 문자열을 정규화된 장르 목록으로 분리 (공백 제거, 소문자, 중복 제거)
+     *
+     * @param genres 쉼표(또는 / |)로 구분된 장르 문자열
+     * @return 정규화된 장르 목록 (입력 순서 유지)
+     */
+    public static List<String> parseGenres(String genres) {
+        if (genres == null) {
+            return List.of();
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String token : genres.split("[,/|]")) {
+            String genre = token.trim().toLowerCase(Locale.ROOT);
+            if (!genre.isEmpty()) {
+                parsed.add(genre);
+            }
+        }
+        return List.copyOf(parsed);
+    }
+}
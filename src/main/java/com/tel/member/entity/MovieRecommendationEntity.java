@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -29,7 +28,8 @@ import java.time.LocalDateTime;
 public class MovieRecommendationEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)//id자동으로 생성
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_recommendations_seq")//id자동으로 생성 (배치 INSERT 가능)
+    @SequenceGenerator(name = "movie_recommendations_seq", sequenceName = "movie_recommendations_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "movie_id", nullable = false)
@@ -38,10 +38,20 @@ public class MovieRecommendationEntity {
     @Column(name = "member_id", nullable = false, length = 50)
     private String memberId;
     
-    @CreationTimestamp//현재 시간을 자동으로 넣어줌
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    /**
+     * Default the creation time to now unless it was supplied (e.g. imported history)
+     * 생성 시각이 지정되지 않은 경우 현재 시간으로 설정 (과거 추천 적재 시에는 원래 시각 유지)
+     */
+    @PrePersist
+    void defaultCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+    
     /**
      * Create a new movie recommendation
      * 새로운 영화 추천 생성
@@ -0,0 +1,23 @@
+package com.tel.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event published when a new movie is added to the catalog
+ * 새로운 영화가 카탈로그에 추가되었을 때 발행되는 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class MovieCreatedEvent {
+
+    private final Long movieId;
+    private final String title;
+    private final String genre;
+    private final Integer recommendationCount;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.tel.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event published when a member adds or removes a movie recommendation
+ * 회원이 영화 추천을 추가하거나 취소했을 때 발행되는 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RecommendationToggledEvent {
+
+    private final Long movieId;
+    private final String memberId;
+    private final boolean recommended;
+    private final Integer recommendationCount;
+    // 추천 수가 이미 movies 테이블에 반영되었는지 여부 (write-behind 모드에서는 false)
+    private final boolean countPersisted;
+
+    public RecommendationToggledEvent(Long movieId, String memberId, boolean recommended, Integer recommendationCount) {
+        this(movieId, memberId, recommended, recommendationCount, true);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tel.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Event published after a bulk recommendation import has been written and recounted
+ * 추천 대량 적재 및 추천 수 재계산이 끝난 뒤 발행되는 이벤트
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RecommendationsImportedEvent {
+
+    /** 추천이 추가된 영화 ID */
+    @ToString.Exclude
+    private final Set<Long> movieIds;
+    private final long importedRows;
+}
@@ -1,10 +1,13 @@
 package com.tel.member.exception;
 
 import com.tel.member.dto.ErrorResponseDto;
+import com.tel.member.metrics.MetricsRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -25,8 +28,12 @@ import java.util.Map;
  * 전역 예외 처리기
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
+
+    // 예외 타입별 발생 수 (/api/admin/metrics)
+    private final MetricsRegistry metricsRegistry;
     
     /**
      * Handle MovieNotFoundException
@@ -41,6 +48,7 @@ public class GlobalExceptionHandler {
             MovieNotFoundException e, HttpServletRequest request) {
         
         log.error("Movie not found: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "MOVIE_NOT_FOUND",
@@ -64,6 +72,7 @@ public class GlobalExceptionHandler {
             DuplicateRecommendationException e, HttpServletRequest request) {
         
         log.error("Duplicate recommendation: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "DUPLICATE_RECOMMENDATION",
@@ -74,6 +83,56 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    /**
+     * Handle ImportInProgressException
+     * 다른 대량 적재가 진행 중일 때 발생하는 예외 처리
+     * 
+     * @param e 예외
+     * @param request HTTP 요청
+     * @return 에러 응답
+     */
+    @ExceptionHandler(ImportInProgressException.class)
+    public ResponseEntity<ErrorResponseDto> handleImportInProgressException(
+            ImportInProgressException e, HttpServletRequest request) {
+        
+        log.warn("Import rejected: {}", e.getMessage());
+        metricsRegistry.recordError(e);
+        
+        ErrorResponseDto errorResponse = ErrorResponseDto.of(
+                "IMPORT_IN_PROGRESS",
+                e.getMessage(),
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    /**
+     * Handle PasswordHashingBusyException
+     * 비밀번호 처리 스레드 풀 포화 시 발생하는 예외 처리 (재시도 안내)
+     * 
+     * @param e 예외
+     * @param request HTTP 요청
+     * @return 에러 응답
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponseDto> handlePasswordHashingBusyException(
+            PasswordHashingBusyException e, HttpServletRequest request) {
+        
+        log.warn("Password hashing busy: {}", e.getMessage());
+        metricsRegistry.recordError(e);
+        
+        ErrorResponseDto errorResponse = ErrorResponseDto.of(
+                "PASSWORD_HASHING_BUSY",
+                e.getMessage(),
+                request.getRequestURI()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
     /**
      * Handle IllegalArgumentException
      * 잘못된 인자를 전달했을 때 발생하는 예외 처리
@@ -87,6 +146,7 @@ public class GlobalExceptionHandler {
             IllegalArgumentException e, HttpServletRequest request) {
         
         log.error("Illegal argument: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "INVALID_ARGUMENT",
@@ -110,6 +170,7 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException e, HttpServletRequest request) {
         
         log.error("Validation error: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         Map<String, String> errors = new HashMap<>();
         e.getBindingResult().getAllErrors().forEach(error -> {
@@ -140,6 +201,7 @@ public class GlobalExceptionHandler {
             BindException e, HttpServletRequest request) {
         
         log.error("Binding error: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         Map<String, String> errors = new HashMap<>();
         e.getBindingResult().getAllErrors().forEach(error -> {
@@ -170,6 +232,7 @@ public class GlobalExceptionHandler {
             ConstraintViolationException e, HttpServletRequest request) {
         
         log.error("Constraint violation: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "CONSTRAINT_VIOLATION",
@@ -193,6 +256,7 @@ public class GlobalExceptionHandler {
             DataIntegrityViolationException e, HttpServletRequest request) {
         
         log.error("Data integrity violation: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "DATA_INTEGRITY_VIOLATION",
@@ -216,6 +280,7 @@ public class GlobalExceptionHandler {
             MissingServletRequestParameterException e, HttpServletRequest request) {
         
         log.error("Missing parameter: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "MISSING_PARAMETER",
@@ -239,6 +304,7 @@ public class GlobalExceptionHandler {
             MethodArgumentTypeMismatchException e, HttpServletRequest request) {
         
         log.error("Type mismatch: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "TYPE_MISMATCH",
@@ -262,6 +328,7 @@ public class GlobalExceptionHandler {
             MaxUploadSizeExceededException e, HttpServletRequest request) {
         
         log.error("File size exceeded: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "FILE_SIZE_EXCEEDED",
@@ -285,6 +352,7 @@ public class GlobalExceptionHandler {
             MultipartException e, HttpServletRequest request) {
         
         log.error("Multipart error: {}", e.getMessage());
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "MULTIPART_ERROR",
@@ -308,6 +376,7 @@ public class GlobalExceptionHandler {
             Exception e, HttpServletRequest request) {
         
         log.error("Unhandled exception: ", e);
+        metricsRegistry.recordError(e);
         
         ErrorResponseDto errorResponse = ErrorResponseDto.of(
                 "INTERNAL_SERVER_ERROR",
@@ -0,0 +1,12 @@
+package com.tel.member.exception;
+
+/**
+ * Exception thrown when an import is requested while another one is running
+ * 다른 대량 적재가 진행 중일 때 발생하는 예외
+ */
+public class ImportInProgressException extends RuntimeException {
+
+    public ImportInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tel.member.exception;
+
+/**
+ * Exception thrown when the password hashing pool cannot take more work
+ * 비밀번호 처리 스레드 풀이 포화 상태일 때 발생하는 예외
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,261 @@
+package com.tel.member.metrics;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-process registry of per-method latency histograms and handled error counts
+ * 메서드별 지연 시간 히스토그램과 처리된 예외 수를 보관하는 인메모리 레지스트리
+ *
+ * <p>Controller endpoints and service methods each get one {@link MethodTimer}, created on
+ * the first call and then found with a single map lookup keyed by {@link Method}, so the
+ * hot path does not build strings or allocate. {@link #scrape()} renders everything in the
+ * Prometheus text exposition format: a summary (p50 / p90 / p99 / p999, count, sum) plus
+ * max and error count per method, exception counts reported by GlobalExceptionHandler, and
+ * per-endpoint SQL totals from {@link SqlMetricsFilter}. Throughput is the rate of the
+ * {@code _count} counters.</p>
+ */
+@Component
+public class MetricsRegistry {
+
+    static final String LATENCY_METRIC = "member_method_latency_seconds";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final ConcurrentHashMap<Method, MethodTimer> timersByMethod = new ConcurrentHashMap<>();
+    // 오버로드된 메서드는 같은 레이블의 타이머 하나를 공유
+    private final ConcurrentHashMap<String, MethodTimer> timersByLabel = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Class<?>, LongAdder> errorsByType = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, EndpointSql> sqlByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * Timer of a controller or service method
+     * 컨트롤러 / 서비스 메서드의 타이머 조회 (처음 호출 시 생성)
+     */
+    public MethodTimer timer(Method method) {
+        MethodTimer timer = timersByMethod.get(method);
+        if (timer != null) {
+            return timer;
+        }
+        return timersByMethod.computeIfAbsent(method, this::createTimer);
+    }
+
+    /**
+     * Count an exception handled by GlobalExceptionHandler
+     * GlobalExceptionHandler 가 처리한 예외 수 집계
+     */
+    public void recordError(Throwable error) {
+        Class<?> type = error.getClass();
+        LongAdder counter = errorsByType.get(type);
+        if (counter == null) {
+            counter = errorsByType.computeIfAbsent(type, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Record the JDBC work of one HTTP request
+     * HTTP 요청 하나의 JDBC 작업 기록
+     *
+     * @param endpoint HTTP 메서드와 경로 패턴 (예: GET /api/movies)
+     */
+    public void recordRequestSql(String endpoint, int statements, long rows, long dbNanos) {
+        EndpointSql sql = sqlByEndpoint.get(endpoint);
+        if (sql == null) {
+            sql = sqlByEndpoint.computeIfAbsent(endpoint, key -> new EndpointSql());
+        }
+        sql.requests.increment();
+        sql.statements.add(statements);
+        sql.rows.add(rows);
+        sql.dbNanos.add(dbNanos);
+        sql.maxStatements.accumulate(statements);
+    }
+
+    /**
+     * Mark an endpoint whose statement count grows with the page size
+     * 페이지 크기에 따라 SQL 수가 늘어나는 엔드포인트 표시
+     */
+    public void flagNPlusOne(String endpoint) {
+        sqlByEndpoint.computeIfAbsent(endpoint, key -> new EndpointSql()).nPlusOne = true;
+    }
+
+    /**
+     * Clear the N+1 mark once the statement count no longer grows with the page size
+     * SQL 수가 더 이상 페이지 크기에 따라 늘지 않으면 N+1 표시 해제
+     */
+    public void clearNPlusOne(String endpoint) {
+        EndpointSql sql = sqlByEndpoint.get(endpoint);
+        if (sql != null) {
+            sql.nPlusOne = false;
+        }
+    }
+
+    /**
+     * Render all metrics in the Prometheus text format
+     * 모든 메트릭을 Prometheus 텍스트 형식으로 출력
+     */
+    public String scrape() {
+        List<MethodTimer> timers = new ArrayList<>(timersByLabel.values());
+        timers.sort(Comparator.comparing((MethodTimer timer) -> timer.layer).thenComparing(timer -> timer.method));
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>(timers.size());
+        timers.forEach(timer -> snapshots.add(timer.histogram.snapshot()));
+
+        StringBuilder out = new StringBuilder(4096);
+        out.append("# HELP ").append(LATENCY_METRIC).append(" Latency of controller endpoints and service methods.\n");
+        out.append("# TYPE ").append(LATENCY_METRIC).append(" summary\n");
+        for (int i = 0; i < timers.size(); i++) {
+            MethodTimer timer = timers.get(i);
+            LatencyHistogram.Snapshot snapshot = snapshots.get(i);
+            for (double quantile : QUANTILES) {
+                out.append(LATENCY_METRIC).append('{').append(timer.labels)
+                        .append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(snapshot.valueAtQuantile(quantile))).append('\n');
+            }
+            out.append(LATENCY_METRIC).append("_count{").append(timer.labels).append("} ")
+                    .append(snapshot.getCount()).append('\n');
+            out.append(LATENCY_METRIC).append("_sum{").append(timer.labels).append("} ")
+                    .append(seconds(snapshot.getTotalNanos())).append('\n');
+        }
+
+        out.append("# HELP member_method_latency_max_seconds Slowest call since startup.\n");
+        out.append("# TYPE member_method_latency_max_seconds gauge\n");
+        for (int i = 0; i < timers.size(); i++) {
+            out.append("member_method_latency_max_seconds{").append(timers.get(i).labels).append("} ")
+                    .append(seconds(snapshots.get(i).getMaxNanos())).append('\n');
+        }
+
+        out.append("# HELP member_method_errors_total Calls that ended with an exception.\n");
+        out.append("# TYPE member_method_errors_total counter\n");
+        for (MethodTimer timer : timers) {
+            out.append("member_method_errors_total{").append(timer.labels).append("} ")
+                    .append(timer.errors.sum()).append('\n');
+        }
+
+        out.append("# HELP member_handled_exceptions_total Exceptions turned into error responses, by type.\n");
+        out.append("# TYPE member_handled_exceptions_total counter\n");
+        Map<String, Long> errors = new TreeMap<>();
+        errorsByType.forEach((type, counter) -> errors.put(type.getName(), counter.sum()));
+        errors.forEach((type, count) -> out.append("member_handled_exceptions_total{exception=\"")
+                .append(escape(type)).append("\"} ").append(count).append('\n'));
+
+        Map<String, EndpointSql> sql = new TreeMap<>(sqlByEndpoint);
+        appendSql(out, sql, "member_request_sql_requests_total", "counter", "Measured HTTP requests.",
+                endpointSql -> endpointSql.requests.sum());
+        appendSql(out, sql, "member_request_sql_statements_total", "counter", "JDBC statements executed by requests.",
+                endpointSql -> endpointSql.statements.sum());
+        appendSql(out, sql, "member_request_sql_statements_max", "gauge", "Most statements run by a single request.",
+                endpointSql -> endpointSql.maxStatements.get());
+        appendSql(out, sql, "member_request_sql_rows_total", "counter", "Rows fetched from JDBC result sets.",
+                endpointSql -> endpointSql.rows.sum());
+        appendSql(out, sql, "member_request_sql_n_plus_one_suspected", "gauge",
+                "1 when the statement count grows with the page size.", endpointSql -> endpointSql.nPlusOne ? 1 : 0);
+        out.append("# HELP member_request_db_seconds_total Time spent executing JDBC statements.\n");
+        out.append("# TYPE member_request_db_seconds_total counter\n");
+        sql.forEach((endpoint, endpointSql) -> out.append("member_request_db_seconds_total{endpoint=\"")
+                .append(escape(endpoint)).append("\"} ").append(seconds(endpointSql.dbNanos.sum())).append('\n'));
+        return out.toString();
+    }
+
+    private static void appendSql(StringBuilder out, Map<String, EndpointSql> sql, String name, String type, String help,
+                                  ToLongFunction<EndpointSql> value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        sql.forEach((endpoint, endpointSql) -> out.append(name).append("{endpoint=\"").append(escape(endpoint))
+                .append("\"} ").append(value.applyAsLong(endpointSql)).append('\n'));
+    }
+
+    private MethodTimer createTimer(Method method) {
+        Class<?> type = method.getDeclaringClass();
+        boolean controller = AnnotatedElementUtils.hasAnnotation(type, Controller.class);
+        String layer = controller ? "controller" : "service";
+        String name = type.getSimpleName() + "." + method.getName();
+        String endpoint = controller ? endpointOf(type, method) : "";
+        return timersByLabel.computeIfAbsent(layer + "|" + name, key -> new MethodTimer(layer, name, endpoint));
+    }
+
+    /**
+     * HTTP method and path pattern of a handler method (e.g. GET /api/movies/{id})
+     * 핸들러 메서드의 HTTP 메서드와 경로 패턴
+     */
+    static String endpointOf(Class<?> type, Method method) {
+        RequestMapping typeMapping = AnnotatedElementUtils.findMergedAnnotation(type, RequestMapping.class);
+        RequestMapping methodMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+        if (methodMapping == null) {
+            return "";
+        }
+        String basePath = typeMapping != null && typeMapping.path().length > 0 ? typeMapping.path()[0] : "";
+        String path = methodMapping.path().length > 0 ? methodMapping.path()[0] : "";
+        String httpMethod = methodMapping.method().length > 0 ? methodMapping.method()[0].name() : "ANY";
+        return httpMethod + " " + basePath + path;
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1_000_000_000.0);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static final class EndpointSql {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private volatile boolean nPlusOne;
+    }
+
+    /**
+     * Latency histogram and error count of one method
+     * 메서드 하나의 지연 시간 히스토그램과 예외 수
+     */
+    public static final class MethodTimer {
+
+        private final String layer;
+        private final String method;
+        private final String labels;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private MethodTimer(String layer, String method, String endpoint) {
+            this.layer = layer;
+            this.method = method;
+            this.labels = "layer=\"" + layer + "\",method=\"" + escape(method) + "\""
+                    + (endpoint.isEmpty() ? "" : ",endpoint=\"" + escape(endpoint) + "\"");
+        }
+
+        /**
+         * Record a completed call
+         * 정상 완료된 호출 기록
+         */
+        public void record(long nanos) {
+            histogram.record(nanos);
+        }
+
+        /**
+         * Record a call that threw
+         * 예외로 끝난 호출 기록
+         */
+        public void recordFailure(long nanos) {
+            histogram.record(nanos);
+            errors.increment();
+        }
+
+        LatencyHistogram.Snapshot snapshot() {
+            return histogram.snapshot();
+        }
+    }
+}
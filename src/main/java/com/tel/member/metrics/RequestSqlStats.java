@@ -0,0 +1,73 @@
+package com.tel.member.metrics;
+
+/**
+ * JDBC work done on behalf of the current HTTP request
+ * 현재 HTTP 요청에서 실행된 JDBC 작업 통계
+ *
+ * <p>Bound to the request thread by {@link SqlMetricsFilter} and filled in by the proxies of
+ * {@link SqlCountingDataSource}. A request is handled by one thread, so the counters are
+ * plain fields.</p>
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt = System.nanoTime();
+    private int statements;
+    private long rows;
+    private long dbNanos;
+
+    /**
+     * Start collecting for the current thread
+     * 현재 스레드에서 통계 수집 시작
+     */
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Statistics of the current request
+     * 현재 요청의 통계
+     *
+     * @return 요청 처리 중이 아니면 null
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long nanos) {
+        statements++;
+        dbNanos += nanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * Server-Timing header value (db time with statement / row counts, total time so far)
+     * Server-Timing 헤더 값 (DB 시간과 SQL / 행 수, 지금까지의 전체 처리 시간)
+     */
+    public String toServerTiming() {
+        return String.format(java.util.Locale.ROOT, "db;dur=%.3f;desc=\"%d statements, %d rows\", app;dur=%.3f",
+                dbNanos / 1_000_000.0, statements, rows, (System.nanoTime() - startedAt) / 1_000_000.0);
+    }
+}
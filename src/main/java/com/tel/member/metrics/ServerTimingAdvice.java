@@ -0,0 +1,36 @@
+package com.tel.member.metrics;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's SQL statistics as a Server-Timing header just before the body is written
+ * 응답 본문을 쓰기 직전에 요청의 SQL 통계를 Server-Timing 헤더로 추가
+ *
+ * <p>The body commits the response, so {@link SqlMetricsFilter} can no longer add headers
+ * afterwards. JSON responses and error responses both pass through here.</p>
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null && !response.getHeaders().containsKey(SqlMetricsFilter.SERVER_TIMING)) {
+            response.getHeaders().add(SqlMetricsFilter.SERVER_TIMING, stats.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,149 @@
+package com.tel.member.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that counts statements, fetched rows and DB time per request
+ * 요청별 SQL 실행 수, 조회 행 수, DB 시간을 집계하는 DataSource 래퍼
+ *
+ * <p>Connections handed out while a request is being measured ({@link RequestSqlStats#current()})
+ * are wrapped in JDK proxies down to statements and result sets: every {@code execute*} call
+ * counts one statement and its duration, every successful {@code ResultSet.next()} one row.
+ * Connections taken outside a request (schedulers, imports on other threads) are returned
+ * unwrapped and cost nothing. Works for Hibernate and JdbcTemplate alike.</p>
+ */
+public class SqlCountingDataSource extends DelegatingDataSource {
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, stats));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class DelegatingHandler implements InvocationHandler {
+
+        protected final Object target;
+        protected final RequestSqlStats stats;
+
+        DelegatingHandler(Object target, RequestSqlStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(method, args);
+            }
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        protected Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        protected Object wrapResultSet(Object result) {
+            return result instanceof ResultSet resultSet
+                    ? proxy(ResultSet.class, new ResultSetHandler(resultSet, stats))
+                    : result;
+        }
+    }
+
+    private static final class ConnectionHandler extends DelegatingHandler {
+
+        ConnectionHandler(Connection target, RequestSqlStats stats) {
+            super(target, stats);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            String name = method.getName();
+            if (result instanceof Statement statement
+                    && (name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall"))) {
+                // Statement / PreparedStatement / CallableStatement 중 반환 타입 그대로 프록시
+                return proxy(method.getReturnType(), new StatementHandler(statement, stats));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler extends DelegatingHandler {
+
+        StatementHandler(Statement target, RequestSqlStats stats) {
+            super(target, stats);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long startTime = System.nanoTime();
+                try {
+                    return wrapResultSet(invokeTarget(method, args));
+                } finally {
+                    stats.recordStatement(System.nanoTime() - startTime);
+                }
+            }
+            Object result = invokeTarget(method, args);
+            return name.equals("getResultSet") || name.equals("getGeneratedKeys") ? wrapResultSet(result) : result;
+        }
+    }
+
+    private static final class ResultSetHandler extends DelegatingHandler {
+
+        ResultSetHandler(ResultSet target, RequestSqlStats stats) {
+            super(target, stats);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                stats.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.tel.member.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in {@link SqlCountingDataSource}
+ * 애플리케이션 DataSource 를 SqlCountingDataSource 로 감싸는 후처리기
+ *
+ * <p>Disabled with {@code member.sql-metrics.enabled=false}.</p>
+ */
+@Component
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+
+    public SqlCountingDataSourcePostProcessor(@Value("${member.sql-metrics.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof SqlCountingDataSource)) {
+            return new SqlCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,199 @@
+package com.tel.member.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the JDBC work behind each HTTP request and flags N+1 query patterns
+ * HTTP 요청별 JDBC 작업을 측정하고 N+1 쿼리 패턴을 탐지하는 필터
+ *
+ * <p>Binds a {@link RequestSqlStats} to the request thread, then reports statements, rows and
+ * DB time per endpoint to {@link MetricsRegistry}. A request running at least
+ * {@code member.sql-metrics.warn-statements} statements is logged. For requests carrying a
+ * page size parameter ({@code member.sql-metrics.page-size-param}, default {@code size}) the
+ * last few statement counts of each size are remembered per endpoint. The endpoint is flagged
+ * as a suspected N+1 (logged, exported as a gauge) only when at least three sizes, each seen
+ * at least three times and at least five rows apart, show a consistent slope of one extra
+ * statement per two extra rows or more, comparing the median count of each size. Single
+ * cache misses, two-point comparisons and near-identical sizes therefore do not trigger it,
+ * and the flag is cleared again once newer samples no longer show the pattern.</p>
+ */
+@Component
+@Slf4j
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+    // 엔드포인트별로 기억하는 페이지 크기 수 (메모리 제한)
+    private static final int MAX_PAGE_SIZES_PER_ENDPOINT = 16;
+    // 페이지 크기별로 기억하는 최근 SQL 수 / 판단에 필요한 최소 표본 수
+    static final int SAMPLES_PER_PAGE_SIZE = 5;
+    static final int MIN_SAMPLES_PER_PAGE_SIZE = 3;
+    // 비교할 페이지 크기 사이의 최소 차이 / 필요한 페이지 크기 수
+    static final int MIN_PAGE_SIZE_GAP = 5;
+    static final int MIN_PAGE_SIZES = 3;
+
+    private final MetricsRegistry metricsRegistry;
+    private final int warnStatements;
+    private final String pageSizeParam;
+
+    private final ConcurrentHashMap<String, PageSizeSamples> samplesByEndpoint = new ConcurrentHashMap<>();
+    private final Set<String> flaggedEndpoints = ConcurrentHashMap.newKeySet();
+
+    public SqlMetricsFilter(
+            MetricsRegistry metricsRegistry,
+            @Value("${member.sql-metrics.warn-statements:20}") int warnStatements,
+            @Value("${member.sql-metrics.page-size-param:size}") String pageSizeParam) {
+        this.metricsRegistry = metricsRegistry;
+        this.warnStatements = warnStatements;
+        this.pageSizeParam = pageSizeParam;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.clear();
+            // 본문을 쓰지 않은 응답 (204 등) 은 여기서 헤더 추가, 나머지는 ServerTimingAdvice 가 본문 쓰기 전에 추가
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, stats.toServerTiming());
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            // 매핑되지 않은 요청 (정적 리소스, 404) 은 집계하지 않음
+            return;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        int statements = stats.getStatements();
+        metricsRegistry.recordRequestSql(endpoint, statements, stats.getRows(), stats.getDbNanos());
+
+        if (statements >= warnStatements) {
+            log.warn("SQL {} statements / {} rows / {} ms for {} {}", statements, stats.getRows(),
+                    stats.getDbNanos() / 1_000_000, endpoint, request.getQueryString() == null ? "" : request.getQueryString());
+        }
+        Integer pageSize = pageSize(request);
+        if (pageSize == null) {
+            return;
+        }
+        if (growsWithPageSize(endpoint, pageSize, statements)) {
+            if (flaggedEndpoints.add(endpoint)) {
+                log.warn("Suspected N+1 query pattern: statement count of {} grows with page size ({}={} ran {} statements, median by size: {})",
+                        endpoint, pageSizeParam, pageSize, statements, samplesByEndpoint.get(endpoint).medians());
+                metricsRegistry.flagNPlusOne(endpoint);
+            }
+        } else if (flaggedEndpoints.remove(endpoint)) {
+            log.info("N+1 query pattern of {} no longer observed (median by size: {})",
+                    endpoint, samplesByEndpoint.get(endpoint).medians());
+            metricsRegistry.clearNPlusOne(endpoint);
+        }
+    }
+
+    /**
+     * Remember the statement count of this page size and check the slope across the sizes seen
+     * 페이지 크기별 SQL 수를 기록하고 여러 크기에 걸친 증가 추세 확인
+     */
+    boolean growsWithPageSize(String endpoint, int pageSize, int statements) {
+        PageSizeSamples samples = samplesByEndpoint.computeIfAbsent(endpoint, key -> new PageSizeSamples());
+        samples.record(pageSize, statements);
+        return samples.growsWithPageSize();
+    }
+
+    /**
+     * Recent statement counts of one endpoint by page size
+     * 엔드포인트 하나의 페이지 크기별 최근 SQL 수
+     */
+    static final class PageSizeSamples {
+
+        private final Map<Integer, int[]> recentBySize = new TreeMap<>();
+        private final Map<Integer, Integer> countBySize = new TreeMap<>();
+
+        synchronized void record(int pageSize, int statements) {
+            int[] recent = recentBySize.get(pageSize);
+            if (recent == null) {
+                if (recentBySize.size() >= MAX_PAGE_SIZES_PER_ENDPOINT) {
+                    return;
+                }
+                recent = new int[SAMPLES_PER_PAGE_SIZE];
+                recentBySize.put(pageSize, recent);
+            }
+            // 최근 표본만 유지 (원형 버퍼)
+            int count = countBySize.merge(pageSize, 1, Integer::sum);
+            recent[(count - 1) % SAMPLES_PER_PAGE_SIZE] = statements;
+        }
+
+        synchronized boolean growsWithPageSize() {
+            // 작은 크기부터 최소 간격 이상 떨어진 크기만 골라 연속 구간의 기울기 비교
+            List<int[]> points = new ArrayList<>();
+            for (Map.Entry<Integer, Integer> entry : medians().entrySet()) {
+                int size = entry.getKey();
+                if (points.isEmpty() || size - points.get(points.size() - 1)[0] >= MIN_PAGE_SIZE_GAP) {
+                    points.add(new int[]{size, entry.getValue()});
+                }
+            }
+            if (points.size() < MIN_PAGE_SIZES) {
+                return false;
+            }
+            for (int i = 1; i < points.size(); i++) {
+                int sizeDelta = points.get(i)[0] - points.get(i - 1)[0];
+                int statementDelta = points.get(i)[1] - points.get(i - 1)[1];
+                // 추가 행 2개당 SQL 1건 이상 늘어야 함
+                if (statementDelta * 2 < sizeDelta) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Median statement count of every page size with enough samples
+         * 표본이 충분한 페이지 크기별 SQL 수 중앙값
+         */
+        synchronized Map<Integer, Integer> medians() {
+            Map<Integer, Integer> medians = new TreeMap<>();
+            recentBySize.forEach((size, recent) -> {
+                int count = Math.min(countBySize.get(size), SAMPLES_PER_PAGE_SIZE);
+                if (count >= MIN_SAMPLES_PER_PAGE_SIZE) {
+                    int[] sorted = Arrays.copyOf(recent, count);
+                    Arrays.sort(sorted);
+                    medians.put(size, sorted[count / 2]);
+                }
+            });
+            return medians;
+        }
+    }
+
+    private Integer pageSize(HttpServletRequest request) {
+        String value = request.getParameter(pageSizeParam);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
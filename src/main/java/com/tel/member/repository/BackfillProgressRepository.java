@@ -0,0 +1,13 @@
+package com.tel.member.repository;
+
+import com.tel.member.entity.BackfillProgressEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Backfill Progress Repository Interface
+ * 백필 진행 위치 데이터 접근을 위한 Repository 인터페이스
+ */
+@Repository
+public interface BackfillProgressRepository extends JpaRepository<BackfillProgressEntity, String> {
+}
@@ -1,7 +1,13 @@
 package com.tel.member.repository;
 
+import com.tel.member.dto.MemberSummaryDto;
 import com.tel.member.entity.MemberEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +17,15 @@ public interface MemberRepository extends JpaRepository<MemberEntity, String> {
     
     //이메일로 회원 정보 조회(select * from member_table where email=?)
     Optional<MemberEntity> findByEmail(String email);
+
+    //회원 목록 페이지 조회 (필요한 컬럼만 조회, 비밀번호 제외)
+    @Query(value = "SELECT new com.tel.member.dto.MemberSummaryDto(m.id, m.name, m.email, m.joinDate, m.grade) " +
+                   "FROM MemberEntity m",
+           countQuery = "SELECT COUNT(m) FROM MemberEntity m")
+    Page<MemberSummaryDto> findSummaries(Pageable pageable);
+
+    //ID 커서 이후 회원 목록 조회 (OFFSET, COUNT 없음 - 기본키 범위 조회)
+    @Query("SELECT new com.tel.member.dto.MemberSummaryDto(m.id, m.name, m.email, m.joinDate, m.grade) " +
+           "FROM MemberEntity m WHERE m.id > :afterId ORDER BY m.id")
+    Slice<MemberSummaryDto> findSummariesAfter(@Param("afterId") String afterId, Pageable pageable);
 }
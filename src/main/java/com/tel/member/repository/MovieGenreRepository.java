@@ -0,0 +1,34 @@
+package com.tel.member.repository;
+
+import com.tel.member.entity.MovieGenreEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Movie Genre Repository Interface
+ * 영화-장르 매핑 데이터 접근을 위한 Repository 인터페이스
+ */
+@Repository
+public interface MovieGenreRepository extends JpaRepository<MovieGenreEntity, Long> {
+
+    /**
+     * Find genre mappings of a movie
+     * 영화의 장르 매핑 조회
+     */
+    List<MovieGenreEntity> findByMovieId(Long movieId);
+
+    /**
+     * Find movies with a genre but without mappings, after the given ID (backfill)
+     * 장르 매핑이 없는 영화의 ID와 장르 조회 (ID 순, 백필용)
+     */
+    @Query("SELECT m.id, m.genre FROM MovieEntity m " +
+           "WHERE m.id > :afterId AND m.genre IS NOT NULL " +
+           "AND NOT EXISTS (SELECT g.id FROM MovieGenreEntity g WHERE g.movieId = m.id) " +
+           "ORDER BY m.id")
+    List<Object[]> findUnmappedMovieGenres(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -4,10 +4,12 @@ import com.tel.member.entity.MovieRecommendationEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,6 +62,14 @@ public interface MovieRecommendationRepository extends JpaRepository<MovieRecomm
      */
     void deleteByMovieIdAndMemberId(Long movieId, String memberId);
 
+    /**
+     * Delete a recommendation with a single statement and return the deleted row count
+     * 단일 DELETE 문으로 추천 삭제 (삭제된 행 수 반환, 엔티티 로딩 없음)
+     */
+    @Modifying
+    @Query("DELETE FROM MovieRecommendationEntity r WHERE r.movieId = :movieId AND r.memberId = :memberId")
+    int deleteRecommendation(@Param("movieId") Long movieId, @Param("memberId") String memberId);
+
     /**
      * Delete all recommendations by movie ID
      * 영화 ID로 모든 추천 삭제
@@ -86,6 +96,14 @@ public interface MovieRecommendationRepository extends JpaRepository<MovieRecomm
     @Query("SELECT r.movieId FROM MovieRecommendationEntity r WHERE r.memberId = :memberId")
     List<Long> findMovieIdsByMemberId(@Param("memberId") String memberId);
 
+    /**
+     * Find movie IDs recommended by a member among the given movie IDs
+     * 주어진 영화 ID 중 회원이 추천한 영화 ID 목록 조회 (목록 페이지 일괄 조회용)
+     */
+    @Query("SELECT r.movieId FROM MovieRecommendationEntity r WHERE r.memberId = :memberId AND r.movieId IN :movieIds")
+    List<Long> findMovieIdsByMemberIdAndMovieIdIn(@Param("memberId") String memberId,
+                                                  @Param("movieIds") Collection<Long> movieIds);
+
     /**
      * Find top recommended movies with count
      * 추천 수가 많은 영화 목록 조회
@@ -3,11 +3,16 @@ package com.tel.member.repository;
 import com.tel.member.entity.MovieEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +23,17 @@ import java.util.Optional;
 @Repository
 public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
 
+    /**
+     * Escape LIKE wildcards so the keyword matches literally (escape character '!')
+     * 키워드가 문자 그대로 검색되도록 LIKE 와일드카드 이스케이프 (이스케이프 문자 '!', LIKE 에 ESCAPE '!' 지정 필요)
+     */
+    static String escapeLike(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return keyword.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * Find movies by title containing keyword (case insensitive)
      * 제목에 키워드가 포함된 영화 검색 (대소문자 구분 없음)
@@ -36,15 +52,31 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
      */
     Page<MovieEntity> findByGenreContainingIgnoreCase(String genre, Pageable pageable);
 
+    /**
+     * Find movies having the normalized genre (indexed join on movie_genres)
+     * 정규화된 장르를 가진 영화 조회 (movie_genres 인덱스 조인)
+     */
+    @Query(value = "SELECT m FROM MovieEntity m WHERE m.id IN " +
+                   "(SELECT g.movieId FROM MovieGenreEntity g WHERE g.genre = :genre)",
+           countQuery = "SELECT COUNT(g) FROM MovieGenreEntity g WHERE g.genre = :genre")
+    Page<MovieEntity> findByNormalizedGenre(@Param("genre") String genre, Pageable pageable);
+
     /**
      * Find movies by title or genre containing keyword
-     * 제목 또는 장르에 키워드가 포함된 영화 검색
+     * 제목 또는 장르에 키워드가 포함된 영화 검색 (키워드의 %, _, ! 는 '!' 로 이스케이프해서 전달)
      */
     @Query("SELECT m FROM MovieEntity m WHERE " +
-           "LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(m.genre) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+           "LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!' OR " +
+           "LOWER(m.genre) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '!'")
     Page<MovieEntity> findByTitleOrGenreContaining(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * Find the ID, title and genre of every movie for the search index
+     * 검색 색인 구성을 위한 전체 영화의 ID, 제목, 장르 조회
+     */
+    @Query("SELECT m.id, m.title, m.genre FROM MovieEntity m")
+    List<Object[]> findSearchDocuments();
+
     /**
      * Find all movies ordered by recommendation count descending
      * 추천 수 내림차순으로 모든 영화 조회
@@ -58,6 +90,58 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
     @Query("SELECT m FROM MovieEntity m ORDER BY m.recommendationCount DESC, m.createdAt DESC")
     List<MovieEntity> findTopMoviesByRecommendationCount(Pageable pageable);
 
+    /**
+     * Find ranking keys (id, recommendation count, created at) in leaderboard order
+     * 순위 정렬 기준 (ID, 추천 수, 등록일) 조회 - 리더보드 적재 및 검증용
+     */
+    @Query("SELECT m.id, m.recommendationCount, m.createdAt FROM MovieEntity m " +
+           "ORDER BY m.recommendationCount DESC, m.createdAt DESC")
+    List<Object[]> findRankings(Pageable pageable);
+
+    /**
+     * Find the first slice ordered by created at (keyset pagination)
+     * 등록일 내림차순 첫 슬라이스 조회 (키셋 페이징, MySQL 내림차순 정렬에서 등록일이 없는 행은 마지막)
+     */
+    @Query("SELECT m FROM MovieEntity m ORDER BY m.createdAt DESC, m.id DESC")
+    Slice<MovieEntity> findSliceOrderByCreatedAt(Pageable pageable);
+
+    /**
+     * Find the slice after (createdAt, id) ordered by created at (keyset pagination, idx_created_at)
+     * (등록일, ID) 이후의 슬라이스 조회 (키셋 페이징, idx_created_at 사용, 등록일이 없는 행은 제외)
+     */
+    @Query("SELECT m FROM MovieEntity m " +
+           "WHERE m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    Slice<MovieEntity> findSliceOrderByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    /**
+     * Find the slice after id among movies without a created at (end of the created at order)
+     * 등록일이 없는 영화 중 ID 이후의 슬라이스 조회 (등록일 정렬의 마지막 구간)
+     */
+    @Query("SELECT m FROM MovieEntity m WHERE m.createdAt IS NULL AND m.id < :id ORDER BY m.id DESC")
+    Slice<MovieEntity> findSliceWithoutCreatedAtAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the first slice ordered by recommendation count (keyset pagination)
+     * 추천 수 내림차순 첫 슬라이스 조회 (키셋 페이징)
+     */
+    @Query("SELECT m FROM MovieEntity m ORDER BY m.recommendationCount DESC, m.id DESC")
+    Slice<MovieEntity> findSliceOrderByRecommendationCount(Pageable pageable);
+
+    /**
+     * Find the slice after (recommendationCount, id) (keyset pagination, idx_recommendation_count)
+     * (추천 수, ID) 이후의 슬라이스 조회 (키셋 페이징, idx_recommendation_count 사용)
+     */
+    @Query("SELECT m FROM MovieEntity m " +
+           "WHERE m.recommendationCount < :recommendationCount " +
+           "OR (m.recommendationCount = :recommendationCount AND m.id < :id) " +
+           "ORDER BY m.recommendationCount DESC, m.id DESC")
+    Slice<MovieEntity> findSliceOrderByRecommendationCountAfter(@Param("recommendationCount") Integer recommendationCount,
+                                                                @Param("id") Long id,
+                                                                Pageable pageable);
+
     /**
      * Find movies by release date
      * 개봉일별 영화 검색
@@ -70,6 +154,97 @@ public interface MovieRepository extends JpaRepository<MovieEntity, Long> {
      */
     Page<MovieEntity> findByReleaseDateContaining(String year, Pageable pageable);
 
+    /**
+     * Find movies released in the year (idx_release_year)
+     * 개봉 연도별 영화 조회 (idx_release_year 사용)
+     */
+    Page<MovieEntity> findByReleaseYear(Integer releaseYear, Pageable pageable);
+
+    /**
+     * Find movies released between the years, inclusive (idx_release_year)
+     * 개봉 연도 범위로 영화 조회 (양 끝 포함, idx_release_year 사용)
+     */
+    Page<MovieEntity> findByReleaseYearBetween(Integer fromYear, Integer toYear, Pageable pageable);
+
+    /**
+     * Find movies whose typed release date columns have not been derived yet (backfill)
+     * 개봉일 컬럼이 아직 채워지지 않은 영화의 ID와 개봉일 원문 조회 (ID 순, 백필용)
+     */
+    @Query("SELECT m.id, m.releaseDate FROM MovieEntity m " +
+           "WHERE m.id > :afterId AND m.releaseDate IS NOT NULL AND m.releaseYear IS NULL " +
+           "ORDER BY m.id")
+    List<Object[]> findUnparsedReleaseDates(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Set the typed release date columns of a movie without touching updatedAt (backfill)
+     * 영화의 개봉일/개봉 연도 컬럼 설정 (백필용)
+     */
+    @Modifying
+    @Query("UPDATE MovieEntity m SET m.releasedOn = :releasedOn, m.releaseYear = :releaseYear WHERE m.id = :id")
+    int updateReleaseDateColumns(@Param("id") Long id,
+                                 @Param("releasedOn") LocalDate releasedOn,
+                                 @Param("releaseYear") Integer releaseYear);
+
+    /**
+     * Atomically add a delta to the recommendation count (never below zero)
+     * 추천 수를 단일 UPDATE 문으로 증감 (0 미만으로 내려가지 않음, 다른 컬럼은 갱신하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE MovieEntity m SET " +
+           "m.recommendationCount = CASE WHEN COALESCE(m.recommendationCount, 0) + :delta < 0 THEN 0 " +
+           "ELSE COALESCE(m.recommendationCount, 0) + :delta END, " +
+           "m.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE m.id = :id")
+    int addRecommendationCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Lock the movie row before its recommendations change (SELECT ... FOR UPDATE)
+     * 추천 행 변경 전 영화 행에 배타 잠금 (직접 모드에서 추천 수 UPDATE 와 같은 잠금 순서 유지용)
+     *
+     * @return 영화 ID, 영화가 없으면 빈 값
+     */
+    @Query(value = "SELECT id FROM movies WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Find the current recommendation count of a movie
+     * 영화의 현재 추천 수 조회
+     */
+    @Query("SELECT m.recommendationCount FROM MovieEntity m WHERE m.id = :id")
+    Integer findRecommendationCountById(@Param("id") Long id);
+
+    /**
+     * Recompute the recommendation count of the given movies from movie_recommendations
+     * movie_recommendations 기준으로 주어진 영화들의 추천 수를 한 번에 재계산
+     */
+    @Modifying
+    @Query(value = "UPDATE movies m SET " +
+           "m.recommendation_count = (SELECT COUNT(*) FROM movie_recommendations r WHERE r.movie_id = m.id), " +
+           "m.updated_at = CURRENT_TIMESTAMP " +
+           "WHERE m.id IN (:ids)", nativeQuery = true)
+    int recountRecommendations(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the largest movie ID (0 when there are no movies)
+     * 가장 큰 영화 ID 조회 (영화가 없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM MovieEntity m")
+    long findMaxId();
+
+    /**
+     * Find all movie IDs in ascending order
+     * 모든 영화 ID를 오름차순으로 조회
+     */
+    @Query("SELECT m.id FROM MovieEntity m ORDER BY m.id")
+    List<Long> findAllIds();
+
+    /**
+     * Find the titles of all movies
+     * 모든 영화 제목 조회 (대량 적재 시 제목 중복 검사용)
+     */
+    @Query("SELECT m.title FROM MovieEntity m")
+    List<String> findAllTitles();
+
     /**
      * Find all distinct genres
      * 모든 고유 장르 조회
@@ -0,0 +1,161 @@
+package com.tel.member.security;
+
+import com.tel.member.dto.MemberDTO;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Login state of the current request, kept in the HttpSession or in a signed token
+ * 현재 요청의 로그인 상태 관리 (HttpSession 또는 서명 토큰 방식)
+ *
+ * <p>Session mode (default, {@code member.auth.mode=session}) stores the member ID in the
+ * HttpSession as before. Token mode ({@code member.auth.mode=token}) issues an HMAC-signed,
+ * expiring token on login, returned in the response body and as an HttpOnly cookie.
+ * {@link TokenAuthenticationFilter} verifies it on every request without a server-side
+ * lookup, so any node sharing {@code member.auth.token.secret} can serve the member and no
+ * sticky sessions or per-member heap state are needed. The secret is required in token mode
+ * (at least 32 bytes); startup fails without it. Stateless tokens cannot be revoked before
+ * they expire: logout only clears the cookie, so keep the TTL short.</p>
+ */
+@Component
+@Slf4j
+public class LoginContext {
+
+    public static final String TOKEN_COOKIE = "MEMBER_TOKEN";
+    static final String MEMBER_ID_ATTRIBUTE = LoginContext.class.getName() + ".memberId";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final boolean stateless;
+    private final LoginTokenCodec tokenCodec;
+
+    public LoginContext(
+            @Value("${member.auth.mode:session}") String mode,
+            @Value("${member.auth.token.secret:}") String secret,
+            @Value("${member.auth.token.ttl-seconds:3600}") long ttlSeconds) {
+        this(mode, secret, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    LoginContext(String mode, String secret, Duration ttl, Clock clock) {
+        switch (mode.toLowerCase(Locale.ROOT)) {
+            case "session" -> {
+                this.stateless = false;
+                this.tokenCodec = null;
+            }
+            case "token" -> {
+                this.stateless = true;
+                this.tokenCodec = new LoginTokenCodec(secretBytes(secret), ttl, clock);
+                log.info("Stateless token login enabled (ttl {} s)", ttl.toSeconds());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 인증 방식입니다: " + mode + " (session, token)");
+        }
+    }
+
+    /**
+     * Whether login state is carried by signed tokens instead of the HttpSession
+     * 세션 대신 서명 토큰으로 로그인 상태를 유지하는지 여부
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
+    /**
+     * Record a successful login
+     * 로그인 성공 처리 (세션 저장 또는 토큰 발급)
+     *
+     * @return 토큰 모드에서는 발급한 토큰과 만료 시각, 세션 모드에서는 null
+     */
+    public LoginToken login(HttpServletRequest request, HttpServletResponse response, MemberDTO member) {
+        if (!stateless) {
+            HttpSession session = request.getSession();
+            session.setAttribute("loginId", member.getId());
+            session.setAttribute("loginEmail", member.getEmail()); // MemberApiController와의 호환성을 위해 추가
+            return null;
+        }
+        LoginToken issued = tokenCodec.issue(member.getId());
+        response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie(issued.token(), tokenCodec.getTtl()).toString());
+        request.setAttribute(MEMBER_ID_ATTRIBUTE, member.getId());
+        return issued;
+    }
+
+    /**
+     * Logged-in member ID of the current request
+     * 현재 요청의 로그인 회원 ID
+     *
+     * @return 회원 ID, 로그인하지 않았으면 null
+     */
+    public String getLoginId(HttpServletRequest request) {
+        if (stateless) {
+            return (String) request.getAttribute(MEMBER_ID_ATTRIBUTE);
+        }
+        // 조회만으로 세션을 만들지 않음
+        HttpSession session = request.getSession(false);
+        return session == null ? null : (String) session.getAttribute("loginId");
+    }
+
+    /**
+     * Log out the current request's member
+     * 로그아웃 처리 (세션 무효화 또는 토큰 쿠키 삭제)
+     */
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        if (!stateless) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            return;
+        }
+        request.removeAttribute(MEMBER_ID_ATTRIBUTE);
+        response.addHeader(HttpHeaders.SET_COOKIE, tokenCookie("", Duration.ZERO).toString());
+    }
+
+    /**
+     * Verify the token of a request (Authorization: Bearer header, then cookie)
+     * 요청의 토큰 검증 (Authorization: Bearer 헤더, 없으면 쿠키)
+     *
+     * @return 회원 ID, 토큰이 없거나 유효하지 않으면 null
+     */
+    String authenticate(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return tokenCodec.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (TOKEN_COOKIE.equals(cookie.getName())) {
+                    return tokenCodec.verify(cookie.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ResponseCookie tokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .path("/")
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private static byte[] secretBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            // 임의 키로 시작하면 재시작하거나 다른 노드로 가는 순간 토큰이 무효가 되므로 시작을 막음
+            throw new IllegalArgumentException("토큰 인증 방식에는 member.auth.token.secret 설정이 필요합니다");
+        }
+        return secret.getBytes(StandardCharsets.UTF_8);
+    }
+}
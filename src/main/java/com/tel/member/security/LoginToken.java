@@ -0,0 +1,10 @@
+package com.tel.member.security;
+
+import java.time.Instant;
+
+/**
+ * Issued login token and its expiry
+ * 발급된 로그인 토큰과 만료 시각
+ */
+public record LoginToken(String token, Instant expiresAt) {
+}
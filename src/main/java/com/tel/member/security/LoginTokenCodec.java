@@ -0,0 +1,99 @@
+package com.tel.member.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed, expiring login tokens
+ * HMAC-SHA256 서명 / 만료 시각이 포함된 로그인 토큰 발급 및 검증
+ *
+ * <p>Format: {@code base64url(memberId).expiresAtEpochSecond.base64url(signature)}. The
+ * signature covers the first two parts, so verification needs only the shared secret and
+ * no server-side lookup; any node holding the same secret accepts the token.</p>
+ */
+class LoginTokenCodec {
+
+    static final int MIN_SECRET_BYTES = 32;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    LoginTokenCodec(byte[] secret, Duration ttl, Clock clock) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("토큰 서명 키는 최소 " + MIN_SECRET_BYTES + "바이트여야 합니다");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Issue a token for a member
+     * 회원 토큰 발급
+     */
+    LoginToken issue(String memberId) {
+        Instant expiresAt = Instant.ofEpochSecond(clock.instant().plus(ttl).getEpochSecond());
+        String payload = ENCODER.encodeToString(memberId.getBytes(StandardCharsets.UTF_8))
+                + "." + expiresAt.getEpochSecond();
+        return new LoginToken(payload + "." + ENCODER.encodeToString(sign(payload)), expiresAt);
+    }
+
+    /**
+     * Verify a token
+     * 토큰 검증
+     *
+     * @return 회원 ID, 형식 / 서명이 잘못되었거나 만료된 경우 null
+     */
+    String verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int signatureStart = token.lastIndexOf('.');
+        int expiryStart = signatureStart > 0 ? token.lastIndexOf('.', signatureStart - 1) : -1;
+        if (expiryStart <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, signatureStart);
+        try {
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            // 상수 시간 비교 (타이밍 공격 방지)
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(token.substring(expiryStart + 1, signatureStart));
+            if (clock.instant().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+            return new String(DECODER.decode(token.substring(0, expiryStart)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 Base64 / 숫자
+            return null;
+        }
+    }
+
+    Duration getTtl() {
+        return ttl;
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            // Mac 은 스레드 안전하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 서명 실패", e);
+        }
+    }
+}
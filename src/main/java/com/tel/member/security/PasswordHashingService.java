@@ -0,0 +1,231 @@
+package com.tel.member.security;
+
+import com.tel.member.aop.SensitiveArgs;
+import com.tel.member.cache.CacheStatsProvider;
+import com.tel.member.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntToLongFunction;
+
+/**
+ * BCrypt hashing and verification on a dedicated, bounded executor
+ * 전용 제한 스레드 풀에서 실행되는 BCrypt 암호화 / 검증 서비스
+ *
+ * <p>BCrypt is deliberately CPU-heavy. Running it on Tomcat request threads lets a login
+ * burst occupy every worker and starve cheap reads, so hashing runs on a fixed pool sized
+ * to the CPU count with a bounded queue. When the queue is full (or a queued task waits
+ * longer than the timeout) the request fails fast with {@link PasswordHashingBusyException}
+ * (503) instead of piling up. With {@code member.password.calibrate=true} the BCrypt
+ * strength is chosen at startup as the highest cost whose verify time stays within
+ * {@code member.password.target-millis} on this host (never below the default 10). Hashes
+ * embed their cost, so existing passwords keep verifying after the strength changes.
+ * Kept in the security package, outside the service-layer logging and latency pointcuts,
+ * so the raw passwords passed to encode / matches never reach the call log; {@link SensitiveArgs}
+ * keeps them masked should it ever be woven again.</p>
+ */
+@Service
+@SensitiveArgs
+@Slf4j
+public class PasswordHashingService implements CacheStatsProvider {
+
+    static final int MIN_CALIBRATED_STRENGTH = 10;
+    static final int MAX_CALIBRATED_STRENGTH = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHashingService(
+            @Value("${member.password.threads:0}") int threads,
+            @Value("${member.password.queue-capacity:64}") int queueCapacity,
+            @Value("${member.password.timeout-millis:3000}") long timeoutMillis,
+            @Value("${member.password.strength:10}") int strength,
+            @Value("${member.password.calibrate:false}") boolean calibrate,
+            @Value("${member.password.target-millis:250}") long targetMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.strength = calibrate
+                ? calibrateStrength(TimeUnit.MILLISECONDS.toNanos(targetMillis), PasswordHashingService::measureVerifyNanos)
+                : strength;
+        this.encoder = new BCryptPasswordEncoder(this.strength);
+        log.info("Password hashing pool: {} threads, queue {}, BCrypt strength {}{}",
+                poolSize, queueCapacity, this.strength, calibrate ? " (calibrated for " + targetMillis + " ms)" : "");
+    }
+
+    /**
+     * Hash a raw password
+     * 비밀번호 암호화
+     *
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 처리되지 않은 경우
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Verify a raw password against a stored hash
+     * 비밀번호와 저장된 해시 비교
+     *
+     * @throws PasswordHashingBusyException 대기열이 가득 찼거나 제한 시간 안에 처리되지 않은 경우
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * BCrypt strength in use
+     * 사용 중인 BCrypt 강도
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future = submit(task);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많아 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Queue a task, rejecting immediately when the queue is full
+     * 작업을 대기열에 추가 (가득 차 있으면 즉시 거절)
+     */
+    <T> Future<T> submit(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record(queueWaitNanos, maxQueueWaitNanos, startedAt - queuedAt);
+                try {
+                    return task.call();
+                } finally {
+                    record(hashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("비밀번호 처리 요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Highest strength whose verify time stays within the target (cost doubles per step)
+     * 검증 시간이 목표 이내인 가장 높은 강도 선택 (강도 1 증가마다 비용 2배)
+     *
+     * @param targetNanos 목표 검증 시간
+     * @param verifyNanos 강도별 검증 시간 측정 함수
+     * @return 선택된 강도 ({@value #MIN_CALIBRATED_STRENGTH} ~ {@value #MAX_CALIBRATED_STRENGTH})
+     */
+    static int calibrateStrength(long targetNanos, IntToLongFunction verifyNanos) {
+        int chosen = MIN_CALIBRATED_STRENGTH;
+        long measured = verifyNanos.applyAsLong(chosen);
+        // 다음 강도는 약 2배가 걸리므로 측정 전에 목표 초과 여부를 예측해 불필요한 측정을 피함
+        while (chosen < MAX_CALIBRATED_STRENGTH && measured * 2 <= targetNanos) {
+            long next = verifyNanos.applyAsLong(chosen + 1);
+            if (next > targetNanos) {
+                break;
+            }
+            chosen++;
+            measured = next;
+        }
+        return chosen;
+    }
+
+    private static long measureVerifyNanos(int strength) {
+        BCryptPasswordEncoder candidate = new BCryptPasswordEncoder(strength);
+        String hash = candidate.encode("calibration-password");
+        long best = Long.MAX_VALUE;
+        // 최솟값 사용: JIT 워밍업과 일시적인 부하의 영향 제거
+        for (int i = 0; i < 3; i++) {
+            long started = System.nanoTime();
+            candidate.matches("calibration-password", hash);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        return best;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String getCacheName() {
+        return "passwordHashing";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long completed = executor.getCompletedTaskCount();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("strength", strength);
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", completed);
+        stats.put("rejected", rejected.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("avgQueueWaitMicros", completed == 0 ? 0 : queueWaitNanos.sum() / completed / 1_000);
+        stats.put("maxQueueWaitMicros", maxQueueWaitNanos.get() / 1_000);
+        stats.put("avgHashMicros", completed == 0 ? 0 : hashNanos.sum() / completed / 1_000);
+        stats.put("maxHashMicros", maxHashNanos.get() / 1_000);
+        return stats;
+    }
+}
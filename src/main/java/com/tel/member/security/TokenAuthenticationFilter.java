@@ -0,0 +1,42 @@
+package com.tel.member.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying a valid login token (token mode only)
+ * 유효한 로그인 토큰이 있는 요청 인증 (토큰 모드 전용)
+ *
+ * <p>Invalid or expired tokens are ignored, so the request continues unauthenticated and
+ * the endpoints answer 401 exactly as they do without a session. Registered in the
+ * security filter chain by {@link com.tel.member.config.SecurityConfig}, not as a servlet
+ * filter bean.</p>
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private final LoginContext loginContext;
+
+    public TokenAuthenticationFilter(LoginContext loginContext) {
+        this.loginContext = loginContext;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String memberId = loginContext.authenticate(request);
+        if (memberId != null) {
+            request.setAttribute(LoginContext.MEMBER_ID_ATTRIBUTE, memberId);
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(memberId, null, List.of()));
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,100 @@
+package com.tel.member.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV (RFC 4180) record reader
+ * 최소 기능 스트리밍 CSV (RFC 4180) 레코드 리더
+ *
+ * <p>Supports quoted fields containing commas, line breaks and doubled quotes. Reads one
+ * record at a time so large files are never held in memory. The caller owns the reader.</p>
+ */
+class CsvRecordReader {
+
+    private static final int BOM = '\uFEFF';
+
+    private final Reader reader;
+    private int pushedBack = -2;
+    private boolean firstChar = true;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Read the next record
+     * 다음 레코드 읽기
+     *
+     * @return 필드 목록, 입력이 끝났으면 null (빈 줄은 빈 목록)
+     * @throws IllegalArgumentException 따옴표가 닫히지 않은 채 입력이 끝난 경우
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("따옴표가 닫히지 않은 CSV 필드가 있습니다");
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        pushedBack = following;
+                    }
+                }
+                if (!empty || !fields.isEmpty()) {
+                    fields.add(field.toString());
+                }
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                empty = false;
+            } else {
+                field.append((char) c);
+                empty = false;
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (firstChar) {
+            firstChar = false;
+            if (c == BOM) {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
@@ -0,0 +1,492 @@
+package com.tel.member.service;
+
+import com.tel.member.config.IdSequenceAligner;
+import com.tel.member.dto.DatasetGenerationResultDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
+import com.tel.member.security.PasswordHashingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bulk load of a synthetic movie / member / recommendation dataset
+ * 영화 / 회원 / 추천 합성 데이터셋 대량 적재 서비스
+ *
+ * <p>Rows are generated in fixed-size chunks on {@code member.dataset.threads} workers and
+ * written with plain JDBC batches (one multi-row INSERT per batch on MySQL with
+ * {@code rewriteBatchedStatements=true}), one transaction per batch, with IDs assigned
+ * here instead of fetched from the sequences. Each chunk has its own random seed, its IDs are
+ * derived from its index (a counting pass sizes the genre and recommendation ranges per chunk
+ * first) and timestamps are offsets from a fixed epoch, so the same settings on the same starting
+ * IDs produce the same rows regardless of thread scheduling. Workers are capped at the
+ * connection pool size, since each one holds a connection for its batch.</p>
+ * <ul>
+ *     <li>Movies: Korean titles, 1-3 genres per movie (genre mappings written alongside)</li>
+ *     <li>Members: Korean names, all sharing one BCrypt hash of the given password</li>
+ *     <li>Recommendations: movies drawn from a Zipf (power-law) popularity distribution,
+ *     distinct per member; recommendation_count is recounted afterwards</li>
+ * </ul>
+ * <p>Meant for an otherwise idle database (e.g. the CLI mode, before requests are served):
+ * new IDs start after the current maximum and the ID sequences are moved past them at the end.
+ * The in-memory caches are not updated, so restart the application after loading.</p>
+ */
+@Service
+@Slf4j
+public class DatasetGeneratorService {
+
+    private static final String INSERT_MOVIE =
+            "INSERT INTO movies (id, title, genre, release_date, released_on, release_year, description, " +
+            "poster_url, recommendation_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_MOVIE_GENRE = "INSERT INTO movie_genres (id, movie_id, genre) VALUES (?, ?, ?)";
+    private static final String INSERT_MEMBER =
+            "INSERT INTO member_table (id, name, birth, email, password, join_date, grade) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RECOMMENDATION =
+            "INSERT INTO movie_recommendations (id, movie_id, member_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String RECOUNT =
+            "UPDATE movies SET recommendation_count = " +
+            "(SELECT COUNT(*) FROM movie_recommendations r WHERE r.movie_id = movies.id) WHERE id BETWEEN ? AND ?";
+
+    private static final int RECOUNT_CHUNK_SIZE = 10_000;
+
+    /** 생성 시각 기준점 (now() 대신 고정값: 실행 시각과 무관하게 같은 데이터) */
+    static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    static final String[] TITLE_PREFIXES = {"잃어버린", "마지막", "푸른", "검은", "비밀의", "우리들의", "한여름의", "서울의",
+            "미래의", "조용한", "위험한", "아름다운", "차가운", "뜨거운", "끝없는", "작은", "거대한", "두 번째", "어느 날의", "그해"};
+    static final String[] TITLE_NOUNS = {"약속", "전쟁", "바다", "기억", "도시", "여름", "사랑", "복수", "계절", "편지",
+            "추적자", "가족", "연인", "형사", "탈출", "왕국", "섬", "밤", "친구", "비행", "레시피", "학교", "열차", "거짓말",
+            "유산", "신호", "정원", "그림자", "항해", "목격자"};
+    static final String[] TITLE_SUFFIXES = {"", "", "", "", " 2", " 3", ": 더 비기닝", " 리턴즈", "의 비밀", ": 최후의 날"};
+    static final String[] GENRES = {"액션", "드라마", "코미디", "스릴러", "로맨스", "애니메이션", "SF", "공포", "범죄",
+            "판타지", "다큐멘터리", "가족", "뮤지컬", "전쟁"};
+    static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신",
+            "권", "황", "안", "송", "류", "홍"};
+    static final String[] NAME_SYLLABLES = {"민", "서", "지", "현", "준", "우", "예", "도", "하", "윤", "수", "은", "영",
+            "진", "재", "성", "유", "아", "주", "호", "연", "원", "태", "빈"};
+    private static final String[] GRADES = {"A", "B", "B", "C", "C", "C", "C"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final IdSequenceAligner idSequenceAligner;
+    private final int batchSize;
+    private final int threads;
+
+    public DatasetGeneratorService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PasswordHashingService passwordHashingService,
+            IdSequenceAligner idSequenceAligner,
+            @Value("${member.dataset.batch-size:5000}") int batchSize,
+            @Value("${member.dataset.threads:0}") int threads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordHashingService = passwordHashingService;
+        this.idSequenceAligner = idSequenceAligner;
+        this.batchSize = batchSize;
+        int requested = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 작업 스레드마다 배치 동안 커넥션을 하나씩 잡으므로 풀 크기를 넘기면 커넥션 대기 타임아웃으로 실패
+        this.threads = Math.max(1, Math.min(requested, poolSize));
+        if (this.threads < requested) {
+            log.info("Dataset threads capped at the connection pool size: {} -> {}", requested, this.threads);
+        }
+    }
+
+    /**
+     * Dataset volumes and distribution settings
+     * 적재할 데이터 양과 분포 설정
+     *
+     * @param movies 영화 수
+     * @param members 회원 수
+     * @param recommendations 추천 수 (목표치, 회원별 추천 수는 이 평균의 기하 분포)
+     * @param zipfExponent 영화 인기도 Zipf 지수 (0 이면 균등, 1 전후가 일반적인 롱테일)
+     * @param seed 난수 시드 (같은 설정이면 같은 데이터)
+     * @param memberIdPrefix 생성할 회원 ID 접두사 (기존 회원과 겹치면 안 됨)
+     * @param password 모든 생성 회원의 비밀번호
+     */
+    public record Spec(long movies, long members, long recommendations, double zipfExponent, long seed,
+                       String memberIdPrefix, String password) {
+    }
+
+    /**
+     * Generate and bulk-load the dataset
+     * 데이터셋 생성 및 대량 적재
+     *
+     * @throws IllegalArgumentException 설정 값이 잘못된 경우
+     * @throws IllegalStateException 같은 접두사의 회원이 이미 있는 경우
+     */
+    public DatasetGenerationResultDto generate(Spec spec) {
+        validate(spec);
+        long started = System.nanoTime();
+        log.info("Generating dataset: {} movies, {} members, ~{} recommendations (zipf {}, seed {}) on {} threads, batch {}",
+                spec.movies(), spec.members(), spec.recommendations(), spec.zipfExponent(), spec.seed(), threads, batchSize);
+
+        long firstMovieId = nextId("movies");
+        AtomicLong genreRows = new AtomicLong();
+        long moviesStarted = System.nanoTime();
+        long[] genreCounts = new long[chunkCount(spec.movies())];
+        runChunks(spec.movies(), spec.seed(), (from, to, random) ->
+                genreCounts[chunkIndex(from)] = generateMovies(firstMovieId, from, to, random).genres().size());
+        long[] firstGenreIds = firstIds(nextId("movie_genres"), genreCounts);
+        runChunks(spec.movies(), spec.seed(), (from, to, random) ->
+                insertMovies(firstMovieId, from, to, random, firstGenreIds[chunkIndex(from)], genreRows));
+        long moviesMillis = millisSince(moviesStarted);
+        log.info("Inserted {} movies and {} genre mappings in {} ms", spec.movies(), genreRows.get(), moviesMillis);
+
+        // BCrypt 는 한 번만: 회원 수백만 명을 개별 해시하면 적재 시간 대부분을 차지함
+        String passwordHash = passwordHashingService.encode(spec.password());
+        long membersStarted = System.nanoTime();
+        runChunks(spec.members(), spec.seed() + 1, (from, to, random) -> insertMembers(spec, passwordHash, from, to, random));
+        long membersMillis = millisSince(membersStarted);
+        log.info("Inserted {} members in {} ms", spec.members(), membersMillis);
+
+        long recommendationsStarted = System.nanoTime();
+        long recommendations = 0;
+        if (spec.recommendations() > 0) {
+            ZipfSampler popularity = new ZipfSampler((int) spec.movies(), spec.zipfExponent());
+            AtomicLong inserted = new AtomicLong();
+            double perMember = (double) spec.recommendations() / spec.members();
+            long[] recommendationCounts = new long[chunkCount(spec.members())];
+            runChunks(spec.members(), spec.seed() + 2, (from, to, random) -> generateRecommendations(spec,
+                    firstMovieId, popularity, perMember, from, to, random, row -> recommendationCounts[chunkIndex(from)]++));
+            long[] firstRecommendationIds = firstIds(nextId("movie_recommendations"), recommendationCounts);
+            runChunks(spec.members(), spec.seed() + 2, (from, to, random) -> insertRecommendations(spec, firstMovieId,
+                    popularity, perMember, from, to, random, firstRecommendationIds[chunkIndex(from)], inserted));
+            recommendations = inserted.get();
+            recount(firstMovieId, firstMovieId + spec.movies() - 1);
+        }
+        long recommendationsMillis = millisSince(recommendationsStarted);
+        log.info("Inserted {} recommendations (recounted) in {} ms", recommendations, recommendationsMillis);
+
+        idSequenceAligner.alignAfterBulkLoad();
+
+        long elapsedMillis = millisSince(started);
+        long rows = spec.movies() + genreRows.get() + spec.members() + recommendations;
+        DatasetGenerationResultDto result = DatasetGenerationResultDto.builder()
+                .movies(spec.movies())
+                .movieGenres(genreRows.get())
+                .members(spec.members())
+                .recommendations(recommendations)
+                .moviesMillis(moviesMillis)
+                .membersMillis(membersMillis)
+                .recommendationsMillis(recommendationsMillis)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis)
+                .build();
+        log.info("Dataset generated: {}", result);
+        return result;
+    }
+
+    private void validate(Spec spec) {
+        if (spec.movies() < 1 || spec.members() < 1 || spec.recommendations() < 0) {
+            throw new IllegalArgumentException("영화와 회원은 1 이상, 추천은 0 이상이어야 합니다.");
+        }
+        if (spec.movies() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("영화 수는 " + Integer.MAX_VALUE + " 이하여야 합니다.");
+        }
+        if (spec.recommendations() > spec.movies() * spec.members() / 2) {
+            throw new IllegalArgumentException("추천 수는 영화 수 x 회원 수의 절반 이하여야 합니다.");
+        }
+        if (spec.zipfExponent() < 0) {
+            throw new IllegalArgumentException("Zipf 지수는 0 이상이어야 합니다.");
+        }
+        if (spec.memberIdPrefix() == null || spec.memberIdPrefix().isBlank()
+                || spec.memberIdPrefix().length() > 40) {
+            throw new IllegalArgumentException("회원 ID 접두사는 1 ~ 40자여야 합니다.");
+        }
+        if (spec.password() == null || spec.password().isEmpty()) {
+            throw new IllegalArgumentException("비밀번호는 필수입니다.");
+        }
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member_table WHERE id LIKE ?", Long.class, spec.memberIdPrefix() + "%");
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("ID가 '" + spec.memberIdPrefix() + "' 로 시작하는 회원이 이미 " + existing
+                    + "명 있습니다. 다른 접두사를 사용하세요.");
+        }
+    }
+
+    private record MovieRows(List<Object[]> movies, List<Object[]> genres) {
+    }
+
+    /**
+     * Rows of one movie chunk; genre IDs are left null for the caller to assign
+     * 영화 청크 하나의 행 생성 (장르 매핑 ID 는 호출자가 채움)
+     */
+    private MovieRows generateMovies(long firstMovieId, long from, long to, SplittableRandom random) {
+        List<Object[]> movies = new ArrayList<>((int) (to - from));
+        List<Object[]> genres = new ArrayList<>();
+        for (long index = from; index < to; index++) {
+            long id = firstMovieId + index;
+            String title = pick(random, TITLE_PREFIXES) + " " + pick(random, TITLE_NOUNS) + pick(random, TITLE_SUFFIXES);
+            String genre = randomGenres(random);
+            LocalDate released = LocalDate.of(1960 + random.nextInt(66), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            String releaseDate = released.toString();
+            Timestamp createdAt = Timestamp.valueOf(EPOCH.minusMinutes(random.nextLong(5L * 365 * 24 * 60)));
+            LocalDate releasedOn = MovieEntity.parseReleaseDate(releaseDate);
+            movies.add(new Object[]{id, title, genre, releaseDate, releasedOn == null ? null : Date.valueOf(releasedOn),
+                    MovieEntity.parseReleaseYear(releaseDate), "「" + title + "」 " + genre + " 장르의 합성 데이터 영화입니다.",
+                    "https://example.com/posters/" + id + ".jpg", createdAt, createdAt});
+            for (String mapped : MovieGenreEntity.parseGenres(genre)) {
+                genres.add(new Object[]{null, id, mapped});
+            }
+        }
+        return new MovieRows(movies, genres);
+    }
+
+    private void insertMovies(long firstMovieId, long from, long to, SplittableRandom random,
+                              long firstGenreId, AtomicLong genreRows) {
+        MovieRows rows = generateMovies(firstMovieId, from, to, random);
+        List<Object[]> movies = rows.movies();
+        List<Object[]> genres = rows.genres();
+        for (int i = 0; i < genres.size(); i++) {
+            genres.get(i)[0] = firstGenreId + i;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_MOVIE, movies);
+            jdbcTemplate.batchUpdate(INSERT_MOVIE_GENRE, genres);
+        });
+        genreRows.addAndGet(genres.size());
+    }
+
+    private void insertMembers(Spec spec, String passwordHash, long from, long to, SplittableRandom random) {
+        List<Object[]> members = new ArrayList<>((int) (to - from));
+        for (long index = from; index < to; index++) {
+            String id = memberId(spec, index);
+            String name = pick(random, SURNAMES) + pick(random, NAME_SYLLABLES) + pick(random, NAME_SYLLABLES);
+            LocalDate birth = LocalDate.of(1950 + random.nextInt(60), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            LocalDate joinDate = EPOCH.toLocalDate().minusDays(random.nextInt(5 * 365));
+            members.add(new Object[]{id, name, birth.toString().replace("-", ""), id + "@example.com", passwordHash,
+                    Date.valueOf(joinDate), pick(random, GRADES)});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_MEMBER, members));
+    }
+
+    private void insertRecommendations(Spec spec, long firstMovieId, ZipfSampler popularity, double perMember,
+                                       long from, long to, SplittableRandom random,
+                                       long firstRecommendationId, AtomicLong inserted) {
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        long[] nextId = {firstRecommendationId};
+        Runnable flush = () -> {
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_RECOMMENDATION, rows));
+            inserted.addAndGet(rows.size());
+            rows.clear();
+        };
+        generateRecommendations(spec, firstMovieId, popularity, perMember, from, to, random, row -> {
+            row[0] = nextId[0]++;
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush.run();
+            }
+        });
+        flush.run();
+    }
+
+    /**
+     * Recommendation rows of one member chunk, in a fixed order for the given random state
+     * 회원 청크 하나의 추천 행 생성 (같은 난수 상태면 같은 순서, ID 는 호출자가 채움)
+     */
+    private void generateRecommendations(Spec spec, long firstMovieId, ZipfSampler popularity, double perMember,
+                                         long from, long to, SplittableRandom random, Consumer<Object[]> sink) {
+        Set<Long> chosen = new HashSet<>();
+        long maxPerMember = Math.max(1, spec.movies() / 2);
+        for (long index = from; index < to; index++) {
+            String memberId = memberId(spec, index);
+            long count = Math.min(recommendationsFor(random, perMember), maxPerMember);
+            chosen.clear();
+            // 인기 영화에 쏠리므로 중복은 다시 뽑되, 시도 횟수를 제한
+            for (long attempt = 0; chosen.size() < count && attempt < count * 20; attempt++) {
+                long movieId = firstMovieId + popularity.sampleMovieIndex(random);
+                if (chosen.add(movieId)) {
+                    Timestamp createdAt = Timestamp.valueOf(EPOCH.minusMinutes(random.nextLong(2L * 365 * 24 * 60)));
+                    sink.accept(new Object[]{null, movieId, memberId, createdAt});
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of recommendations of one member: geometric with the given mean (at least 1 when mean >= 1)
+     * 회원 한 명의 추천 수: 주어진 평균의 기하 분포 (소수의 활동적인 회원, 다수의 가벼운 회원)
+     */
+    static long recommendationsFor(SplittableRandom random, double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        if (mean < 1) {
+            return random.nextDouble() < mean ? 1 : 0;
+        }
+        double p = 1.0 / mean;
+        if (p >= 1.0) {
+            return 1;
+        }
+        return 1 + (long) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+    }
+
+    private void recount(long firstId, long lastId) {
+        List<Object[]> ranges = new ArrayList<>();
+        for (long from = firstId; from <= lastId; from += RECOUNT_CHUNK_SIZE) {
+            ranges.add(new Object[]{from, Math.min(lastId, from + RECOUNT_CHUNK_SIZE - 1)});
+        }
+        runChunks(ranges.size(), 0, (from, to, random) -> {
+            for (long i = from; i < to; i++) {
+                Object[] range = ranges.get((int) i);
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(RECOUNT, range));
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(long from, long to, SplittableRandom random);
+    }
+
+    /**
+     * Split [0, total) into batch-size chunks and run them on the worker pool
+     * [0, total) 을 배치 크기 단위로 나눠 작업 스레드에서 실행 (청크별 고정 시드)
+     */
+    private void runChunks(long total, long seed, ChunkTask task) {
+        try (ExecutorService workers = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long from = 0; from < total; from += batchSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(total, from + batchSize);
+                SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + chunkFrom);
+                futures.add(workers.submit(() -> task.run(chunkFrom, chunkTo, random)));
+            }
+            try {
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (ExecutionException e) {
+                // 남은 청크는 실행하지 않음 (이미 커밋된 배치는 유지)
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("데이터셋 적재가 중단되었습니다.", e);
+            }
+        }
+    }
+
+    private int chunkCount(long total) {
+        return Math.toIntExact((total + batchSize - 1) / batchSize);
+    }
+
+    private int chunkIndex(long from) {
+        return (int) (from / batchSize);
+    }
+
+    /**
+     * First ID of each chunk: the rows of earlier chunks come first, whatever order the chunks run in
+     * 청크별 시작 ID (실행 순서와 무관하게 앞 청크의 행 수만큼 건너뜀)
+     */
+    private static long[] firstIds(long firstId, long[] counts) {
+        long[] firstIds = new long[counts.length];
+        long next = firstId;
+        for (int i = 0; i < counts.length; i++) {
+            firstIds[i] = next;
+            next += counts[i];
+        }
+        return firstIds;
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (maxId == null ? 0 : maxId) + 1;
+    }
+
+    private static String memberId(Spec spec, long index) {
+        return spec.memberIdPrefix() + String.format("%08d", index);
+    }
+
+    private static String randomGenres(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        int count = roll < 50 ? 1 : roll < 85 ? 2 : 3;
+        List<String> genres = new ArrayList<>(count);
+        while (genres.size() < count) {
+            String genre = pick(random, GENRES);
+            if (!genres.contains(genre)) {
+                genres.add(genre);
+            }
+        }
+        return String.join(", ", genres);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long millisSince(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    /**
+     * Zipf (power-law) distribution over movie popularity ranks
+     * 영화 인기 순위의 Zipf (멱법칙) 분포
+     *
+     * <p>Rank r has weight 1 / r^s; ranks are sampled by binary search over the cumulative
+     * weights and mapped to movie indexes through a fixed stride permutation, so the most
+     * popular movies are spread over the catalog instead of being the first IDs.</p>
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+        private final long stride;
+
+        ZipfSampler(int size, double exponent) {
+            this.cumulative = new double[size];
+            double total = 0;
+            for (int rank = 0; rank < size; rank++) {
+                total += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = total;
+            }
+            long candidate = Math.max(1, (long) (size * 0.618_033_988_7));
+            while (gcd(candidate, size) != 1) {
+                candidate++;
+            }
+            this.stride = candidate;
+        }
+
+        int sampleRank(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        }
+
+        long sampleMovieIndex(SplittableRandom random) {
+            return sampleRank(random) * stride % cumulative.length;
+        }
+
+        private static long gcd(long a, long b) {
+            return b == 0 ? a : gcd(b, a % b);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.dto.MemberSummaryDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Streaming NDJSON export of all members (without passwords)
+ * 전체 회원 NDJSON 스트리밍 내보내기 서비스 (비밀번호 제외)
+ *
+ * <p>Same approach as {@link MovieExportService}: one forward-only, read-only cursor
+ * ({@code member.export.fetch-size}; row-by-row streaming on MySQL, see {@link StreamingFetch})
+ * and every row written straight to the output, so memory use does not depend on the number
+ * of members. Rows are written in ID order.</p>
+ */
+@Service
+@Slf4j
+public class MemberExportService {
+
+    private static final String SELECT_MEMBERS =
+            "SELECT id, name, email, join_date, grade FROM member_table ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public MemberExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${member.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Write all members as NDJSON
+     * 전체 회원을 NDJSON 으로 출력
+     *
+     * @param output 출력 스트림 (닫지 않음)
+     * @return 출력한 회원 수
+     */
+    public long exportSummaries(OutputStream output) throws IOException {
+        long[] count = new long[1];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_MEMBERS,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(StreamingFetch.fetchSize(connection, fetchSize));
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                Date joinDate = resultSet.getDate("join_date");
+                MemberSummaryDto member = new MemberSummaryDto(resultSet.getString("id"), resultSet.getString("name"),
+                        resultSet.getString("email"), joinDate == null ? null : joinDate.toLocalDate(),
+                        resultSet.getString("grade"));
+                try {
+                    output.write(objectMapper.writeValueAsBytes(member));
+                    output.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+        output.flush();
+        log.info("회원 내보내기 완료: {}명", count[0]);
+        return count[0];
+    }
+}
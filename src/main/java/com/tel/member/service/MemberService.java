@@ -1,17 +1,21 @@
 package com.tel.member.service;
 
 import com.tel.member.dto.MemberDTO;
+import com.tel.member.dto.MemberSliceResponseDto;
+import com.tel.member.dto.MemberSummaryDto;
 import com.tel.member.dto.PasswordChangeRequestDto;
 import com.tel.member.entity.MemberEntity;
 import com.tel.member.repository.MemberRepository;
+import com.tel.member.security.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +24,11 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class MemberService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
-    @Autowired
-    private final BCryptPasswordEncoder passwordEncoder;
+    // BCrypt 는 요청 스레드가 아닌 전용 스레드 풀에서 실행
+    private final PasswordHashingService passwordHashingService;
 
     public void save(MemberDTO memberDTO) {
         //1.dto->entity 변환
@@ -34,7 +40,7 @@ public class MemberService {
 
         // 원래 비밀번호 -> 암호화
         String rawPw = memberDTO.getPassword();
-        String encodedPw = passwordEncoder.encode(rawPw);
+        String encodedPw = passwordHashingService.encode(rawPw);
         memberDTO.setPassword(encodedPw);
 
         memberDTO.setJoinDate(LocalDate.now()); //배치작업을 위한 가입날짜 설정
@@ -58,7 +64,7 @@ public class MemberService {
             //조회할 결과가 있다(해당 아이디를 가진 회원 정보가 있다)
             MemberEntity memberEntity = byMemberId.get();
             //if(memberEntity.getPassword().equals(memberDTO.getPassword())){  //비번암호화에 따른 기존 로직 주석처리
-            if(passwordEncoder.matches(memberDTO.getPassword(),memberEntity.getPassword())){
+            if(passwordHashingService.matches(memberDTO.getPassword(),memberEntity.getPassword())){
                 //비밀번호가 일치 하는 경우
                 //entity -> dto 변환 후 리턴
                 //MemberDTO dto = MemberDTO.toMemberDTO(memberEntity); //비번암호화에 따른 기존 로직 주석처리
@@ -78,13 +84,36 @@ public class MemberService {
         
     }
 
-    public List<MemberDTO> findAll() {
-        List<MemberEntity> memberEntityList = memberRepository.findAll();
-        List<MemberDTO> memberDTOList = new ArrayList<>();
-        for(MemberEntity memberEntity:memberEntityList){
-            memberDTOList.add(MemberDTO.toMemberDTO(memberEntity));
+    /**
+     * 회원 목록 페이지 조회 (엔티티 전체 대신 목록에 필요한 컬럼만 조회, 비밀번호 제외)
+     */
+    public Page<MemberSummaryDto> findSummaries(int page, int size) {
+        validatePageSize(size);
+        return memberRepository.findSummaries(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    /**
+     * 커서 기반 회원 목록 조회 (ID 순, 전체 건수 조회 없음)
+     *
+     * @param after 이전 응답의 nextCursor (첫 요청은 null)
+     */
+    public MemberSliceResponseDto scrollSummaries(String after, int size) {
+        validatePageSize(size);
+        Slice<MemberSummaryDto> slice = memberRepository.findSummariesAfter(
+                after == null ? "" : after, PageRequest.of(0, size));
+        List<MemberSummaryDto> members = slice.getContent();
+        return MemberSliceResponseDto.builder()
+                .content(members)
+                .size(members.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() ? members.get(members.size() - 1).getId() : null)
+                .build();
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
         }
-        return memberDTOList;
     }
 
     public MemberDTO findById(String id) {
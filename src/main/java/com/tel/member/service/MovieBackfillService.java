@@ -0,0 +1,156 @@
+package com.tel.member.service;
+
+import com.tel.member.entity.BackfillProgressEntity;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
+import com.tel.member.repository.BackfillProgressRepository;
+import com.tel.member.repository.MovieGenreRepository;
+import com.tel.member.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Backfill of derived movie data for rows written before the data existed
+ * 파생 데이터가 도입되기 전에 저장된 영화 행의 백필 서비스
+ *
+ * <p>Runs once at startup in small ID-ordered batches, each in its own transaction, so a
+ * large table is migrated without one long transaction. Each backfill records the largest
+ * movie ID it has covered in backfill_progress, including rows that had nothing to derive
+ * (a blank genre, an unparseable release date), so later runs only scan movies added since
+ * and the rows written after the migration, which already carry the data, are not scanned
+ * again on every startup.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MovieBackfillService {
+
+    // backfill_progress 의 백필 이름
+    static final String GENRES = "movie_genres";
+    static final String RELEASE_DATES = "release_dates";
+
+    private final MovieRepository movieRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final BackfillProgressRepository backfillProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${movie.backfill.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Run all backfills at startup
+     * 애플리케이션 시작 시 모든 백필 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            backfillGenres();
+            backfillReleaseDates();
+        } catch (RuntimeException e) {
+            log.error("Movie backfill failed, it will be retried on the next startup", e);
+        }
+    }
+
+    /**
+     * Create movie_genres mappings for movies that have none
+     * 장르 매핑이 없는 영화의 movie_genres 매핑 생성
+     *
+     * @return 매핑을 만든 영화 수
+     */
+    public int backfillGenres() {
+        long maxId = movieRepository.findMaxId();
+        long afterId = processedUpTo(GENRES);
+        int movies = 0;
+        while (afterId < maxId) {
+            long cursor = afterId;
+            List<Object[]> rows = transactionTemplate.execute(status -> {
+                List<Object[]> batch = movieGenreRepository.findUnmappedMovieGenres(cursor, PageRequest.of(0, batchSize));
+                List<MovieGenreEntity> mappings = new ArrayList<>();
+                for (Object[] row : batch) {
+                    mappings.addAll(MovieGenreEntity.forMovie((Long) row[0], (String) row[1]));
+                }
+                movieGenreRepository.saveAll(mappings);
+                return batch;
+            });
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                // 장르가 비어 있거나 구분자뿐인 영화는 매핑 없이 처리 완료
+                if (!MovieGenreEntity.parseGenres((String) row[1]).isEmpty()) {
+                    movies++;
+                }
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        markProcessed(GENRES, Math.max(afterId, maxId));
+        if (movies > 0) {
+            log.info("Backfilled genre mappings for {} movies", movies);
+        }
+        return movies;
+    }
+
+    /**
+     * Derive released_on / release_year for movies stored with only the release date string
+     * 개봉일 원문만 저장된 영화의 released_on / release_year 컬럼 채우기
+     *
+     * @return 개봉일 컬럼을 채운 영화 수 (연도를 알 수 없는 영화 제외)
+     */
+    public int backfillReleaseDates() {
+        long maxId = movieRepository.findMaxId();
+        long afterId = processedUpTo(RELEASE_DATES);
+        int movies = 0;
+        while (afterId < maxId) {
+            long cursor = afterId;
+            List<Object[]> rows = transactionTemplate.execute(status -> {
+                List<Object[]> batch = movieRepository.findUnparsedReleaseDates(cursor, PageRequest.of(0, batchSize));
+                for (Object[] row : batch) {
+                    String releaseDate = (String) row[1];
+                    Integer releaseYear = MovieEntity.parseReleaseYear(releaseDate);
+                    if (releaseYear != null) {
+                        LocalDate releasedOn = MovieEntity.parseReleaseDate(releaseDate);
+                        movieRepository.updateReleaseDateColumns((Long) row[0], releasedOn, releaseYear);
+                    }
+                }
+                return batch;
+            });
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                // 연도를 알 수 없는 개봉일은 컬럼을 비워 둔 채 처리 완료
+                if (MovieEntity.parseReleaseYear((String) row[1]) != null) {
+                    movies++;
+                }
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        markProcessed(RELEASE_DATES, Math.max(afterId, maxId));
+        if (movies > 0) {
+            log.info("Backfilled release date columns for {} movies", movies);
+        }
+        return movies;
+    }
+
+    private long processedUpTo(String backfill) {
+        return backfillProgressRepository.findById(backfill)
+                .map(BackfillProgressEntity::getLastId)
+                .orElse(0L);
+    }
+
+    private void markProcessed(String backfill, long lastId) {
+        if (lastId > processedUpTo(backfill)) {
+            backfillProgressRepository.save(new BackfillProgressEntity(backfill, lastId));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.entity.MovieGenreEntity;
+import com.tel.member.repository.MovieRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming NDJSON export of the movie catalog
+ * 영화 카탈로그 NDJSON 스트리밍 내보내기 서비스
+ *
+ * <p>Reads movies through one forward-only, read-only cursor with a bounded JDBC fetch size
+ * ({@code movie.export.fetch-size}; row-by-row streaming on MySQL, see {@link StreamingFetch}) and
+ * writes every row straight to the output as one JSON line. No entities, DTOs or pages are
+ * built, so memory use does not depend on the catalog size and there is no OFFSET or COUNT
+ * query. Rows are written in ID order.</p>
+ */
+@Service
+@Slf4j
+public class MovieExportService {
+
+    private static final String SELECT_MOVIES =
+            "SELECT m.id, m.title, m.genre, m.release_date, m.released_on, m.release_year, m.description, " +
+            "m.poster_url, m.recommendation_count, m.created_at, m.updated_at FROM movies m";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final RecommendationCounterService recommendationCounter;
+    private final int fetchSize;
+
+    public MovieExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            RecommendationCounterService recommendationCounter,
+            @Value("${movie.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.recommendationCounter = recommendationCounter;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Write all movies matching the filters as NDJSON
+     * 조건에 맞는 모든 영화를 NDJSON 으로 출력
+     *
+     * @param genre 장르 필터 (선택, 장르 목록 조회와 같은 규칙)
+     * @param updatedSince 이 시각 이후 수정된 영화만 (선택)
+     * @param output 출력 스트림 (닫지 않음)
+     * @return 출력한 영화 수
+     */
+    public long exportMovies(String genre, LocalDateTime updatedSince, OutputStream output) throws IOException {
+        StringBuilder sql = new StringBuilder(SELECT_MOVIES);
+        List<Object> params = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (genre != null && !genre.isBlank()) {
+            List<String> genres = MovieGenreEntity.parseGenres(genre);
+            if (genres.size() == 1) {
+                // 단일 장르는 movie_genres 인덱스(genre, movie_id) 사용
+                conditions.add("m.id IN (SELECT g.movie_id FROM movie_genres g WHERE g.genre = ?)");
+                params.add(genres.get(0));
+            } else {
+                // 장르 목록 조회와 같이 입력의 %, _ 는 문자 그대로 비교
+                conditions.add("LOWER(m.genre) LIKE ? ESCAPE '!'");
+                params.add("%" + MovieRepository.escapeLike(genre.toLowerCase(Locale.ROOT)) + "%");
+            }
+        }
+        if (updatedSince != null) {
+            conditions.add("m.updated_at >= ?");
+            params.add(Timestamp.valueOf(updatedSince));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY m.id");
+
+        long started = System.nanoTime();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long[] rows = new long[1];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(StreamingFetch.fetchSize(connection, fetchSize));
+                for (int i = 0; i < params.size(); i++) {
+                    statement.setObject(i + 1, params.get(i));
+                }
+                return statement;
+            }, (RowCallbackHandler) resultSet -> {
+                writeMovie(generator, resultSet);
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패
+            throw e.getCause();
+        }
+        generator.flush();
+
+        log.info("Exported {} movies (genre={}, updatedSince={}) in {} ms",
+                rows[0], genre, updatedSince, (System.nanoTime() - started) / 1_000_000);
+        return rows[0];
+    }
+
+    private void writeMovie(JsonGenerator generator, ResultSet resultSet) throws SQLException {
+        try {
+            long id = resultSet.getLong("id");
+            int persistedCount = resultSet.getInt("recommendation_count");
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeStringField("title", resultSet.getString("title"));
+            generator.writeStringField("genre", resultSet.getString("genre"));
+            generator.writeStringField("releaseDate", resultSet.getString("release_date"));
+            Date releasedOn = resultSet.getDate("released_on");
+            generator.writeStringField("releasedOn", releasedOn == null ? null : releasedOn.toLocalDate().toString());
+            int releaseYear = resultSet.getInt("release_year");
+            if (resultSet.wasNull()) {
+                generator.writeNullField("releaseYear");
+            } else {
+                generator.writeNumberField("releaseYear", releaseYear);
+            }
+            generator.writeStringField("description", resultSet.getString("description"));
+            generator.writeStringField("posterUrl", resultSet.getString("poster_url"));
+            generator.writeNumberField("recommendationCount", recommendationCounter.effectiveCount(id, persistedCount));
+            generator.writeStringField("createdAt", format(resultSet.getTimestamp("created_at")));
+            generator.writeStringField("updatedAt", format(resultSet.getTimestamp("updated_at")));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String format(Timestamp timestamp) {
+        return timestamp == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.toLocalDateTime());
+    }
+}
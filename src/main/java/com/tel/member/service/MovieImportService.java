@@ -0,0 +1,352 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.dto.MovieImportResultDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.repository.MovieRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import of the movie catalog
+ * 영화 카탈로그 스트리밍 대량 적재 서비스
+ *
+ * <p>Reads a JSON array of {@link MovieCreateRequestDto} objects or a CSV with a header
+ * (title, genre, releaseDate, description, posterUrl) one element at a time. Titles are
+ * de-duplicated against a set of normalized titles loaded once per import instead of a
+ * LOWER() lookup per row. Valid rows are persisted in batches (pooled sequence IDs + JDBC
+ * batching), each batch in its own transaction with its genre mappings and
+ * {@link MovieCreatedEvent}s, so the in-memory caches and indexes follow after commit.
+ * One result line (NDJSON) per input row is written as each batch completes.</p>
+ */
+@Service
+@Slf4j
+public class MovieImportService {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_CSV = "csv";
+
+    private final MovieRepository movieRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+
+    public MovieImportService(
+            MovieRepository movieRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${movie.import.batch-size:1000}") int batchSize) {
+        this.movieRepository = movieRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import movies and write one NDJSON result per input row
+     * 영화를 적재하고 입력 행마다 NDJSON 결과 한 줄 출력
+     *
+     * @param input 요청 본문 스트림 (JSON 배열 또는 헤더가 있는 CSV)
+     * @param format json 또는 csv
+     * @param output 결과 출력 스트림
+     * @return 새로 생성된 영화 수
+     */
+    public long importMovies(InputStream input, String format, OutputStream output) throws IOException {
+        String normalizedFormat = format == null ? "" : format.trim().toLowerCase(Locale.ROOT);
+        if (!FORMAT_JSON.equals(normalizedFormat) && !FORMAT_CSV.equals(normalizedFormat)) {
+            throw new IllegalArgumentException("지원하지 않는 적재 형식입니다: " + format + " (json, csv)");
+        }
+
+        long started = System.nanoTime();
+        Set<String> titles = movieRepository.findAllTitles().stream()
+                .map(MovieImportService::normalizeTitle)
+                .collect(Collectors.toCollection(HashSet::new));
+        ImportBatch batch = new ImportBatch(titles, output);
+        try {
+            if (FORMAT_JSON.equals(normalizedFormat)) {
+                readJson(input, batch);
+            } else {
+                readCsv(input, batch);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 입력 형식이 깨진 경우: 이전 행까지만 반영하고 중단 사유를 마지막 줄에 기록
+            batch.commit();
+            batch.write(MovieImportResultDto.builder()
+                    .row(batch.rows + 1)
+                    .status(MovieImportResultDto.INVALID)
+                    .message("입력을 더 읽을 수 없어 적재를 중단했습니다: " + e.getMessage())
+                    .build());
+            output.flush();
+            log.warn("Movie import aborted after {} rows: {}", batch.rows, e.getMessage());
+            return batch.created;
+        }
+        batch.commit();
+        output.flush();
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Movie import completed: {} rows, {} created, {} duplicates, {} invalid, {} failed in {} ms",
+                batch.rows, batch.created, batch.duplicates, batch.invalid, batch.failed, elapsedMillis);
+        return batch.created;
+    }
+
+    private void readJson(InputStream input, ImportBatch batch) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 배열이 아닙니다");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("JSON 배열이 닫히지 않았습니다");
+                }
+                // 트리로 먼저 읽어 타입 오류가 있어도 다음 요소부터 계속 읽을 수 있게 함
+                JsonNode node = parser.readValueAsTree();
+                long row = batch.rows + 1;
+                MovieCreateRequestDto request;
+                try {
+                    request = objectMapper.treeToValue(node, MovieCreateRequestDto.class);
+                } catch (IOException e) {
+                    batch.rows = row;
+                    batch.reject(row, node.path("title").asText(null), "영화 객체 형식이 아닙니다");
+                    continue;
+                }
+                accept(request, batch);
+            }
+        }
+    }
+
+    private void readCsv(InputStream input, ImportBatch batch) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        while (header != null && header.isEmpty()) {
+            header = reader.next();
+        }
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV 헤더에 title 컬럼이 없습니다");
+        }
+
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.isEmpty()) {
+                continue;
+            }
+            accept(MovieCreateRequestDto.builder()
+                    .title(column(record, columns, "title"))
+                    .genre(column(record, columns, "genre"))
+                    .releaseDate(column(record, columns, "releasedate"))
+                    .description(column(record, columns, "description"))
+                    .posterUrl(column(record, columns, "posterurl"))
+                    .build(), batch);
+        }
+    }
+
+    private void accept(MovieCreateRequestDto request, ImportBatch batch) throws IOException {
+        long row = ++batch.rows;
+        Set<ConstraintViolation<MovieCreateRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            batch.reject(row, request.getTitle(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        if (!batch.titles.add(normalizeTitle(request.getTitle()))) {
+            batch.duplicates++;
+            // 결과만 보관 (요청 DTO 는 필요 없음)
+            batch.pending.add(new PendingRow(row, null, MovieImportResultDto.builder()
+                    .row(row)
+                    .title(request.getTitle())
+                    .status(MovieImportResultDto.DUPLICATE)
+                    .message("동일한 제목의 영화가 이미 존재합니다")
+                    .build()));
+        } else {
+            batch.pending.add(new PendingRow(row, request, null));
+            batch.toInsert++;
+        }
+        // 행 상태와 관계없이 대기 행 수로 커밋 (중복만 이어지는 재적재도 메모리 제한 및 결과 스트리밍 유지)
+        if (batch.pending.size() >= batchSize) {
+            batch.commit();
+        }
+    }
+
+    private List<MovieEntity> insert(List<PendingRow> rows) {
+        List<MovieEntity> movies = new ArrayList<>();
+        for (PendingRow row : rows) {
+            if (row.result() != null) {
+                continue;
+            }
+            MovieCreateRequestDto request = row.request();
+            MovieEntity movie = MovieEntity.builder()
+                    .title(request.getTitle())
+                    .genre(request.getGenre())
+                    .releaseDate(request.getReleaseDate())
+                    .description(request.getDescription())
+                    .posterUrl(request.getPosterUrl())
+                    .recommendationCount(0)
+                    .build();
+            entityManager.persist(movie);
+            for (MovieGenreEntity mapping : MovieGenreEntity.forMovie(movie.getId(), movie.getGenre())) {
+                entityManager.persist(mapping);
+            }
+            movies.add(movie);
+        }
+        entityManager.flush();
+        for (MovieEntity movie : movies) {
+            eventPublisher.publishEvent(new MovieCreatedEvent(movie.getId(), movie.getTitle(),
+                    movie.getGenre(), movie.getRecommendationCount(), movie.getCreatedAt()));
+        }
+        entityManager.clear();
+        return movies;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Title key used for duplicate detection (same rule as the case-insensitive title check)
+     * 중복 검사에 사용하는 제목 키 (대소문자를 구분하지 않는 기존 제목 검사와 같은 기준)
+     */
+    static String normalizeTitle(String title) {
+        return Normalizer.normalize(title.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private record PendingRow(long row, MovieCreateRequestDto request, MovieImportResultDto result) {
+    }
+
+    /**
+     * Rows read since the last commit and the running totals of one import
+     * 마지막 커밋 이후 읽은 행과 적재 1건의 누적 집계
+     */
+    private final class ImportBatch {
+
+        private final Set<String> titles;
+        private final OutputStream output;
+        private final List<PendingRow> pending = new ArrayList<>();
+        private int toInsert;
+        private long rows;
+        private long created;
+        private long duplicates;
+        private long invalid;
+        private long failed;
+
+        private ImportBatch(Set<String> titles, OutputStream output) {
+            this.titles = titles;
+            this.output = output;
+        }
+
+        private void reject(long row, String title, String message) throws IOException {
+            invalid++;
+            pending.add(new PendingRow(row, null, MovieImportResultDto.builder()
+                    .row(row)
+                    .title(title)
+                    .status(MovieImportResultDto.INVALID)
+                    .message(message)
+                    .build()));
+            if (pending.size() >= batchSize) {
+                commit();
+            }
+        }
+
+        /**
+         * Persist the pending rows in one transaction and write their results in input order
+         * 대기 중인 행을 한 트랜잭션으로 저장하고 입력 순서대로 결과 출력
+         */
+        private void commit() throws IOException {
+            List<MovieEntity> movies = List.of();
+            String failure = null;
+            if (toInsert > 0) {
+                try {
+                    movies = transactionTemplate.execute(status -> insert(pending));
+                } catch (RuntimeException e) {
+                    log.error("Failed to import a batch of {} movies", toInsert, e);
+                    failure = "저장에 실패했습니다: " + e.getMessage();
+                }
+            }
+
+            int next = 0;
+            for (PendingRow row : pending) {
+                MovieImportResultDto result = row.result();
+                if (result == null && failure != null) {
+                    failed++;
+                    // 저장되지 않은 제목은 뒤에서 다시 나오면 적재할 수 있도록 제거
+                    titles.remove(normalizeTitle(row.request().getTitle()));
+                    result = MovieImportResultDto.builder()
+                            .row(row.row())
+                            .title(row.request().getTitle())
+                            .status(MovieImportResultDto.FAILED)
+                            .message(failure)
+                            .build();
+                } else if (result == null) {
+                    MovieEntity movie = movies.get(next++);
+                    created++;
+                    result = MovieImportResultDto.builder()
+                            .row(row.row())
+                            .title(movie.getTitle())
+                            .status(MovieImportResultDto.CREATED)
+                            .movieId(movie.getId())
+                            .build();
+                }
+                write(result);
+            }
+            output.flush();
+            pending.clear();
+            toInsert = 0;
+        }
+
+        private void write(MovieImportResultDto result) throws IOException {
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write('\n');
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.tel.member.service;
 
 import com.tel.member.dto.MovieCreateRequestDto;
 import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.dto.MovieSliceResponseDto;
 import com.tel.member.dto.RecommendationResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -44,6 +45,29 @@ public interface MovieService {
      */
     Page<MovieResponseDto> getMoviesByGenre(String genre, Pageable pageable, String memberId);
     
+    /**
+     * Get movies released in a year with pagination
+     * 개봉 연도별 영화 조회 (페이징)
+     * 
+     * @param year 개봉 연도
+     * @param pageable 페이징 정보
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 응답 DTO 페이지
+     */
+    Page<MovieResponseDto> getMoviesByYear(int year, Pageable pageable, String memberId);
+    
+    /**
+     * Get movies released in a range of years with pagination
+     * 개봉 연도 범위별 영화 조회 (페이징)
+     * 
+     * @param fromYear 시작 연도 (포함)
+     * @param toYear 종료 연도 (포함)
+     * @param pageable 페이징 정보
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 응답 DTO 페이지
+     */
+    Page<MovieResponseDto> getMoviesByYearRange(int fromYear, int toYear, Pageable pageable, String memberId);
+    
     /**
      * Search movies by keyword with pagination
      * 키워드로 영화 검색 (페이징)
@@ -65,6 +89,18 @@ public interface MovieService {
      */
     Page<MovieResponseDto> getRecommendedMovies(Pageable pageable, String memberId);
     
+    /**
+     * Get movies with keyset (cursor) pagination
+     * 커서 기반(키셋) 영화 조회 - 깊은 페이지에서도 OFFSET/COUNT 없이 일정한 비용
+     * 
+     * @param sort 정렬 기준 (createdAt, recommendationCount)
+     * @param cursor 이전 응답의 nextCursor (첫 요청은 null)
+     * @param size 슬라이스 크기
+     * @param memberId 현재 회원 ID (추천 여부 확인용)
+     * @return 영화 슬라이스 응답 DTO
+     */
+    MovieSliceResponseDto scrollMovies(String sort, String cursor, int size, String memberId);
+    
     /**
      * Get top recommended movies
      * 추천 수 상위 영화 조회
@@ -0,0 +1,302 @@
+package com.tel.member.service;
+
+import com.tel.member.cache.CacheStatsProvider;
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.repository.MovieRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Recommendation count writer with an optional write-behind mode
+ * 추천 수 변경 처리 서비스 (선택적 write-behind 모드)
+ *
+ * <p>Direct mode (default) changes movies.recommendation_count with one atomic UPDATE per
+ * toggle. Write-behind mode ({@code movie.recommendation.write-behind.enabled=true}) keeps
+ * committed deltas per movie in memory (no row lock per toggle) and flushes the net delta
+ * of each movie in one periodic batch, so on/off churn on hot titles collapses into a single
+ * UPDATE. movie_recommendations stays the source of truth; reads add the unflushed delta to
+ * the persisted count. In direct mode {@link #lockMovie(Long)} takes the movies row lock before
+ * the movie_recommendations row changes: the FK check of the child INSERT takes a shared lock on
+ * the parent row, and two concurrent adds upgrading that shared lock for the counter UPDATE
+ * would deadlock on MySQL. The lock order movies, then movie_recommendations, is deliberate. A
+ * delta being flushed stays visible to reads until its batch has
+ * committed and the cached snapshots are invalidated. Pending deltas are flushed on graceful
+ * shutdown.</p>
+ */
+@Service
+@Slf4j
+public class RecommendationCounterService implements CacheStatsProvider {
+
+    private static final int RECOUNT_CHUNK_SIZE = 1000;
+
+    private static final String FLUSH_SQL =
+            "UPDATE movies SET recommendation_count = GREATEST(COALESCE(recommendation_count, 0) + ?, 0) WHERE id = ?";
+
+    private final MovieRepository movieRepository;
+    private final MovieEntityCache movieEntityCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+
+    // 영화별 대기 / 반영 중 변경량 (항목을 원자적으로 교체하므로 두 값을 항상 함께 읽음)
+    private final ConcurrentHashMap<Long, Delta> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LongAdder deltas = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+
+    public RecommendationCounterService(
+            MovieRepository movieRepository,
+            MovieEntityCache movieEntityCache,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${movie.recommendation.write-behind.enabled:false}") boolean writeBehind) {
+        this.movieRepository = movieRepository;
+        this.movieEntityCache = movieEntityCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Whether counts are written behind (persisted count may lag the effective count)
+     * write-behind 모드 여부 (DB 추천 수가 실제 추천 수보다 늦게 반영됨)
+     */
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * Check that the movie exists and, in direct mode, lock its row for the rest of the transaction
+     * 영화 존재 여부 확인 (직접 모드에서는 트랜잭션 끝까지 영화 행 배타 잠금)
+     *
+     * <p>Must be called before the recommendation row is inserted or deleted. Write-behind mode
+     * does not update the movies row per toggle, so only the existence is checked.</p>
+     *
+     * @param movieId 영화 ID
+     * @return 영화가 있으면 true
+     */
+    public boolean lockMovie(Long movieId) {
+        if (!writeBehind) {
+            return movieRepository.lockByIdForUpdate(movieId).isPresent();
+        }
+        return movieRepository.existsById(movieId);
+    }
+
+    /**
+     * Apply a recommendation count change of the current transaction
+     * 현재 트랜잭션의 추천 수 변경 반영
+     *
+     * @param movieId 영화 ID
+     * @param delta 변경량 (+1, -1)
+     * @return 변경 후 추천 수 (write-behind 모드에서는 대기 중인 변경 포함)
+     */
+    public int applyDelta(Long movieId, int delta) {
+        if (!writeBehind) {
+            movieRepository.addRecommendationCount(movieId, delta);
+            Integer count = movieRepository.findRecommendationCountById(movieId);
+            return count == null ? 0 : count;
+        }
+
+        int effective = effectiveCount(movieId, movieRepository.findRecommendationCountById(movieId)) + delta;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 추천 행 변경이 커밋된 경우에만 대기 변경량에 반영
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addPending(movieId, delta);
+                    deltas.increment();
+                }
+            });
+        } else {
+            addPending(movieId, delta);
+            deltas.increment();
+        }
+        return Math.max(0, effective);
+    }
+
+    /**
+     * Persisted count plus the delta not yet flushed
+     * DB 추천 수에 아직 반영되지 않은 변경량을 더한 추천 수
+     *
+     * @param movieId 영화 ID
+     * @param persistedCount DB(또는 캐시)에서 읽은 추천 수
+     * @return 실제 추천 수
+     */
+    public int effectiveCount(Long movieId, Integer persistedCount) {
+        int count = persistedCount == null ? 0 : persistedCount;
+        if (!writeBehind) {
+            return count;
+        }
+        Delta delta = pending.get(movieId);
+        return delta == null ? count : (int) Math.max(0, count + delta.total());
+    }
+
+    /**
+     * Flush the net pending delta of every movie in one batch
+     * 영화별 누적 변경량을 한 번의 배치 UPDATE 로 반영
+     *
+     * @return 갱신한 영화 수
+     */
+    @Scheduled(initialDelayString = "${movie.recommendation.write-behind.flush-interval-ms:1000}",
+            fixedDelayString = "${movie.recommendation.write-behind.flush-interval-ms:1000}")
+    public int flush() {
+        if (!writeBehind || pending.isEmpty()) {
+            return 0;
+        }
+        flushLock.lock();
+        try {
+            // 영화 ID 순으로 갱신해 직접 UPDATE 와의 잠금 순서를 일정하게 유지
+            // 대기 변경량은 반영 중 변경량으로 옮겨 커밋 전까지 읽기에 계속 포함
+            Map<Long, Long> drained = new TreeMap<>();
+            for (Long movieId : pending.keySet()) {
+                pending.computeIfPresent(movieId, (id, delta) -> {
+                    if (delta.pending() != 0) {
+                        drained.put(id, delta.pending());
+                    }
+                    return delta.drain();
+                });
+            }
+            if (drained.isEmpty()) {
+                return 0;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(drained.size());
+            drained.forEach((movieId, delta) -> batchArgs.add(new Object[]{delta, movieId}));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            } catch (RuntimeException e) {
+                // 실패한 변경량은 대기 변경량으로 되돌려 다음 주기에 다시 시도
+                drained.forEach((movieId, delta) ->
+                        pending.computeIfPresent(movieId, (id, current) -> current.restore(delta)));
+                flushFailures.increment();
+                log.error("Failed to flush {} pending recommendation counts", drained.size(), e);
+                return 0;
+            }
+
+            // 캐시된 스냅샷은 DB 추천 수 기준이므로 반영된 영화는 다시 읽도록 제거
+            drained.keySet().forEach(movieEntityCache::invalidate);
+            drained.forEach((movieId, delta) ->
+                    pending.computeIfPresent(movieId, (id, current) -> current.complete(delta)));
+            flushes.increment();
+            flushedRows.add(drained.size());
+            return drained.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Recompute the persisted counts of movies from their recommendation rows
+     * 추천 행 수로 영화별 DB 추천 수 재계산
+     *
+     * <p>The recount already includes every committed toggle, so it runs under the flush lock
+     * and drops the unflushed deltas of the recounted movies once each chunk has committed;
+     * otherwise a flush racing with the recount would add those toggles a second time.
+     * Pending deltas are flushed first so that nothing committed before the recount is lost.</p>
+     *
+     * @param movieIds 재계산할 영화 ID (ID 순으로 정렬된 목록)
+     */
+    public void recount(List<Long> movieIds) {
+        flushLock.lock();
+        try {
+            flush();
+            for (int from = 0; from < movieIds.size(); from += RECOUNT_CHUNK_SIZE) {
+                List<Long> chunk = movieIds.subList(from, Math.min(from + RECOUNT_CHUNK_SIZE, movieIds.size()));
+                transactionTemplate.executeWithoutResult(status -> movieRepository.recountRecommendations(chunk));
+                if (writeBehind) {
+                    chunk.forEach(pending::remove);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Flush pending deltas on graceful shutdown
+     * 정상 종료 시 대기 중인 변경량 반영
+     */
+    @PreDestroy
+    public void drain() {
+        if (writeBehind && !pending.isEmpty()) {
+            int movies = flush();
+            log.info("Flushed pending recommendation counts of {} movies on shutdown", movies);
+        }
+    }
+
+    @Override
+    public String getCacheName() {
+        return "recommendationCounter";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long pendingMovies = pending.values().stream().filter(delta -> delta.total() != 0).count();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("writeBehind", writeBehind);
+        stats.put("pendingMovies", pendingMovies);
+        stats.put("deltas", deltas.sum());
+        stats.put("flushes", flushes.sum());
+        stats.put("flushedRows", flushedRows.sum());
+        stats.put("flushFailures", flushFailures.sum());
+        return stats;
+    }
+
+    private void addPending(Long movieId, long delta) {
+        pending.compute(movieId, (id, current) -> (current == null ? Delta.NONE : current).add(delta));
+    }
+
+    /**
+     * Unflushed delta of one movie: not yet drained, and drained but not yet committed
+     * 영화 한 편의 미반영 변경량: 대기 중 / 반영 중(커밋 전)
+     *
+     * <p>Every transition returns null when both parts are zero so the map drops the entry.</p>
+     */
+    private record Delta(long pending, long inFlight) {
+
+        static final Delta NONE = new Delta(0, 0);
+
+        long total() {
+            return pending + inFlight;
+        }
+
+        Delta add(long delta) {
+            return of(pending + delta, inFlight);
+        }
+
+        Delta drain() {
+            return of(0, inFlight + pending);
+        }
+
+        Delta complete(long flushed) {
+            return of(pending, inFlight - flushed);
+        }
+
+        Delta restore(long failed) {
+            return of(pending + failed, inFlight - failed);
+        }
+
+        private static Delta of(long pending, long inFlight) {
+            return pending == 0 && inFlight == 0 ? null : new Delta(pending, inFlight);
+        }
+    }
+}
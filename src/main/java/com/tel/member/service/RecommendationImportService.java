@@ -0,0 +1,543 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.dto.RecommendationImportStatusDto;
+import com.tel.member.entity.MovieRecommendationEntity;
+import com.tel.member.event.RecommendationsImportedEvent;
+import com.tel.member.exception.ImportInProgressException;
+import com.tel.member.repository.MovieRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk import of historical recommendations
+ * 과거 추천 이력 대량 적재 서비스
+ *
+ * <p>Streams (movieId, memberId, createdAt) rows from a CSV or NDJSON body without holding
+ * the input in memory. Movie IDs are checked against a sorted ID array loaded once per
+ * import. Rows are written in batches, each in its own transaction: the exact (movieId,
+ * memberId) pairs of the batch that already exist are looked up with one row-value IN query
+ * on unique_recommendation and skipped, the rest are persisted with JDBC batching (pooled
+ * sequence IDs). A batch that keeps colliding with concurrent toggles falls back to one
+ * transaction per row, where a pair created in the meantime is skipped instead of failing the
+ * import. recommendation_count of the affected movies is then
+ * recomputed in set-based UPDATEs instead of one increment per row, and the caches are
+ * refreshed through {@link RecommendationsImportedEvent}. Only one import runs at a time;
+ * its progress is available from {@link #getStatus()} while it runs.
+ * {@link #startImport(InputStream, String)} spools the body to a temporary file and runs the
+ * import on a single background thread, so the HTTP request does not stay open for it.</p>
+ */
+@Service
+@Slf4j
+public class RecommendationImportService {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final int MAX_ERROR_SAMPLES = 10;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final int MEMBER_ID_MAX_LENGTH = 50;
+
+    private final MovieRepository movieRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecommendationCounterService recommendationCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long progressInterval;
+
+    private final AtomicReference<ImportJob> currentJob = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RecommendationImportService(
+            MovieRepository movieRepository,
+            EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            RecommendationCounterService recommendationCounter,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            @Value("${movie.import.batch-size:1000}") int batchSize,
+            @Value("${movie.import.progress-interval:100000}") long progressInterval) {
+        this.movieRepository = movieRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recommendationCounter = recommendationCounter;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Import recommendations from a CSV or NDJSON stream
+     * CSV 또는 NDJSON 스트림에서 추천 이력 적재
+     *
+     * <p>CSV: {@code movieId,memberId[,createdAt]} with an optional header line.
+     * NDJSON: one {@code {"movieId":1,"memberId":"m","createdAt":"..."}} object per line.
+     * createdAt is ISO-8601 (with or without offset, 'T' or space separated) and defaults to
+     * the import time.</p>
+     *
+     * @param input 요청 본문 스트림
+     * @param format csv 또는 ndjson
+     * @return 적재 결과
+     */
+    public RecommendationImportStatusDto importRecommendations(InputStream input, String format) {
+        ImportJob job = claim(format);
+        run(job, input);
+        return job.toDto();
+    }
+
+    /**
+     * Start an import in the background and return its initial status
+     * 백그라운드 추천 적재 시작 후 초기 상태 반환
+     *
+     * <p>The body is copied to a temporary file first (the request stream is only readable
+     * while the request is open); the import then runs on the import thread and its progress
+     * is polled through {@link #getStatus()}.</p>
+     *
+     * @param input 요청 본문 스트림
+     * @param format csv 또는 ndjson
+     * @return 시작 시점의 적재 상태 (RUNNING)
+     */
+    public RecommendationImportStatusDto startImport(InputStream input, String format) {
+        ImportJob job = claim(format);
+        Path spool;
+        try {
+            spool = Files.createTempFile("recommendation-import-", "." + job.format);
+        } catch (IOException e) {
+            job.finish("FAILED", e.getMessage());
+            throw new UncheckedIOException("추천 적재 임시 파일을 만들 수 없습니다.", e);
+        }
+        try {
+            Files.copy(input, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            job.finish("FAILED", e.getMessage());
+            deleteSpool(spool);
+            throw new UncheckedIOException("추천 적재 데이터를 읽을 수 없습니다.", e);
+        }
+        try {
+            executor.execute(() -> runSpooled(job, spool));
+        } catch (RejectedExecutionException e) {
+            job.finish("FAILED", "서버 종료 중");
+            deleteSpool(spool);
+            throw new IllegalStateException("서버가 종료 중이라 추천 적재를 시작할 수 없습니다.", e);
+        }
+        return job.toDto();
+    }
+
+    /**
+     * Stop accepting background imports on shutdown
+     * 종료 시 백그라운드 적재 접수 중단
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ImportJob claim(String format) {
+        String normalizedFormat = format == null ? "" : format.trim().toLowerCase(Locale.ROOT);
+        if (!FORMAT_CSV.equals(normalizedFormat) && !FORMAT_NDJSON.equals(normalizedFormat)) {
+            throw new IllegalArgumentException("지원하지 않는 적재 형식입니다: " + format + " (csv, ndjson)");
+        }
+
+        ImportJob job = new ImportJob(normalizedFormat);
+        ImportJob running = currentJob.get();
+        if ((running != null && running.isRunning()) || !currentJob.compareAndSet(running, job)) {
+            throw new ImportInProgressException("이미 추천 적재가 진행 중입니다.");
+        }
+        return job;
+    }
+
+    private void runSpooled(ImportJob job, Path spool) {
+        try (InputStream input = Files.newInputStream(spool)) {
+            run(job, input);
+        } catch (IOException e) {
+            job.finish("FAILED", e.getMessage());
+            log.error("Failed to read spooled recommendation import {}", spool, e);
+        } catch (RuntimeException e) {
+            // run() 에서 상태와 로그를 이미 남김
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    private static void deleteSpool(Path spool) {
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Failed to delete recommendation import spool file {}", spool, e);
+        }
+    }
+
+    private void run(ImportJob job, InputStream input) {
+        try {
+            long[] movieIds = movieRepository.findAllIds().stream().mapToLong(Long::longValue).toArray();
+            readRows(job, input, movieIds);
+            recount(job);
+            job.finish("COMPLETED", null);
+            log.info("Recommendation import completed: {}", job.toDto());
+            eventPublisher.publishEvent(new RecommendationsImportedEvent(
+                    Collections.unmodifiableSet(job.affectedMovieIds), job.imported.get()));
+        } catch (RuntimeException e) {
+            job.finish("FAILED", e.getMessage());
+            log.error("Recommendation import failed after {} rows", job.rowsRead.get(), e);
+            if (!job.affectedMovieIds.isEmpty()) {
+                // 이미 커밋된 배치의 추천 수와 캐시는 맞춰 둠
+                try {
+                    recount(job);
+                } catch (RuntimeException recountFailure) {
+                    e.addSuppressed(recountFailure);
+                }
+                eventPublisher.publishEvent(new RecommendationsImportedEvent(
+                        Collections.unmodifiableSet(job.affectedMovieIds), job.imported.get()));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Progress of the running import, or the result of the last one
+     * 진행 중인 적재의 진행 상황 (없으면 마지막 적재 결과)
+     *
+     * @return 적재 상태, 적재한 적이 없으면 null
+     */
+    public RecommendationImportStatusDto getStatus() {
+        ImportJob job = currentJob.get();
+        return job == null ? null : job.toDto();
+    }
+
+    private void readRows(ImportJob job, InputStream input, long[] movieIds) {
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isCsvHeader(job, line))) {
+                    continue;
+                }
+                if (job.rowsRead.incrementAndGet() % progressInterval == 0) {
+                    log.info("Recommendation import progress: {} rows read, {} imported, {} rows/s",
+                            job.rowsRead.get(), job.imported.get(), Math.round(job.rowsPerSecond()));
+                }
+                ImportRow row;
+                try {
+                    row = FORMAT_CSV.equals(job.format) ? parseCsv(line) : parseNdjson(line);
+                } catch (IllegalArgumentException e) {
+                    job.reject(lineNumber, e.getMessage());
+                    continue;
+                }
+                if (Arrays.binarySearch(movieIds, row.movieId()) < 0) {
+                    job.unknownMovies.incrementAndGet();
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    writeBatch(job, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("추천 적재 데이터를 읽을 수 없습니다.", e);
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(job, batch);
+        }
+    }
+
+    private void writeBatch(ImportJob job, List<ImportRow> rows) {
+        // 같은 배치 안의 중복 쌍은 처음 나온 행만 사용
+        Map<String, ImportRow> unique = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            unique.putIfAbsent(row.key(), row);
+        }
+        long duplicatesInBatch = rows.size() - unique.size();
+
+        List<ImportRow> written = null;
+        for (int attempt = 1; attempt <= MAX_BATCH_ATTEMPTS && written == null; attempt++) {
+            try {
+                written = transactionTemplate.execute(status -> insertMissing(unique.values()));
+            } catch (DataIntegrityViolationException e) {
+                // 조회 이후 동시 추천으로 같은 쌍이 생긴 경우: 다시 조회해 재시도
+                log.debug("Recommendation import batch conflicted with concurrent writes, retrying");
+            }
+        }
+        if (written == null) {
+            // 계속 충돌하면 행마다 별도 트랜잭션으로 저장하고 이미 생긴 쌍은 건너뜀
+            written = insertOneByOne(unique.values());
+        }
+        job.imported.addAndGet(written.size());
+        job.skippedExisting.addAndGet(duplicatesInBatch + unique.size() - written.size());
+        for (ImportRow row : written) {
+            job.affectedMovieIds.add(row.movieId());
+        }
+    }
+
+    private List<ImportRow> insertMissing(Collection<ImportRow> rows) {
+        Set<String> existing = findExistingPairs(rows);
+        List<ImportRow> inserted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existing.contains(row.key())) {
+                continue;
+            }
+            persist(row);
+            inserted.add(row);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return inserted;
+    }
+
+    private List<ImportRow> insertOneByOne(Collection<ImportRow> rows) {
+        List<ImportRow> inserted = new ArrayList<>();
+        for (ImportRow row : rows) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (findExistingPairs(List.of(row)).isEmpty()) {
+                        persist(row);
+                        entityManager.flush();
+                        inserted.add(row);
+                    }
+                    entityManager.clear();
+                });
+            } catch (DataIntegrityViolationException e) {
+                inserted.remove(row);
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Existing pairs among the rows, matched pair by pair on unique_recommendation (row-value IN)
+     * 주어진 행 중 이미 존재하는 (영화 ID, 회원 ID) 쌍 조회 (쌍 단위 row-value IN, unique_recommendation 사용)
+     */
+    private Set<String> findExistingPairs(Collection<ImportRow> rows) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT movie_id, member_id FROM movie_recommendations WHERE (movie_id, member_id) IN (");
+        List<Object> args = new ArrayList<>(rows.size() * 2);
+        for (ImportRow row : rows) {
+            sql.append(args.isEmpty() ? "(?, ?)" : ", (?, ?)");
+            args.add(row.movieId());
+            args.add(row.memberId());
+        }
+        sql.append(')');
+        return new HashSet<>(jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> key(rs.getLong(1), rs.getString(2)), args.toArray()));
+    }
+
+    private void persist(ImportRow row) {
+        entityManager.persist(MovieRecommendationEntity.builder()
+                .movieId(row.movieId())
+                .memberId(row.memberId())
+                .createdAt(row.createdAt())
+                .build());
+    }
+
+    private void recount(ImportJob job) {
+        if (job.affectedMovieIds.isEmpty()) {
+            return;
+        }
+        // write-behind 대기 변경량과 겹치지 않도록 카운터의 flush 잠금 안에서 재계산
+        List<Long> movieIds = new ArrayList<>(new TreeSet<>(job.affectedMovieIds));
+        recommendationCounter.recount(movieIds);
+        job.affectedMovies.set(movieIds.size());
+    }
+
+    private boolean isCsvHeader(ImportJob job, String line) {
+        if (!FORMAT_CSV.equals(job.format)) {
+            return false;
+        }
+        String first = stripQuotes(line.split(",", 2)[0].replace("\uFEFF", "").trim());
+        return first.equalsIgnoreCase("movieId") || first.equalsIgnoreCase("movie_id");
+    }
+
+    private ImportRow parseCsv(String line) {
+        String[] columns = line.split(",", 3);
+        if (columns.length < 2) {
+            throw new IllegalArgumentException("movieId,memberId[,createdAt] 형식이 아닙니다");
+        }
+        return toRow(stripQuotes(columns[0].trim()), stripQuotes(columns[1].trim()),
+                columns.length > 2 ? stripQuotes(columns[2].trim()) : null);
+    }
+
+    private ImportRow parseNdjson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("JSON 형식이 아닙니다");
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("JSON 객체가 아닙니다");
+        }
+        return toRow(node.path("movieId").asText(null), node.path("memberId").asText(null),
+                node.path("createdAt").asText(null));
+    }
+
+    private ImportRow toRow(String movieId, String memberId, String createdAt) {
+        long parsedMovieId;
+        try {
+            parsedMovieId = Long.parseLong(movieId);
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("잘못된 movieId: " + movieId);
+        }
+        if (memberId == null || memberId.isBlank() || memberId.length() > MEMBER_ID_MAX_LENGTH) {
+            throw new IllegalArgumentException("잘못된 memberId: " + memberId);
+        }
+        return new ImportRow(parsedMovieId, memberId, parseCreatedAt(createdAt));
+    }
+
+    private LocalDateTime parseCreatedAt(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String normalized = value.trim().replace(' ', 'T');
+        try {
+            return LocalDateTime.parse(normalized);
+        } catch (DateTimeParseException e) {
+            try {
+                return OffsetDateTime.parse(normalized).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("잘못된 createdAt: " + value);
+            }
+        }
+    }
+
+    private static String stripQuotes(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static String key(long movieId, String memberId) {
+        return movieId + ":" + memberId;
+    }
+
+    private record ImportRow(long movieId, String memberId, LocalDateTime createdAt) {
+
+        String key() {
+            return RecommendationImportService.key(movieId, memberId);
+        }
+    }
+
+    /**
+     * Counters of one import, read concurrently by status requests
+     * 적재 1건의 진행 카운터 (상태 조회 요청에서 동시에 읽음)
+     */
+    private static final class ImportJob {
+
+        private final String format;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong skippedExisting = new AtomicLong();
+        private final AtomicLong unknownMovies = new AtomicLong();
+        private final AtomicLong invalidRows = new AtomicLong();
+        private final AtomicLong affectedMovies = new AtomicLong();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        // 적재 스레드에서만 변경
+        private final Set<Long> affectedMovieIds = new HashSet<>();
+        private volatile String state = "RUNNING";
+        private volatile String message;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishNanos;
+
+        private ImportJob(String format) {
+            this.format = format;
+        }
+
+        private boolean isRunning() {
+            return "RUNNING".equals(state);
+        }
+
+        private void reject(long lineNumber, String reason) {
+            invalidRows.incrementAndGet();
+            if (errors.size() < MAX_ERROR_SAMPLES) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+
+        private void finish(String finalState, String finalMessage) {
+            finishNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            message = finalMessage;
+            state = finalState;
+        }
+
+        private long elapsedNanos() {
+            return (isRunning() ? System.nanoTime() : finishNanos) - startNanos;
+        }
+
+        private double rowsPerSecond() {
+            long nanos = elapsedNanos();
+            return nanos <= 0 ? 0 : rowsRead.get() * 1_000_000_000.0 / nanos;
+        }
+
+        private RecommendationImportStatusDto toDto() {
+            return RecommendationImportStatusDto.builder()
+                    .state(state)
+                    .format(format)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .rowsRead(rowsRead.get())
+                    .imported(imported.get())
+                    .skippedExisting(skippedExisting.get())
+                    .unknownMovies(unknownMovies.get())
+                    .invalidRows(invalidRows.get())
+                    .affectedMovies(affectedMovies.get())
+                    .elapsedMillis(elapsedNanos() / 1_000_000)
+                    .rowsPerSecond(Math.round(rowsPerSecond() * 10) / 10.0)
+                    .errors(List.copyOf(errors))
+                    .message(message)
+                    .build();
+        }
+    }
+}
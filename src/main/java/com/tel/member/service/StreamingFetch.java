@@ -0,0 +1,26 @@
+package com.tel.member.service;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Fetch size for results read once, forward-only, row by row
+ * 앞으로만 한 번 읽는 스트리밍 조회의 fetch size 결정
+ *
+ * <p>MySQL Connector/J reads the whole result into memory for any positive fetch size unless
+ * {@code useCursorFetch=true} is set on the URL, which would turn every statement of the pool
+ * into a server-side cursor. {@link Integer#MIN_VALUE} streams just that statement instead; the
+ * connection cannot run another statement until the result is fully read or closed. Other
+ * drivers (H2 in tests) honour the configured fetch size and reject negative values.</p>
+ */
+final class StreamingFetch {
+
+    private StreamingFetch() {
+    }
+
+    static int fetchSize(Connection connection, int configuredFetchSize) throws SQLException {
+        return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())
+                ? Integer.MIN_VALUE
+                : configuredFetchSize;
+    }
+}
@@ -30,6 +30,10 @@ public class FileUploadServiceImpl implements FileUploadService {
     @Value("${file.upload.url.prefix:/uploads}")
     private String uploadUrlPrefix;
 
+    // 외부 이미지 URL 확인(HEAD) 제한 시간: 응답 없는 서버가 요청 스레드를 붙잡지 않도록
+    @Value("${file.upload.url.timeout-millis:3000}")
+    private int urlCheckTimeoutMillis;
+
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/jpeg", "image/png", "image/gif", "image/webp"
     );
@@ -77,6 +81,8 @@ public class FileUploadServiceImpl implements FileUploadService {
         try {
             HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
             connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout(urlCheckTimeoutMillis);
+            connection.setReadTimeout(urlCheckTimeoutMillis);
             connection.connect();
 
             int responseCode = connection.getResponseCode();
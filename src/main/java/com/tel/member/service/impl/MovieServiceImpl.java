@@ -1,25 +1,50 @@
 package com.tel.member.service.impl;
 
+import com.tel.member.cache.GenreCatalogCache;
+import com.tel.member.cache.MemberRecommendationCache;
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.cache.MovieSearchIndex;
+import com.tel.member.cache.RecommendationLeaderboard;
+import com.tel.member.cache.RecommendedMovieIds;
 import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.dto.MovieCursor;
 import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.dto.MovieSliceResponseDto;
 import com.tel.member.dto.RecommendationResponseDto;
 import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
 import com.tel.member.entity.MovieRecommendationEntity;
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.event.RecommendationToggledEvent;
 import com.tel.member.exception.DuplicateRecommendationException;
 import com.tel.member.exception.MovieNotFoundException;
+import com.tel.member.repository.MovieGenreRepository;
 import com.tel.member.repository.MovieRecommendationRepository;
 import com.tel.member.repository.MovieRepository;
 import com.tel.member.service.MovieService;
+import com.tel.member.service.RecommendationCounterService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 /**
@@ -31,8 +56,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MovieServiceImpl implements MovieService {
 
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_RECOMMENDATION_COUNT = "recommendationCount";
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final MovieRepository movieRepository;
     private final MovieRecommendationRepository recommendationRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MemberRecommendationCache recommendationCache;
+    private final MovieEntityCache movieEntityCache;
+    private final GenreCatalogCache genreCatalogCache;
+    private final RecommendationLeaderboard leaderboard;
+    private final MovieSearchIndex searchIndex;
+    private final RecommendationCounterService recommendationCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -56,6 +93,9 @@ public class MovieServiceImpl implements MovieService {
                 .build();
         
         MovieEntity savedMovie = movieRepository.save(movieEntity);
+        movieGenreRepository.saveAll(MovieGenreEntity.forMovie(savedMovie.getId(), savedMovie.getGenre()));
+        eventPublisher.publishEvent(new MovieCreatedEvent(savedMovie.getId(), savedMovie.getTitle(),
+                savedMovie.getGenre(), savedMovie.getRecommendationCount(), savedMovie.getCreatedAt()));
         log.info("Movie created successfully with ID: {}", savedMovie.getId());
         
         return MovieResponseDto.fromEntity(savedMovie);
@@ -66,23 +106,58 @@ public class MovieServiceImpl implements MovieService {
         log.info("Getting all movies with pagination: {}", pageable);
         Page<MovieEntity> moviePage = movieRepository.findAll(pageable);
         
-        return moviePage.map(movie -> convertToDto(movie, memberId));
+        return convertToDtoPage(moviePage, memberId);
     }
 
     @Override
     public Page<MovieResponseDto> getMoviesByGenre(String genre, Pageable pageable, String memberId) {
         log.info("Getting movies by genre: {}", genre);
-        Page<MovieEntity> moviePage = movieRepository.findByGenreContainingIgnoreCase(genre, pageable);
+        List<String> genres = MovieGenreEntity.parseGenres(genre);
+        // 단일 장르는 movie_genres 인덱스 조인, 여러 장르가 섞인 입력은 기존 부분 일치 검색
+        Page<MovieEntity> moviePage = genres.size() == 1
+                ? movieRepository.findByNormalizedGenre(genres.get(0), pageable)
+                : movieRepository.findByGenreContainingIgnoreCase(genre, pageable);
+        
+        return convertToDtoPage(moviePage, memberId);
+    }
+
+    @Override
+    public Page<MovieResponseDto> getMoviesByYear(int year, Pageable pageable, String memberId) {
+        log.info("Getting movies by release year: {}", year);
+        Page<MovieEntity> moviePage = movieRepository.findByReleaseYear(year, pageable);
+        
+        return convertToDtoPage(moviePage, memberId);
+    }
+
+    @Override
+    public Page<MovieResponseDto> getMoviesByYearRange(int fromYear, int toYear, Pageable pageable, String memberId) {
+        log.info("Getting movies by release year range: {} - {}", fromYear, toYear);
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("시작 연도는 종료 연도보다 클 수 없습니다: " + fromYear + " > " + toYear);
+        }
+        Page<MovieEntity> moviePage = movieRepository.findByReleaseYearBetween(fromYear, toYear, pageable);
         
-        return moviePage.map(movie -> convertToDto(movie, memberId));
+        return convertToDtoPage(moviePage, memberId);
     }
 
     @Override
     public Page<MovieResponseDto> searchMovies(String keyword, Pageable pageable, String memberId) {
         log.info("Searching movies with keyword: {}", keyword);
-        Page<MovieEntity> moviePage = movieRepository.findByTitleOrGenreContaining(keyword, pageable);
-        
-        return moviePage.map(movie -> convertToDto(movie, memberId));
+        // 색인은 ID 오름차순만 제공하므로 정렬이 지정된 경우는 DB 조회
+        long[] movieIds = pageable.getSort().isUnsorted() ? searchIndex.search(keyword) : null;
+        if (movieIds == null) {
+            Page<MovieEntity> moviePage = movieRepository.findByTitleOrGenreContaining(MovieRepository.escapeLike(keyword), pageable);
+            return convertToDtoPage(moviePage, memberId);
+        }
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), movieIds.length) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), movieIds.length) : movieIds.length;
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(movieIds[i]);
+        }
+        Page<MovieEntity> moviePage = new PageImpl<>(findMoviesInOrder(pageIds), pageable, movieIds.length);
+        return convertToDtoPage(moviePage, memberId);
     }
 
     @Override
@@ -90,23 +165,74 @@ public class MovieServiceImpl implements MovieService {
         log.info("Getting recommended movies");
         Page<MovieEntity> moviePage = movieRepository.findAllByOrderByRecommendationCountDesc(pageable);
         
-        return moviePage.map(movie -> convertToDto(movie, memberId));
+        return convertToDtoPage(moviePage, memberId);
+    }
+
+    @Override
+    public MovieSliceResponseDto scrollMovies(String sort, String cursor, int size, String memberId) {
+        log.info("Scrolling movies - sort: {}, size: {}", sort, size);
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다: " + size);
+        }
+        Pageable pageable = PageRequest.of(0, size);
+        MovieCursor after = cursor == null || cursor.isBlank() ? null : MovieCursor.decode(cursor, sort);
+
+        Slice<MovieEntity> slice;
+        if (SORT_CREATED_AT.equals(sort)) {
+            if (after == null) {
+                slice = movieRepository.findSliceOrderByCreatedAt(pageable);
+            } else if (after.getSortKey().isEmpty()) {
+                // 등록일이 없는 행은 정렬의 마지막에 ID 순으로 위치
+                slice = movieRepository.findSliceWithoutCreatedAtAfter(after.getId(), pageable);
+            } else {
+                slice = withUndatedTail(movieRepository.findSliceOrderByCreatedAtAfter(
+                        parseCreatedAt(after), after.getId(), pageable), pageable);
+            }
+        } else if (SORT_RECOMMENDATION_COUNT.equals(sort)) {
+            slice = after == null
+                    ? movieRepository.findSliceOrderByRecommendationCount(pageable)
+                    : movieRepository.findSliceOrderByRecommendationCountAfter(
+                            Integer.valueOf(after.getSortKey()), after.getId(), pageable);
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sort);
+        }
+
+        List<MovieEntity> movies = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !movies.isEmpty()) {
+            MovieEntity last = movies.get(movies.size() - 1);
+            String sortKey;
+            if (SORT_CREATED_AT.equals(sort)) {
+                sortKey = last.getCreatedAt() == null ? "" : last.getCreatedAt().toString();
+            } else {
+                sortKey = String.valueOf(last.getRecommendationCount());
+            }
+            nextCursor = new MovieCursor(sort, sortKey, last.getId()).encode();
+        }
+
+        return MovieSliceResponseDto.builder()
+                .content(convertToDtoList(movies, memberId))
+                .size(movies.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Override
     public List<MovieResponseDto> getTopRecommendedMovies(int limit, String memberId) {
         log.info("Getting top {} recommended movies", limit);
-        List<MovieEntity> movies = movieRepository.findTopMoviesByRecommendationCount(PageRequest.of(0, limit));
+        List<Long> topMovieIds = leaderboard.topMovieIds(limit);
+        List<MovieEntity> movies = topMovieIds != null
+                ? findMoviesInOrder(topMovieIds)
+                : movieRepository.findTopMoviesByRecommendationCount(PageRequest.of(0, limit));
         
-        return movies.stream()
-                .map(movie -> convertToDto(movie, memberId))
-                .collect(Collectors.toList());
+        return convertToDtoList(movies, memberId);
     }
 
     @Override
     public MovieResponseDto getMovieById(Long id, String memberId) {
         log.info("Getting movie by ID: {}", id);
-        MovieEntity movie = movieRepository.findById(id)
+        MovieEntity movie = movieEntityCache.get(id, movieRepository::findById)
                 .orElseThrow(() -> new MovieNotFoundException(id));
         
         return convertToDto(movie, memberId);
@@ -117,38 +243,34 @@ public class MovieServiceImpl implements MovieService {
     public RecommendationResponseDto toggleRecommendation(Long movieId, String memberId) {
         log.info("Toggling recommendation for movie ID: {} by member ID: {}", movieId, memberId);
         
-        // Check if movie exists
-        MovieEntity movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new MovieNotFoundException(movieId));
-        
-        // Check if recommendation exists
-        Optional<MovieRecommendationEntity> existingRecommendation = 
-                recommendationRepository.findByMovieIdAndMemberId(movieId, memberId);
+        // Check if movie exists and lock its row first (엔티티를 로딩하지 않음, 잠금 순서: 영화 -> 추천)
+        if (!recommendationCounter.lockMovie(movieId)) {
+            throw new MovieNotFoundException(movieId);
+        }
         
-        if (existingRecommendation.isPresent()) {
-            // Remove recommendation
-            recommendationRepository.delete(existingRecommendation.get());
-            movie.decrementRecommendationCount();
-            movieRepository.save(movie);
+        // Remove recommendation if it exists
+        if (recommendationRepository.deleteRecommendation(movieId, memberId) > 0) {
+            int count = recommendationCounter.applyDelta(movieId, -1);
+            eventPublisher.publishEvent(new RecommendationToggledEvent(movieId, memberId, false, count,
+                    !recommendationCounter.isWriteBehind()));
             
             log.info("Recommendation removed for movie ID: {} by member ID: {}", movieId, memberId);
-            return RecommendationResponseDto.removed(movieId, movie.getRecommendationCount());
-        } else {
-            // Add recommendation
-            try {
-                MovieRecommendationEntity recommendation = MovieRecommendationEntity.create(movieId, memberId);
-                recommendationRepository.save(recommendation);
-                
-                movie.incrementRecommendationCount();
-                movieRepository.save(movie);
-                
-                log.info("Recommendation added for movie ID: {} by member ID: {}", movieId, memberId);
-                return RecommendationResponseDto.added(movieId, movie.getRecommendationCount());
-            } catch (Exception e) {
-                log.error("Error adding recommendation", e);
-                throw new DuplicateRecommendationException(movieId, memberId);
-            }
+            return RecommendationResponseDto.removed(movieId, count);
+        }
+        
+        // Add recommendation
+        try {
+            recommendationRepository.saveAndFlush(MovieRecommendationEntity.create(movieId, memberId));
+        } catch (DataIntegrityViolationException e) {
+            log.error("Error adding recommendation", e);
+            throw new DuplicateRecommendationException(movieId, memberId);
         }
+        int count = recommendationCounter.applyDelta(movieId, 1);
+        eventPublisher.publishEvent(new RecommendationToggledEvent(movieId, memberId, true, count,
+                !recommendationCounter.isWriteBehind()));
+        
+        log.info("Recommendation added for movie ID: {} by member ID: {}", movieId, memberId);
+        return RecommendationResponseDto.added(movieId, count);
     }
 
     @Override
@@ -156,13 +278,17 @@ public class MovieServiceImpl implements MovieService {
         if (memberId == null) {
             return false;
         }
+        RecommendedMovieIds recommendedIds = recommendationCache.get(memberId);
+        if (recommendedIds != null) {
+            return recommendedIds.contains(movieId);
+        }
         return recommendationRepository.existsByMovieIdAndMemberId(movieId, memberId);
     }
 
     @Override
     public List<String> getAllGenres() {
         log.info("Getting all distinct genres");
-        return movieRepository.findAllDistinctGenres();
+        return genreCatalogCache.get(movieRepository::findAllDistinctGenres);
     }
     
     /**
@@ -178,6 +304,120 @@ public class MovieServiceImpl implements MovieService {
         if (memberId != null) {
             isRecommended = isRecommendedByUser(movie.getId(), memberId);
         }
-        return MovieResponseDto.fromEntity(movie, isRecommended);
+        return toDto(movie, isRecommended);
+    }
+
+    /**
+     * Continue with the movies without a created at once the dated rows of a keyset slice run out
+     * 등록일 키셋 슬라이스의 등록일 있는 행이 끝나면 등록일이 없는 행으로 이어서 채움
+     *
+     * <p>The keyset range stays a plain range on idx_created_at; the undated tail is only read
+     * through its own query, once, at the end of the dated rows.</p>
+     */
+    private Slice<MovieEntity> withUndatedTail(Slice<MovieEntity> dated, Pageable pageable) {
+        if (dated.hasNext()) {
+            return dated;
+        }
+        int remaining = pageable.getPageSize() - dated.getNumberOfElements();
+        Slice<MovieEntity> undated = movieRepository.findSliceWithoutCreatedAtAfter(
+                Long.MAX_VALUE, PageRequest.of(0, Math.max(remaining, 1)));
+        if (remaining == 0) {
+            // 슬라이스가 가득 찼으면 등록일 없는 행의 존재 여부만 다음 슬라이스 여부에 반영
+            return new SliceImpl<>(dated.getContent(), pageable, undated.hasContent());
+        }
+        List<MovieEntity> movies = new ArrayList<>(dated.getContent());
+        movies.addAll(undated.getContent());
+        return new SliceImpl<>(movies, pageable, undated.hasNext());
+    }
+
+    /**
+     * Convert MovieEntity to MovieResponseDto including recommendation counts not yet flushed
+     * MovieEntity를 MovieResponseDto로 변환 (아직 DB에 반영되지 않은 추천 수 변경 포함)
+     */
+    private MovieResponseDto toDto(MovieEntity movie, boolean recommended) {
+        MovieResponseDto dto = MovieResponseDto.fromEntity(movie, recommended);
+        dto.setRecommendationCount(recommendationCounter.effectiveCount(movie.getId(), movie.getRecommendationCount()));
+        return dto;
+    }
+
+    /**
+     * Parse the created at key of a cursor
+     * 커서의 등록일 키 파싱
+     */
+    private LocalDateTime parseCreatedAt(MovieCursor cursor) {
+        try {
+            return LocalDateTime.parse(cursor.getSortKey());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor.getSortKey(), e);
+        }
+    }
+
+    /**
+     * Find movies by ID keeping the given order, reading through the entity cache
+     * 주어진 순서대로 영화 조회 (엔티티 캐시를 거쳐 없는 영화만 DB에서 일괄 조회)
+     *
+     * @param movieIds 영화 ID 목록
+     * @return 영화 엔티티 목록
+     */
+    private List<MovieEntity> findMoviesInOrder(List<Long> movieIds) {
+        Map<Long, MovieEntity> moviesById = movieEntityCache.getAll(movieIds, movieRepository::findAllById);
+        return movieIds.stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert a page of MovieEntity to MovieResponseDto with a single recommendation lookup
+     * 영화 페이지를 DTO 페이지로 변환 (추천 여부는 페이지당 한 번의 쿼리로 조회)
+     *
+     * @param moviePage 영화 엔티티 페이지
+     * @param memberId 회원 ID
+     * @return MovieResponseDto 페이지
+     */
+    private Page<MovieResponseDto> convertToDtoPage(Page<MovieEntity> moviePage, String memberId) {
+        LongPredicate recommended = recommendationLookup(moviePage.getContent(), memberId);
+        return moviePage.map(movie -> toDto(movie, recommended.test(movie.getId())));
+    }
+
+    /**
+     * Convert a list of MovieEntity to MovieResponseDto with a single recommendation lookup
+     * 영화 목록을 DTO 목록으로 변환 (추천 여부는 한 번의 쿼리로 조회)
+     *
+     * @param movies 영화 엔티티 목록
+     * @param memberId 회원 ID
+     * @return MovieResponseDto 목록
+     */
+    private List<MovieResponseDto> convertToDtoList(List<MovieEntity> movies, String memberId) {
+        LongPredicate recommended = recommendationLookup(movies, memberId);
+        return movies.stream()
+                .map(movie -> toDto(movie, recommended.test(movie.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Build a recommendation membership test for the given movies
+     * 주어진 영화들에 대한 회원의 추천 여부 판별 함수 생성
+     *
+     * <p>Served from {@link MemberRecommendationCache}; members whose recommendations are too
+     * large to cache fall back to one IN query for the movies on the page.</p>
+     *
+     * @param movies 영화 엔티티 목록
+     * @param memberId 회원 ID
+     * @return 영화 ID별 추천 여부 판별 함수
+     */
+    private LongPredicate recommendationLookup(List<MovieEntity> movies, String memberId) {
+        if (memberId == null || movies.isEmpty()) {
+            return movieId -> false;
+        }
+        RecommendedMovieIds cachedIds = recommendationCache.get(memberId);
+        if (cachedIds != null) {
+            return cachedIds::contains;
+        }
+        List<Long> movieIds = movies.stream()
+                .map(MovieEntity::getId)
+                .collect(Collectors.toList());
+        Set<Long> recommendedIds = new HashSet<>(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(memberId, movieIds));
+        return recommendedIds::contains;
     }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ CREATE TABLE IF NOT EXISTS movies (
     title VARCHAR(255) NOT NULL,
     genre VARCHAR(100),
     release_date VARCHAR(20),
+    released_on DATE,
+    release_year INT,
     description TEXT,
     poster_url VARCHAR(500),
     recommendation_count INT DEFAULT 0,
@@ -13,7 +15,9 @@ CREATE TABLE IF NOT EXISTS movies (
     INDEX idx_title (title),
     INDEX idx_genre (genre),
     INDEX idx_recommendation_count (recommendation_count),
-    INDEX idx_created_at (created_at)
+    INDEX idx_created_at (created_at),
+    INDEX idx_release_year (release_year, released_on),
+    INDEX idx_released_on (released_on)
 );
 
 -- 영화 추천 테이블 생성
@@ -28,4 +32,39 @@ CREATE TABLE IF NOT EXISTS movie_recommendations (
     INDEX idx_member_id (member_id),
     
     FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- 영화-장르 매핑 테이블 생성 (정규화된 장르 한 건당 한 행)
+CREATE TABLE IF NOT EXISTS movie_genres (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    movie_id BIGINT NOT NULL,
+    genre VARCHAR(100) NOT NULL,
+    
+    UNIQUE KEY unique_movie_genre (movie_id, genre),
+    INDEX idx_genre_movie_id (genre, movie_id),
+    
+    FOREIGN KEY (movie_id) REFERENCES movies(id) ON DELETE CASCADE
+);
+
+-- 시작 시 백필 진행 위치 (백필 이름별로 처리한 마지막 영화 ID)
+CREATE TABLE IF NOT EXISTS backfill_progress (
+    name VARCHAR(50) PRIMARY KEY,
+    last_id BIGINT NOT NULL
+);
+
+-- ID 시퀀스 테이블 (MySQL 은 시퀀스가 없어 Hibernate 가 한 행 테이블로 pooled 시퀀스를 구현)
+-- 기존 행 이후 값으로의 조정은 애플리케이션 시작 시 IdSequenceAligner 가 수행
+CREATE TABLE IF NOT EXISTS movies_seq (
+    next_val BIGINT
+);
+INSERT INTO movies_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM movies_seq);
+
+CREATE TABLE IF NOT EXISTS movie_recommendations_seq (
+    next_val BIGINT
+);
+INSERT INTO movie_recommendations_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM movie_recommendations_seq);
+
+CREATE TABLE IF NOT EXISTS movie_genres_seq (
+    next_val BIGINT
+);
+INSERT INTO movie_genres_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM movie_genres_seq);
@@ -0,0 +1,35 @@
+package com.tel.benchmark.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns of movie_recommendations shared by both benchmark entities
+ * 두 벤치마크 엔티티가 공유하는 movie_recommendations 컬럼
+ *
+ * <p>Kept outside the {@code com.tel.member} scan root so that regular test contexts do not
+ * create the benchmark tables; the insert benchmark registers this package explicitly.</p>
+ */
+@MappedSuperclass
+public abstract class BenchmarkRecommendation {
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "member_id", nullable = false, length = 50)
+    private String memberId;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    protected BenchmarkRecommendation() {
+    }
+
+    protected BenchmarkRecommendation(Long movieId, String memberId) {
+        this.movieId = movieId;
+        this.memberId = memberId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
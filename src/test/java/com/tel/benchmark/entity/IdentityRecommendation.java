@@ -0,0 +1,27 @@
+package com.tel.benchmark.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Benchmark recommendation with an IDENTITY key (row-by-row inserts)
+ * IDENTITY 키 벤치마크 추천 엔티티 (행마다 개별 INSERT)
+ */
+@Entity
+@Table(name = "benchmark_identity_recommendations")
+public class IdentityRecommendation extends BenchmarkRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    protected IdentityRecommendation() {
+    }
+
+    public IdentityRecommendation(Long movieId, String memberId) {
+        super(movieId, memberId);
+    }
+}
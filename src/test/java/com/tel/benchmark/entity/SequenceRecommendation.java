@@ -0,0 +1,30 @@
+package com.tel.benchmark.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Benchmark recommendation with a pooled sequence key (batchable inserts)
+ * pooled 시퀀스 키 벤치마크 추천 엔티티 (배치 INSERT 가능)
+ */
+@Entity
+@Table(name = "benchmark_sequence_recommendations")
+public class SequenceRecommendation extends BenchmarkRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_recommendations_seq")
+    @SequenceGenerator(name = "benchmark_recommendations_seq", sequenceName = "benchmark_recommendations_seq",
+            allocationSize = 50)
+    private Long id;
+
+    protected SequenceRecommendation() {
+    }
+
+    public SequenceRecommendation(Long movieId, String memberId) {
+        super(movieId, memberId);
+    }
+}
@@ -0,0 +1,200 @@
+package com.tel.member.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.tel.member.dto.MemberSummaryDto;
+import com.tel.member.entity.MemberEntity;
+import com.tel.member.repository.MemberRepository;
+import com.tel.member.security.PasswordHashingService;
+import com.tel.member.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for LoggingAspect
+ * LoggingAspect 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    private final Logger aspectLogger = (Logger) LoggerFactory.getLogger(LoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = aspectLogger.getLevel();
+        aspectLogger.setLevel(Level.INFO);
+        appender.start();
+        aspectLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspectLogger.detachAppender(appender);
+        aspectLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    void sampledMode_SkipsFastUnsampledCalls() {
+        // Given
+        stubMember();
+        MemberService service = proxy(new LoggingAspect("sampled", 0.0, 500, 200));
+
+        // When
+        service.findById("alice");
+
+        // Then
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void fullMode_MasksPasswordsAndSummarizesPages() {
+        // Given
+        stubMember();
+        when(memberRepository.findSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(
+                List.of(new MemberSummaryDto("alice", "앨리스", "alice@example.com", LocalDate.of(2024, 1, 1), "C")),
+                PageRequest.of(0, 20), 41));
+        MemberService service = proxy(new LoggingAspect("full", 0.0, 500, 200));
+
+        // When
+        service.findById("alice");
+        service.findSummaries(0, 20);
+
+        // Then
+        assertEquals(2, appender.list.size());
+        String member = appender.list.get(0).getFormattedMessage();
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+        assertTrue(member.contains("MemberService.findById"));
+        assertTrue(member.contains("password=***"));
+        assertFalse(member.contains("$2a$10$secret-hash"));
+        assertTrue(appender.list.get(1).getFormattedMessage()
+                .contains("Page[number=0, size=20, elements=1, total=41]"));
+    }
+
+    @Test
+    void sampledMode_LogsSlowCallsAndFailures() {
+        // Given - 임계값 0 ms: 모든 호출이 느린 호출
+        stubMember();
+        MemberService slow = proxy(new LoggingAspect("sampled", 0.0, 0, 200));
+        MemberService failing = proxy(new LoggingAspect("sampled", 0.0, 500, 200));
+
+        // When
+        slow.findById("alice");
+        assertThrows(IllegalArgumentException.class, () -> failing.findSummaries(0, 1_000));
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("느린 호출: MemberService.findById"));
+        assertEquals(Level.WARN, appender.list.get(1).getLevel());
+        assertTrue(appender.list.get(1).getFormattedMessage().contains("IllegalArgumentException"));
+    }
+
+    @Test
+    void offMode_LogsNothing() {
+        // Given
+        MemberService service = proxy(new LoggingAspect("off", 1.0, 0, 200));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> service.findSummaries(0, 1_000));
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void fullMode_NeverLogsRawPasswordsOfPasswordHashingService() {
+        // Given - 모든 호출을 느린 호출로 기록하는 설정
+        PasswordHashingService hashing = new PasswordHashingService(1, 4, 5_000, 4, false, 0);
+        try {
+            AspectJProxyFactory factory = new AspectJProxyFactory(hashing);
+            factory.setProxyTargetClass(true);
+            factory.addAspect(new LoggingAspect("full", 1.0, 0, 200));
+            PasswordHashingService proxy = factory.getProxy();
+
+            // When
+            String hash = proxy.encode("raw-secret-1234");
+            proxy.matches("raw-secret-1234", hash);
+            proxy.matches("wrong-secret-5678", hash);
+
+            // Then
+            for (ILoggingEvent event : appender.list) {
+                assertFalse(event.getFormattedMessage().contains("raw-secret-1234"), event.getFormattedMessage());
+                assertFalse(event.getFormattedMessage().contains("wrong-secret-5678"), event.getFormattedMessage());
+            }
+        } finally {
+            hashing.shutdown();
+        }
+    }
+
+    @Test
+    void sensitiveArgs_MaskedEvenWhenWoven() throws Throwable {
+        // Given - @SensitiveArgs 클래스의 메서드가 포인트컷에 걸린 경우
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(PasswordHashingService.class.getMethod("encode", String.class));
+        when(signature.toShortString()).thenReturn("PasswordHashingService.encode(..)");
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.proceed()).thenReturn("$2a$04$hash");
+
+        // When
+        new LoggingAspect("full", 1.0, 500, 200).logCall(joinPoint);
+
+        // Then
+        assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("PasswordHashingService.encode(..)"));
+        assertTrue(message.contains("파라미터: [***]"));
+    }
+
+    @Test
+    void render_TruncatesLongValues() {
+        LoggingAspect aspect = new LoggingAspect("full", 0.0, 500, 10);
+
+        assertEquals("0123456789...", aspect.render("0123456789abcdef"));
+        assertEquals("ArrayList[size=2]", aspect.render(new java.util.ArrayList<>(List.of(1, 2))));
+    }
+
+    private void stubMember() {
+        MemberEntity entity = new MemberEntity();
+        entity.setId("alice");
+        entity.setEmail("alice@example.com");
+        entity.setPassword("$2a$10$secret-hash");
+        when(memberRepository.findById("alice")).thenReturn(Optional.of(entity));
+    }
+
+    private MemberService proxy(LoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new MemberService(memberRepository, passwordHashingService));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
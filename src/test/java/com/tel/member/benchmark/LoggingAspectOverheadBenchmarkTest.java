@@ -0,0 +1,165 @@
+package com.tel.member.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.tel.member.aop.LoggingAspect;
+import com.tel.member.dto.MemberSummaryDto;
+import com.tel.member.repository.MemberRepository;
+import com.tel.member.security.PasswordHashingService;
+import com.tel.member.service.MemberService;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-call overhead of LoggingAspect: previous blanket INFO logging vs sampled / off modes
+ * LoggingAspect 호출당 오버헤드 벤치마크: 기존 전체 INFO 로깅과 샘플링 / off 모드 비교
+ *
+ * <p>Each variant proxies the same MemberService.findSummaries call returning a 20-row page.
+ * Log output goes through a real pattern encoder into a discarding stream, so formatting and
+ * rendering costs are measured without console I/O. Run with {@code ./gradlew benchmark}.</p>
+ */
+@Tag("benchmark")
+class LoggingAspectOverheadBenchmarkTest {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int CALLS = 200_000;
+
+    @Test
+    void perCallOverhead_LegacyVsSampled() {
+        discardLogOutput(LoggingAspect.class.getName(), LegacyLoggingAspect.class.getName());
+
+        MemberService direct = memberService();
+        List<Result> results = new ArrayList<>();
+        results.add(measure("no aspect", direct));
+        results.add(measure("legacy (INFO all)", proxy(direct, new LegacyLoggingAspect())));
+        results.add(measure("full", proxy(direct, new LoggingAspect("full", 0.0, 500, 200))));
+        results.add(measure("sampled 1%", proxy(direct, new LoggingAspect("sampled", 0.01, 500, 200))));
+        results.add(measure("off", proxy(direct, new LoggingAspect("off", 0.0, 500, 200))));
+
+        double baseline = results.get(0).nanosPerCall;
+        System.out.printf("%-18s %12s %14s%n", "variant", "ns/call", "overhead ns");
+        results.forEach(result -> System.out.printf("%-18s %,12.0f %,14.0f%n",
+                result.name, result.nanosPerCall, result.nanosPerCall - baseline));
+
+        // 샘플링 모드는 기존 방식보다 호출당 비용이 작아야 함
+        assertTrue(results.get(3).nanosPerCall < results.get(1).nanosPerCall,
+                "expected sampled mode to be cheaper than legacy logging");
+    }
+
+    private static Result measure(String name, MemberService service) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink += service.findSummaries(0, 20).getNumberOfElements();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < CALLS; i++) {
+            sink += service.findSummaries(0, 20).getNumberOfElements();
+        }
+        long elapsed = System.nanoTime() - started;
+        assertEquals((long) (WARMUP_CALLS + CALLS) * 20, sink);
+        return new Result(name, (double) elapsed / CALLS);
+    }
+
+    private static MemberService memberService() {
+        List<MemberSummaryDto> members = IntStream.range(0, 20)
+                .mapToObj(i -> new MemberSummaryDto("member" + i, "회원" + i, "member" + i + "@example.com",
+                        LocalDate.of(2024, 1, 1), "C"))
+                .toList();
+        Page<MemberSummaryDto> page = new PageImpl<>(members, PageRequest.of(0, 20), 1_000);
+        MemberRepository repository = mock(MemberRepository.class);
+        when(repository.findSummaries(any(Pageable.class))).thenReturn(page);
+        return new MemberService(repository, mock(PasswordHashingService.class));
+    }
+
+    private static MemberService proxy(MemberService target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static void discardLogOutput(String... loggerNames) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %5level [%thread] %logger{36} : %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        for (String loggerName : loggerNames) {
+            Logger logger = context.getLogger(loggerName);
+            logger.setLevel(Level.INFO);
+            logger.setAdditive(false);
+            logger.addAppender(appender);
+        }
+    }
+
+    private record Result(String name, double nanosPerCall) {
+    }
+
+    /**
+     * Previous LoggingAspect behaviour: INFO before / after every call with full values, millisecond timing
+     * 기존 LoggingAspect 동작 재현: 모든 호출 전후 INFO 로그 + 전체 값 출력 + 밀리초 측정
+     */
+    @Aspect
+    static class LegacyLoggingAspect {
+
+        private static final org.slf4j.Logger log = LoggerFactory.getLogger(LegacyLoggingAspect.class);
+
+        @Before("execution(* com.tel.member.service..*(..))")
+        public void logBefore(JoinPoint joinPoint) {
+            log.info("=== 메서드 실행 시작: {} ===", joinPoint.getSignature().toShortString());
+            Object[] args = joinPoint.getArgs();
+            if (args.length > 0) {
+                log.info("파라미터: {}", args);
+            }
+        }
+
+        @AfterReturning(pointcut = "execution(* com.tel.member.service..*(..))", returning = "result")
+        public void logAfterReturning(JoinPoint joinPoint, Object result) {
+            log.info("=== 메서드 실행 완료: {} ===", joinPoint.getSignature().toShortString());
+            if (result != null) {
+                log.info("반환값: {}", result);
+            }
+        }
+
+        @Around("execution(* com.tel.member.service..*(..))")
+        public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+            long startTime = System.currentTimeMillis();
+            Object result = joinPoint.proceed();
+            log.info("메서드 실행 시간: {}ms - {}",
+                    (System.currentTimeMillis() - startTime), joinPoint.getSignature().toShortString());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.tel.member.benchmark;
+
+import com.tel.member.MemberApplication;
+import com.tel.member.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput / p99 benchmark of the blocking request path: platform vs virtual request threads
+ * 블로킹 요청 경로 처리량 / p99 벤치마크: 플랫폼 스레드와 가상 스레드 요청 처리 비교
+ *
+ * <p>Starts the application once per mode (Tomcat default 200 worker threads vs
+ * {@code spring.threads.virtual.enabled=true}) and drives an endpoint that blocks like
+ * the real request path: a remote call (simulated with a sleep, as in the image URL HEAD
+ * check) followed by a JPA query through the Hikari pool. Run with {@code ./gradlew benchmark}.</p>
+ */
+@Tag("benchmark")
+class VirtualThreadThroughputBenchmarkTest {
+
+    private static final int CONCURRENCY = 1_000;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final long REMOTE_CALL_MILLIS = 50;
+
+    @Test
+    void blockingRequests_PlatformVsVirtualThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("%-17s %,10s %10s %10s %8s%n", "mode", "req/s", "p50 ms", "p99 ms", "errors");
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertEquals(0, platform.errors);
+        assertEquals(0, virtual.errors);
+        // 200 개 워커 스레드 제한이 사라지므로 동시 요청 1000 개에서는 가상 스레드 쪽 처리량이 높아야 함
+        assertTrue(virtual.requestsPerSecond > platform.requestsPerSecond,
+                "expected virtual threads to outperform the platform pool: " + virtual + " vs " + platform);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemberApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:threads-benchmark-" + mode + ";MODE=MySQL",
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.tel.member=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO")
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean(
+                        "blockingBenchmarkRoute", RouterFunction.class, () -> blockingRoute(ctx)))
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/benchmark/blocking");
+            drive(uri, WARMUP_REQUESTS);
+            Result result = drive(uri, REQUESTS);
+            result.mode = mode;
+            return result;
+        }
+    }
+
+    private static RouterFunction<ServerResponse> blockingRoute(ConfigurableApplicationContext context) {
+        return RouterFunctions.route()
+                .GET("/benchmark/blocking", request -> {
+                    // 외부 호출(HEAD 확인 등) 대기 + DB 조회
+                    Thread.sleep(REMOTE_CALL_MILLIS);
+                    long members = context.getBean(MemberRepository.class).count();
+                    return ServerResponse.ok().body(String.valueOf(members));
+                })
+                .build();
+    }
+
+    private static Result drive(URI uri, int requests) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+
+        long started = System.nanoTime();
+        // 클라이언트는 항상 가상 스레드: 부하 생성기가 병목이 되지 않도록
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        latencies[index] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        Result result = new Result();
+        result.requestsPerSecond = requests / (elapsed / 1_000_000_000.0);
+        result.p50Millis = latencies[requests / 2] / 1_000_000.0;
+        result.p99Millis = latencies[(int) (requests * 0.99)] / 1_000_000.0;
+        result.errors = errors.sum();
+        return result;
+    }
+
+    private static class Result {
+        String mode;
+        double requestsPerSecond;
+        double p50Millis;
+        double p99Millis;
+        long errors;
+
+        @Override
+        public String toString() {
+            return String.format("%-17s %,10.0f %10.1f %10.1f %8d", mode, requestsPerSecond, p50Millis, p99Millis, errors);
+        }
+    }
+}
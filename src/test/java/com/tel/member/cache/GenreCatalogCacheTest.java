@@ -0,0 +1,75 @@
+package com.tel.member.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GenreCatalogCache
+ * GenreCatalogCache 테스트 클래스
+ */
+class GenreCatalogCacheTest {
+
+    @Test
+    void get_ConcurrentRebuildsAreCoalesced() throws Exception {
+        // Given - a slow loader
+        GenreCatalogCache cache = new GenreCatalogCache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // When
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get(() -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return List.of("Action", "Drama");
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            for (Future<List<String>> result : results) {
+                assertEquals(List.of("Action", "Drama"), result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidate_ForcesRebuild() {
+        // Given
+        GenreCatalogCache cache = new GenreCatalogCache();
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(() -> List.of("Action"));
+
+        // When
+        cache.invalidate();
+        List<String> genres = cache.get(() -> {
+            loads.incrementAndGet();
+            return List.of("Action", "Comedy");
+        });
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(List.of("Action", "Comedy"), genres);
+    }
+}
@@ -0,0 +1,122 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.RecommendationToggledEvent;
+import com.tel.member.repository.MovieRecommendationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for MemberRecommendationCache
+ * MemberRecommendationCache 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberRecommendationCacheTest {
+
+    private static final String TEST_MEMBER_ID = "testUser";
+
+    @Mock
+    private MovieRecommendationRepository recommendationRepository;
+
+    private MemberRecommendationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberRecommendationCache(recommendationRepository, 1024 * 1024, 1800, 1000);
+    }
+
+    @Test
+    void get_LoadsOnceThenHits() {
+        // Given
+        when(recommendationRepository.findMovieIdsByMemberId(TEST_MEMBER_ID)).thenReturn(List.of(3L, 1L, 2L));
+
+        // When
+        RecommendedMovieIds first = cache.get(TEST_MEMBER_ID);
+        RecommendedMovieIds second = cache.get(TEST_MEMBER_ID);
+
+        // Then
+        assertTrue(first.contains(1L));
+        assertTrue(first.contains(3L));
+        assertFalse(first.contains(4L));
+        assertSame(first, second);
+        verify(recommendationRepository, times(1)).findMovieIdsByMemberId(TEST_MEMBER_ID);
+
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    void get_NullMemberReturnsEmpty() {
+        assertFalse(cache.get(null).contains(1L));
+        verifyNoInteractions(recommendationRepository);
+    }
+
+    @Test
+    void onRecommendationToggled_UpdatesCachedEntry() {
+        // Given
+        when(recommendationRepository.findMovieIdsByMemberId(TEST_MEMBER_ID)).thenReturn(List.of(1L));
+        cache.get(TEST_MEMBER_ID);
+
+        // When
+        cache.onRecommendationToggled(new RecommendationToggledEvent(5L, TEST_MEMBER_ID, true, 1));
+        cache.onRecommendationToggled(new RecommendationToggledEvent(1L, TEST_MEMBER_ID, false, 0));
+
+        // Then
+        RecommendedMovieIds ids = cache.get(TEST_MEMBER_ID);
+        assertTrue(ids.contains(5L));
+        assertFalse(ids.contains(1L));
+        verify(recommendationRepository, times(1)).findMovieIdsByMemberId(TEST_MEMBER_ID);
+    }
+
+    @Test
+    void get_OversizedMemberIsNotCached() {
+        // Given
+        cache = new MemberRecommendationCache(recommendationRepository, 1024 * 1024, 1800, 2);
+        when(recommendationRepository.findMovieIdsByMemberId(TEST_MEMBER_ID)).thenReturn(List.of(1L, 2L, 3L));
+
+        // When & Then
+        assertNull(cache.get(TEST_MEMBER_ID));
+        assertEquals(0, cache.getStats().get("entries"));
+    }
+
+    @Test
+    void evictIdleEntries_RemovesIdleMembers() {
+        // Given
+        cache = new MemberRecommendationCache(recommendationRepository, 1024 * 1024, 0, 1000);
+        when(recommendationRepository.findMovieIdsByMemberId(TEST_MEMBER_ID)).thenReturn(List.of(1L));
+        cache.get(TEST_MEMBER_ID);
+
+        // When
+        cache.evictIdleEntries();
+
+        // Then
+        assertEquals(0, cache.getStats().get("entries"));
+        assertEquals(0L, cache.getStats().get("estimatedBytes"));
+    }
+
+    @Test
+    void get_EvictsLeastRecentlyUsedWhenOverBudget() {
+        // Given - budget fits roughly two small entries
+        cache = new MemberRecommendationCache(recommendationRepository, 400, 1800, 1000);
+        when(recommendationRepository.findMovieIdsByMemberId(anyString())).thenReturn(List.of(1L, 2L));
+
+        // When
+        cache.get("member1");
+        cache.get("member2");
+        cache.get("member3");
+
+        // Then
+        Map<String, Object> stats = cache.getStats();
+        assertTrue((Long) stats.get("estimatedBytes") <= 400);
+        assertTrue((Long) stats.get("sizeEvictions") > 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.tel.member.cache;
+
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.event.RecommendationToggledEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MovieEntityCache
+ * MovieEntityCache 테스트 클래스
+ */
+class MovieEntityCacheTest {
+
+    private static final int MAXIMUM_SIZE = 10;
+
+    private MovieEntityCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MovieEntityCache(MAXIMUM_SIZE);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_LoadsOnceAndReturnsCopies() {
+        // When
+        MovieEntity first = cache.get(1L, this::load).orElseThrow();
+        first.setTitle("changed by caller");
+        MovieEntity second = cache.get(1L, this::load).orElseThrow();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals("Movie 1", second.getTitle());
+        assertEquals(1L, cache.getStats().get("hits"));
+    }
+
+    @Test
+    void get_MissingMovieIsNotCached() {
+        assertTrue(cache.get(1L, id -> Optional.empty()).isEmpty());
+        assertEquals(0, cache.getStats().get("size"));
+    }
+
+    @Test
+    void get_ColdScanDoesNotFlushPopularMovies() {
+        // Given - popular movies accessed repeatedly
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= MAXIMUM_SIZE; id++) {
+                cache.get(id, this::load);
+            }
+        }
+
+        // When - scan of cold IDs, each accessed once
+        for (long id = 1000; id < 1100; id++) {
+            cache.get(id, this::load);
+        }
+
+        // Then
+        for (long id = 1; id <= MAXIMUM_SIZE; id++) {
+            assertNotNull(cache.getIfPresent(id), "popular movie " + id + " was evicted");
+        }
+        assertTrue((Long) cache.getStats().get("rejections") > 0);
+    }
+
+    @Test
+    void onRecommendationToggled_UpdatesCachedCount() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        cache.onRecommendationToggled(new RecommendationToggledEvent(1L, "testUser", true, 42));
+
+        // Then
+        assertEquals(42, cache.getIfPresent(1L).getRecommendationCount());
+    }
+
+    @Test
+    void invalidate_RemovesMovie() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        cache.invalidate(1L);
+
+        // Then
+        assertNull(cache.getIfPresent(1L));
+    }
+
+    private Optional<MovieEntity> load(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(MovieEntity.builder()
+                .id(id)
+                .title("Movie " + id)
+                .genre("Action")
+                .recommendationCount(0)
+                .build());
+    }
+}
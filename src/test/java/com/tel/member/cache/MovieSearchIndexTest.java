@@ -0,0 +1,115 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for MovieSearchIndex
+ * MovieSearchIndex 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class MovieSearchIndexTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private MovieSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MovieSearchIndex(movieRepository);
+    }
+
+    @Test
+    void search_ReturnsNullUntilBuilt() {
+        assertNull(index.search("dark"));
+    }
+
+    @Test
+    void search_MatchesTitleOrGenreLikeContainsIgnoringCase() {
+        // Given
+        when(movieRepository.findSearchDocuments()).thenReturn(List.of(
+                new Object[]{3L, "The Dark Knight Rises", "Action"},
+                new Object[]{1L, "The Dark Knight", "Action"},
+                new Object[]{2L, "Inception", "Sci-Fi"}));
+        index.rebuild();
+
+        // When & Then
+        assertArrayEquals(new long[]{1L, 3L}, index.search("DARK"));
+        assertArrayEquals(new long[]{2L}, index.search("sci-f"));
+        assertArrayEquals(new long[]{1L, 2L, 3L}, index.search("tion"));
+        assertArrayEquals(new long[]{3L}, index.search("knight rises"));
+        assertArrayEquals(new long[]{1L, 2L, 3L}, index.search("n"));
+        assertArrayEquals(new long[]{1L, 2L, 3L}, index.search(""));
+        assertArrayEquals(new long[0], index.search("joker"));
+    }
+
+    @Test
+    void search_DoesNotMatchAcrossTitleAndGenre() {
+        // Given - "ab" appears only in the title and "bc" only in the genre
+        when(movieRepository.findSearchDocuments()).thenReturn(List.<Object[]>of(new Object[]{1L, "Xab", "Bcy"}));
+        index.rebuild();
+
+        // When & Then - every bigram of "abc" is indexed for the movie, but no field contains it
+        assertArrayEquals(new long[0], index.search("abc"));
+        assertArrayEquals(new long[]{1L}, index.search("bcy"));
+    }
+
+    @Test
+    void search_HandlesKoreanSyllablesAndDecomposedInput() {
+        // Given
+        when(movieRepository.findSearchDocuments()).thenReturn(List.of(
+                new Object[]{1L, "기생충", "드라마"},
+                new Object[]{2L, "부산행", "액션"}));
+        index.rebuild();
+
+        // When & Then
+        assertArrayEquals(new long[]{1L}, index.search("생충"));
+        assertArrayEquals(new long[]{2L}, index.search("행"));
+        assertArrayEquals(new long[]{1L}, index.search(Normalizer.normalize("드라마", Normalizer.Form.NFD)));
+    }
+
+    @Test
+    void search_IgnoresAccentsWidthAndSharpS() {
+        // Given
+        when(movieRepository.findSearchDocuments()).thenReturn(List.of(
+                new Object[]{1L, "Amélie", "Romance"},
+                new Object[]{2L, "Der Große Diktator", "Comedy"},
+                new Object[]{3L, "ＭＡＴＲＩＸ", "SF"}));
+        index.rebuild();
+
+        // When & Then - utf8mb4_0900_ai_ci 와 같이 악센트 / 전각 / ß 무시
+        assertArrayEquals(new long[]{1L}, index.search("amelie"));
+        assertArrayEquals(new long[]{1L}, index.search("AMÉLIE"));
+        assertArrayEquals(new long[]{2L}, index.search("grosse"));
+        assertArrayEquals(new long[]{3L}, index.search("matrix"));
+    }
+
+    @Test
+    void onMovieCreated_IndexesNewMovie() {
+        // Given
+        when(movieRepository.findSearchDocuments()).thenReturn(List.of());
+        index.rebuild();
+
+        // When
+        index.onMovieCreated(new MovieCreatedEvent(5L, "Interstellar", "Sci-Fi", 0, LocalDateTime.now()));
+        index.onMovieCreated(new MovieCreatedEvent(4L, "Inside Out", null, 0, LocalDateTime.now()));
+
+        // Then
+        assertArrayEquals(new long[]{4L, 5L}, index.search("in"));
+        assertArrayEquals(new long[]{5L}, index.search("stellar"));
+        assertEquals(2, index.getStats().get("movies"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.tel.member.cache;
+
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.event.RecommendationToggledEvent;
+import com.tel.member.repository.MovieRepository;
+import com.tel.member.service.RecommendationCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for RecommendationLeaderboard
+ * RecommendationLeaderboard 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class RecommendationLeaderboardTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private RecommendationCounterService recommendationCounter;
+
+    private RecommendationLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new RecommendationLeaderboard(movieRepository, recommendationCounter, 10, 100, 0);
+        // Direct counter mode: the persisted count is the effective count
+        lenient().when(recommendationCounter.effectiveCount(any(), any())).thenAnswer(invocation -> {
+            Integer count = invocation.getArgument(1);
+            return count == null ? 0 : count;
+        });
+    }
+
+    @Test
+    void topMovieIds_NullBeforeSeeding() {
+        assertNull(leaderboard.topMovieIds(5));
+    }
+
+    @Test
+    void reload_OrdersByCountThenCreatedAt() {
+        // Given - movies 2 and 3 tie on count, 3 is newer
+        when(movieRepository.findRankings(any(Pageable.class))).thenReturn(rows(
+                row(1L, 5, BASE_TIME),
+                row(2L, 10, BASE_TIME),
+                row(3L, 10, BASE_TIME.plusDays(1))));
+
+        // When
+        leaderboard.reload();
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), leaderboard.topMovieIds(5));
+        assertEquals(List.of(3L, 2L), leaderboard.topMovieIds(2));
+    }
+
+    @Test
+    void onRecommendationToggled_Reorders() {
+        // Given
+        when(movieRepository.findRankings(any(Pageable.class))).thenReturn(rows(
+                row(1L, 5, BASE_TIME),
+                row(2L, 6, BASE_TIME)));
+        leaderboard.reload();
+
+        // When
+        leaderboard.onRecommendationToggled(new RecommendationToggledEvent(1L, "testUser", true, 7));
+
+        // Then
+        assertEquals(List.of(1L, 2L), leaderboard.topMovieIds(5));
+    }
+
+    @Test
+    void onMovieCreated_AddsMovie() {
+        // Given
+        when(movieRepository.findRankings(any(Pageable.class))).thenReturn(rows(row(1L, 0, BASE_TIME)));
+        leaderboard.reload();
+
+        // When - same count, newer movie ranks first
+        leaderboard.onMovieCreated(new MovieCreatedEvent(2L, "New Movie", "Drama", 0, BASE_TIME.plusHours(1)));
+
+        // Then
+        assertEquals(List.of(2L, 1L), leaderboard.topMovieIds(5));
+    }
+
+    @Test
+    void verify_ReloadsWhenDatabaseDiffers() {
+        // Given
+        when(movieRepository.findRankings(any(Pageable.class)))
+                .thenReturn(rows(row(1L, 5, BASE_TIME), row(2L, 3, BASE_TIME)))
+                .thenReturn(rows(row(2L, 8, BASE_TIME), row(1L, 5, BASE_TIME)))
+                .thenReturn(rows(row(2L, 8, BASE_TIME), row(1L, 5, BASE_TIME)));
+        leaderboard.reload();
+
+        // When
+        leaderboard.verify();
+
+        // Then
+        assertEquals(List.of(2L, 1L), leaderboard.topMovieIds(5));
+        assertEquals(1L, leaderboard.getStats().get("mismatches"));
+    }
+
+    @Test
+    void verify_IncludesUnflushedWriteBehindDeltas() {
+        // Given - movie 1 was toggled to 7 but the write-behind delta is not flushed yet
+        when(movieRepository.findRankings(any(Pageable.class)))
+                .thenReturn(rows(row(1L, 5, BASE_TIME), row(2L, 6, BASE_TIME)));
+        when(recommendationCounter.effectiveCount(1L, 5)).thenReturn(7);
+        leaderboard.reload();
+        leaderboard.onRecommendationToggled(new RecommendationToggledEvent(1L, "testUser", true, 7));
+
+        // When
+        leaderboard.verify();
+
+        // Then
+        assertEquals(List.of(1L, 2L), leaderboard.topMovieIds(5));
+        assertEquals(0L, leaderboard.getStats().get("mismatches"));
+        assertEquals(1L, leaderboard.getStats().get("reloads"));
+    }
+
+    @Test
+    void reload_KeepsOnlyTopWindowAndLeavesLongerListsToDatabase() {
+        // Given - capacity 3, the database returns a full window
+        leaderboard = new RecommendationLeaderboard(movieRepository, recommendationCounter, 3, 3, 0);
+        when(movieRepository.findRankings(PageRequest.of(0, 3))).thenReturn(rows(
+                row(1L, 9, BASE_TIME),
+                row(2L, 8, BASE_TIME),
+                row(3L, 7, BASE_TIME)));
+
+        // When
+        leaderboard.reload();
+
+        // Then
+        assertEquals(List.of(1L, 2L), leaderboard.topMovieIds(2));
+        assertNull(leaderboard.topMovieIds(4));
+        assertEquals(false, leaderboard.getStats().get("complete"));
+    }
+
+    @Test
+    void onRecommendationToggled_OutsideMovieEntersOnlyWhenOvertakingWindow() {
+        // Given
+        leaderboard = new RecommendationLeaderboard(movieRepository, recommendationCounter, 3, 3, 0);
+        when(movieRepository.findRankings(PageRequest.of(0, 3))).thenReturn(rows(
+                row(1L, 9, BASE_TIME),
+                row(2L, 8, BASE_TIME),
+                row(3L, 7, BASE_TIME)));
+        leaderboard.reload();
+
+        // When - movie 4 (outside) reaches 7 (no overtake), then 8 (overtakes movie 3)
+        leaderboard.onRecommendationToggled(new RecommendationToggledEvent(4L, "testUser", true, 7));
+        List<Long> afterTie = leaderboard.topMovieIds(3);
+        leaderboard.onRecommendationToggled(new RecommendationToggledEvent(4L, "otherUser", true, 8));
+
+        // Then - movie 3 is evicted and the window stays bounded
+        assertEquals(List.of(1L, 2L, 3L), afterTie);
+        assertEquals(List.of(1L, 2L, 4L), leaderboard.topMovieIds(3));
+        assertEquals(3, leaderboard.getStats().get("size"));
+    }
+
+    @Test
+    void onRecommendationToggled_DropsMovieFallingToWindowEndAndRefills() {
+        // Given - capacity 3, refill below 3
+        leaderboard = new RecommendationLeaderboard(movieRepository, recommendationCounter, 3, 3, 3);
+        when(movieRepository.findRankings(PageRequest.of(0, 3)))
+                .thenReturn(rows(row(1L, 9, BASE_TIME), row(2L, 8, BASE_TIME), row(3L, 7, BASE_TIME)))
+                .thenReturn(rows(row(1L, 9, BASE_TIME), row(2L, 8, BASE_TIME), row(4L, 6, BASE_TIME)));
+        leaderboard.reload();
+
+        // When - movie 3 drops to 2; an outside movie may now rank above it
+        leaderboard.onRecommendationToggled(new RecommendationToggledEvent(3L, "testUser", false, 2));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 4L), leaderboard.topMovieIds(3));
+        assertEquals(2L, leaderboard.getStats().get("reloads"));
+        verify(movieRepository, never()).findRankings(Pageable.unpaged());
+    }
+
+    private static Object[] row(Long id, Integer count, LocalDateTime createdAt) {
+        return new Object[]{id, count, createdAt};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
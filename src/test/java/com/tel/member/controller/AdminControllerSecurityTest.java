@@ -0,0 +1,71 @@
+package com.tel.member.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Access control of the admin endpoints
+ * 운영용 API 접근 제어 테스트
+ */
+@SpringBootTest(properties = {
+        "member.admin.username=ops",
+        "member.admin.password=test-admin-password"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void adminEndpoints_RejectAnonymousRequests() throws Exception {
+        mockMvc.perform(get("/api/admin/members/export"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/admin/caches"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void importEndpoints_RejectAnonymousRequests() throws Exception {
+        mockMvc.perform(post("/api/admin/movies/import").contentType("text/csv").content("title,genre\nA,B"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/recommendations/import").contentType("text/csv").content("1,alice"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void adminEndpoints_RejectWrongPassword() throws Exception {
+        mockMvc.perform(get("/api/admin/members/export").header(HttpHeaders.AUTHORIZATION, basic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void adminEndpoints_AllowAdminAccount() throws Exception {
+        mockMvc.perform(get("/api/admin/members/export").header(HttpHeaders.AUTHORIZATION, basic("ops", "test-admin-password")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void publicEndpoints_StayOpen() throws Exception {
+        mockMvc.perform(get("/api/movies"))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
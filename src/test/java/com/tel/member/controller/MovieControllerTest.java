@@ -5,6 +5,8 @@ import com.tel.member.dto.MovieCreateRequestDto;
 import com.tel.member.dto.MovieResponseDto;
 import com.tel.member.dto.RecommendationResponseDto;
 import com.tel.member.exception.MovieNotFoundException;
+import com.tel.member.metrics.MetricsRegistry;
+import com.tel.member.service.MovieExportService;
 import com.tel.member.service.MovieService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,12 @@ class MovieControllerTest {
     @MockBean
     private MovieService movieService;
 
+    @MockBean
+    private MovieExportService movieExportService;
+
+    @MockBean
+    private MetricsRegistry metricsRegistry;
+
     private MovieResponseDto testMovieDto;
     private MovieCreateRequestDto createRequestDto;
     private final String TEST_MEMBER_ID = "testUser";
@@ -150,6 +158,53 @@ class MovieControllerTest {
         verify(movieService).getMoviesByGenre(eq("Action"), any(Pageable.class), eq(TEST_MEMBER_ID));
     }
 
+    @Test
+    void exportMovies_StreamsNdjson() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/movies/export")
+                .param("genre", "Action")
+                .param("updatedSince", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+        verify(movieExportService).exportMovies(eq("Action"), eq(LocalDateTime.of(2024, 1, 1, 0, 0)), any());
+    }
+
+    @Test
+    void getMoviesByYear() throws Exception {
+        // Given
+        Page<MovieResponseDto> moviePage = new PageImpl<>(List.of(testMovieDto));
+        
+        when(movieService.getMoviesByYear(eq(2024), any(Pageable.class), anyString())).thenReturn(moviePage);
+
+        // When & Then
+        mockMvc.perform(get("/api/movies/year/2024")
+                .param("memberId", TEST_MEMBER_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].releaseDate", is("2024-01-01")));
+
+        verify(movieService).getMoviesByYear(eq(2024), argThat(pageable ->
+                pageable.getSort().getOrderFor("releasedOn") != null), eq(TEST_MEMBER_ID));
+    }
+
+    @Test
+    void getMoviesByYearRange() throws Exception {
+        // Given
+        Page<MovieResponseDto> moviePage = new PageImpl<>(List.of(testMovieDto));
+        
+        when(movieService.getMoviesByYearRange(eq(2020), eq(2024), any(Pageable.class), isNull())).thenReturn(moviePage);
+
+        // When & Then
+        mockMvc.perform(get("/api/movies/years")
+                .param("from", "2020")
+                .param("to", "2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+
+        verify(movieService).getMoviesByYearRange(eq(2020), eq(2024), any(Pageable.class), isNull());
+    }
+
     @Test
     void searchMovies() throws Exception {
         // Given
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -104,4 +106,41 @@ class MovieEntityTest {
         assertEquals(1L, recommendation.getMovieId());
         assertEquals("testUser", recommendation.getMemberId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseReleaseDate() {
+        assertEquals(LocalDate.of(2010, 7, 21), MovieEntity.parseReleaseDate("2010-07-21"));
+        assertEquals(LocalDate.of(2010, 7, 21), MovieEntity.parseReleaseDate("2010.07.21"));
+        assertEquals(LocalDate.of(2010, 7, 1), MovieEntity.parseReleaseDate("2010/7/1"));
+        assertEquals(LocalDate.of(2010, 7, 21), MovieEntity.parseReleaseDate("20100721"));
+        assertNull(MovieEntity.parseReleaseDate("2010-07"));
+        assertNull(MovieEntity.parseReleaseDate("2010-02-30"));
+        assertNull(MovieEntity.parseReleaseDate("미정"));
+        assertNull(MovieEntity.parseReleaseDate(null));
+    }
+
+    @Test
+    void testParseReleaseYear() {
+        assertEquals(2010, MovieEntity.parseReleaseYear("2010-07-21"));
+        assertEquals(2010, MovieEntity.parseReleaseYear("2010"));
+        assertEquals(2010, MovieEntity.parseReleaseYear(" 2010년 7월"));
+        assertNull(MovieEntity.parseReleaseYear("미정"));
+        assertNull(MovieEntity.parseReleaseYear(null));
+    }
+
+    @Test
+    void testSyncReleaseDate() {
+        // Given
+        MovieEntity movie = MovieEntity.builder()
+                .title("Test Movie")
+                .releaseDate("2019-05-30")
+                .build();
+
+        // When
+        movie.syncReleaseDate();
+
+        // Then
+        assertEquals(LocalDate.of(2019, 5, 30), movie.getReleasedOn());
+        assertEquals(2019, movie.getReleaseYear());
+    }
+}
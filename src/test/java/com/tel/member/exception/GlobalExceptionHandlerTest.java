@@ -2,6 +2,8 @@ package com.tel.member.exception;
 
 import com.tel.member.controller.MovieController;
 import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.metrics.MetricsRegistry;
+import com.tel.member.service.MovieExportService;
 import com.tel.member.service.MovieService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +36,12 @@ class GlobalExceptionHandlerTest {
     @MockBean
     private MovieService movieService;
 
+    @MockBean
+    private MovieExportService movieExportService;
+
+    @MockBean
+    private MetricsRegistry metricsRegistry;
+
     @BeforeEach
     void setUp() {
     }
@@ -83,6 +92,7 @@ class GlobalExceptionHandlerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.code", is("INVALID_ARGUMENT")))
                 .andExpect(jsonPath("$.message", containsString("동일한 제목의 영화가 이미 존재합니다")));
+        verify(metricsRegistry).recordError(any(IllegalArgumentException.class));
     }
 
     @Test
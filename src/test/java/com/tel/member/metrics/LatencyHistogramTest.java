@@ -0,0 +1,79 @@
+package com.tel.member.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LatencyHistogram
+ * LatencyHistogram 테스트 클래스
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void bucketIndex_CoversRangeWithBoundedRelativeError() {
+        assertEquals(0, LatencyHistogram.bucketIndex(0));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(LatencyHistogram.MAX_TRACKABLE_NANOS));
+        for (long value = 1; value < LatencyHistogram.MAX_TRACKABLE_NANOS; value = value * 3 / 2 + 1) {
+            long reported = LatencyHistogram.highestValueIn(LatencyHistogram.bucketIndex(value));
+            assertTrue(reported >= value, "bucket must contain " + value);
+            assertTrue(reported - value <= value / 32, "relative error too large for " + value + ": " + reported);
+        }
+    }
+
+    @Test
+    void valueAtQuantile_ReportsPercentiles() {
+        // Given - 1 ~ 1000 µs 균등 분포
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1_000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        // When
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Then
+        assertEquals(1_000, snapshot.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(1_000), snapshot.getMaxNanos());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(500_500), snapshot.getTotalNanos());
+        assertWithin(500_000, snapshot.valueAtQuantile(0.5));
+        assertWithin(990_000, snapshot.valueAtQuantile(0.99));
+        assertEquals(1_000_000, snapshot.valueAtQuantile(1.0));
+        assertEquals(0, new LatencyHistogram().snapshot().valueAtQuantile(0.99));
+    }
+
+    @Test
+    void record_IsSafeUnderConcurrency() throws Exception {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 8;
+        int perThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(1_000 + i % 1_000);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // Then
+        assertEquals((long) threads * perThread, histogram.snapshot().getCount());
+    }
+
+    private static void assertWithin(long expectedNanos, long actualNanos) {
+        assertTrue(actualNanos >= expectedNanos && actualNanos <= expectedNanos + expectedNanos / 32,
+                "expected ~" + expectedNanos + " but was " + actualNanos);
+    }
+}
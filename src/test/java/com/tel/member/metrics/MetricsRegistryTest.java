@@ -0,0 +1,94 @@
+package com.tel.member.metrics;
+
+import com.tel.member.controller.MovieController;
+import com.tel.member.exception.MovieNotFoundException;
+import com.tel.member.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MetricsRegistry
+ * MetricsRegistry 테스트 클래스
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void timer_IsCreatedOncePerMethod() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        Method findById = MemberService.class.getMethod("findById", String.class);
+
+        assertSame(registry.timer(findById), registry.timer(findById));
+    }
+
+    @Test
+    void endpointOf_CombinesTypeAndMethodMappings() throws Exception {
+        Method scroll = MovieController.class.getMethod("scrollMovies", String.class, String.class, int.class, String.class);
+
+        assertEquals("GET /api/movies/scroll", MetricsRegistry.endpointOf(MovieController.class, scroll));
+    }
+
+    @Test
+    void scrape_RendersPrometheusText() throws Exception {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRegistry.MethodTimer service = registry.timer(MemberService.class.getMethod("findById", String.class));
+        service.record(TimeUnit.MILLISECONDS.toNanos(2));
+        service.record(TimeUnit.MILLISECONDS.toNanos(4));
+        service.recordFailure(TimeUnit.MILLISECONDS.toNanos(8));
+        registry.recordError(new MovieNotFoundException(1L));
+        registry.recordError(new MovieNotFoundException(2L));
+
+        // When
+        String text = registry.scrape();
+
+        // Then
+        String labels = "layer=\"service\",method=\"MemberService.findById\"";
+        assertTrue(text.contains("# TYPE member_method_latency_seconds summary"));
+        assertTrue(text.contains("member_method_latency_seconds_count{" + labels + "} 3\n"));
+        assertTrue(text.contains("member_method_latency_seconds_sum{" + labels + "} 0.014\n"));
+        assertTrue(text.contains("member_method_latency_seconds{" + labels + ",quantile=\"0.5\"} 0.004"));
+        assertTrue(text.contains("member_method_errors_total{" + labels + "} 1\n"));
+        assertTrue(text.contains("member_handled_exceptions_total{exception=\"com.tel.member.exception.MovieNotFoundException\"} 2\n"));
+    }
+
+    @Test
+    void scrape_RendersRequestSqlTotals() {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordRequestSql("GET /api/movies", 3, 20, TimeUnit.MILLISECONDS.toNanos(5));
+        registry.recordRequestSql("GET /api/movies", 23, 20, TimeUnit.MILLISECONDS.toNanos(15));
+        registry.flagNPlusOne("GET /api/movies");
+
+        // When
+        String text = registry.scrape();
+
+        // Then
+        String labels = "{endpoint=\"GET /api/movies\"} ";
+        assertTrue(text.contains("member_request_sql_requests_total" + labels + "2\n"));
+        assertTrue(text.contains("member_request_sql_statements_total" + labels + "26\n"));
+        assertTrue(text.contains("member_request_sql_statements_max" + labels + "23\n"));
+        assertTrue(text.contains("member_request_sql_rows_total" + labels + "40\n"));
+        assertTrue(text.contains("member_request_sql_n_plus_one_suspected" + labels + "1\n"));
+        assertTrue(text.contains("member_request_db_seconds_total" + labels + "0.02\n"));
+    }
+
+    @Test
+    void clearNPlusOne_ResetsSuspectedGauge() {
+        // Given
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.recordRequestSql("GET /api/movies", 3, 20, TimeUnit.MILLISECONDS.toNanos(5));
+        registry.flagNPlusOne("GET /api/movies");
+
+        // When
+        registry.clearNPlusOne("GET /api/movies");
+
+        // Then
+        assertTrue(registry.scrape().contains(
+                "member_request_sql_n_plus_one_suspected{endpoint=\"GET /api/movies\"} 0\n"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.tel.member.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SqlCountingDataSource
+ * SqlCountingDataSource 테스트 클래스
+ */
+class SqlCountingDataSourceTest {
+
+    private SqlCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-counting;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlCountingDataSource(h2);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counted (id INT PRIMARY KEY, name VARCHAR(20))");
+        jdbcTemplate.execute("DELETE FROM counted");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestSqlStats.clear();
+    }
+
+    @Test
+    void countsStatementsRowsAndTimeDuringRequest() {
+        // Given
+        RequestSqlStats stats = RequestSqlStats.start();
+
+        // When
+        jdbcTemplate.batchUpdate("INSERT INTO counted (id, name) VALUES (?, ?)",
+                java.util.List.of(new Object[]{1, "a"}, new Object[]{2, "b"}, new Object[]{3, "c"}));
+        assertEquals(3, jdbcTemplate.queryForList("SELECT name FROM counted ORDER BY id", String.class).size());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counted", Integer.class));
+
+        // Then - 배치 1회 + 조회 2회, 조회 행 3 + 1
+        assertEquals(3, stats.getStatements());
+        assertEquals(4, stats.getRows());
+        assertTrue(stats.getDbNanos() > 0);
+        assertTrue(stats.toServerTiming().startsWith("db;dur="));
+        assertTrue(stats.toServerTiming().contains("desc=\"3 statements, 4 rows\""));
+    }
+
+    @Test
+    void leavesConnectionsOutsideRequestsUnwrapped() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+        }
+        RequestSqlStats.start();
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(Proxy.isProxyClass(connection.getClass()));
+            assertEquals(connection, connection);
+            assertTrue(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.tel.member.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for SqlMetricsFilter
+ * SqlMetricsFilter 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class SqlMetricsFilterTest {
+
+    @Mock
+    private MetricsRegistry metricsRegistry;
+
+    @Test
+    void doFilter_ReportsStatementsAndSetsServerTiming() throws Exception {
+        // Given
+        SqlMetricsFilter filter = new SqlMetricsFilter(metricsRegistry, 20, "size");
+        MockHttpServletRequest request = request("10");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When - 체인 안에서 SQL 2건 실행
+        filter.doFilter(request, response, (req, res) -> {
+            RequestSqlStats.current().recordStatement(1_000_000);
+            RequestSqlStats.current().recordStatement(1_000_000);
+            RequestSqlStats.current().recordRow();
+        });
+
+        // Then
+        verify(metricsRegistry).recordRequestSql("GET /api/movies", 2, 1, 2_000_000);
+        assertTrue(response.getHeader("Server-Timing").startsWith("db;dur=2.000;desc=\"2 statements, 1 rows\""));
+        assertNull(RequestSqlStats.current());
+    }
+
+    @Test
+    void doFilter_FlagsStatementCountGrowingWithPageSize() throws Exception {
+        // Given - 페이지 크기만큼 추가 SQL 이 나가는 N+1 엔드포인트
+        SqlMetricsFilter filter = new SqlMetricsFilter(metricsRegistry, 1_000, "size");
+
+        // When - 두 크기만으로는 판단하지 않음
+        repeat(filter, "10", 12);
+        repeat(filter, "20", 22);
+        verify(metricsRegistry, never()).flagNPlusOne(anyString());
+        repeat(filter, "40", 42);
+        repeat(filter, "40", 42);
+
+        // Then - 한 번만 표시
+        verify(metricsRegistry, times(1)).flagNPlusOne("GET /api/movies");
+    }
+
+    @Test
+    void doFilter_ClearsFlagWhenPatternGoesAway() throws Exception {
+        // Given
+        SqlMetricsFilter filter = new SqlMetricsFilter(metricsRegistry, 1_000, "size");
+        repeat(filter, "10", 12);
+        repeat(filter, "20", 22);
+        repeat(filter, "40", 42);
+        verify(metricsRegistry).flagNPlusOne("GET /api/movies");
+
+        // When - 수정 배포 후 큰 페이지도 SQL 수가 일정
+        repeat(filter, "40", 3);
+        repeat(filter, "20", 3);
+
+        // Then
+        verify(metricsRegistry, times(1)).clearNPlusOne("GET /api/movies");
+        verify(metricsRegistry, times(1)).flagNPlusOne("GET /api/movies");
+    }
+
+    @Test
+    void growsWithPageSize_IgnoresConstantStatementCount() {
+        SqlMetricsFilter filter = new SqlMetricsFilter(metricsRegistry, 20, "size");
+
+        // 표본이 부족한 크기는 비교하지 않음
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 10, 3));
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 50, 30));
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 100, 60));
+        for (int i = 0; i < 3; i++) {
+            filter.growsWithPageSize("GET /api/movies", 10, 3);
+            filter.growsWithPageSize("GET /api/movies", 50, 3);
+        }
+        // 처음 한 번 튀었던 SQL 수 (캐시 미스 등) 는 중앙값에 묻힘
+        for (int i = 0; i < 3; i++) {
+            filter.growsWithPageSize("GET /api/movies", 100, 4);
+        }
+        // 페이지 크기가 40 늘 때 SQL 1건 증가 (목록 + 추천 여부 일괄 조회 등) 는 N+1 아님
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 100, 4));
+    }
+
+    @Test
+    void growsWithPageSize_RequiresThreeSizesWithMinimumGap() {
+        SqlMetricsFilter filter = new SqlMetricsFilter(metricsRegistry, 20, "size");
+
+        // 크기 차이가 작으면 (10, 12, 14) 같은 크기로 보고 비교하지 않음
+        for (int i = 0; i < 3; i++) {
+            filter.growsWithPageSize("GET /api/movies", 10, 10);
+            filter.growsWithPageSize("GET /api/movies", 12, 12);
+            filter.growsWithPageSize("GET /api/movies", 14, 14);
+        }
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 14, 14));
+
+        // 두 크기의 증가만으로는 부족
+        for (int i = 0; i < 3; i++) {
+            filter.growsWithPageSize("GET /api/movies", 30, 30);
+        }
+        assertFalse(filter.growsWithPageSize("GET /api/movies", 30, 30));
+
+        // 세 번째 크기까지 같은 기울기로 늘면 N+1 로 판단
+        for (int i = 0; i < 2; i++) {
+            filter.growsWithPageSize("GET /api/movies", 60, 60);
+        }
+        assertTrue(filter.growsWithPageSize("GET /api/movies", 60, 60));
+    }
+
+    private void repeat(SqlMetricsFilter filter, String size, int statements) throws Exception {
+        for (int i = 0; i < SqlMetricsFilter.MIN_SAMPLES_PER_PAGE_SIZE; i++) {
+            runWithStatements(filter, size, statements);
+        }
+    }
+
+    private void runWithStatements(SqlMetricsFilter filter, String size, int statements) throws Exception {
+        filter.doFilter(request(size), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < statements; i++) {
+                RequestSqlStats.current().recordStatement(1_000);
+            }
+        });
+    }
+
+    private static MockHttpServletRequest request(String size) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/movies");
+        request.setParameter("size", size);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/movies");
+        return request;
+    }
+}
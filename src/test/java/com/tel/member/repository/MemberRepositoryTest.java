@@ -0,0 +1,76 @@
+package com.tel.member.repository;
+
+import com.tel.member.dto.MemberSummaryDto;
+import com.tel.member.entity.MemberEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MemberRepository
+ * MemberRepository 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class MemberRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (String id : List.of("carol", "alice", "dave", "bob", "erin")) {
+            MemberEntity member = new MemberEntity();
+            member.setId(id);
+            member.setName(id.toUpperCase());
+            member.setEmail(id + "@example.com");
+            member.setPassword("$2a$10$hash-of-" + id);
+            entityManager.persist(member);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findSummaries_PagesProjectionWithoutPassword() {
+        // When
+        Page<MemberSummaryDto> page = memberRepository.findSummaries(PageRequest.of(1, 2, Sort.by("id")));
+
+        // Then
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of("carol", "dave"), page.getContent().stream().map(MemberSummaryDto::getId).toList());
+        MemberSummaryDto carol = page.getContent().get(0);
+        assertEquals("CAROL", carol.getName());
+        assertEquals("carol@example.com", carol.getEmail());
+        assertEquals("C", carol.getGrade());
+        assertNotNull(carol.getJoinDate());
+    }
+
+    @Test
+    void findSummariesAfter_ContinuesFromCursor() {
+        // When
+        Slice<MemberSummaryDto> first = memberRepository.findSummariesAfter("", PageRequest.of(0, 3));
+        Slice<MemberSummaryDto> second = memberRepository.findSummariesAfter(
+                first.getContent().get(2).getId(), PageRequest.of(0, 3));
+
+        // Then
+        assertEquals(List.of("alice", "bob", "carol"), first.getContent().stream().map(MemberSummaryDto::getId).toList());
+        assertTrue(first.hasNext());
+        assertEquals(List.of("dave", "erin"), second.getContent().stream().map(MemberSummaryDto::getId).toList());
+        assertFalse(second.hasNext());
+    }
+}
@@ -1,6 +1,7 @@
 package com.tel.member.repository;
 
 import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,8 +10,11 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -113,6 +117,18 @@ class MovieRepositoryTest {
         assertEquals("Inception", result.getContent().get(0).getTitle());
     }
 
+    @Test
+    void testFindByTitleOrGenreContaining_TreatsEscapedWildcardsLiterally() {
+        // Given
+        entityManager.persist(MovieEntity.builder().title("100% Love").genre("Romance").recommendationCount(0).build());
+        entityManager.flush();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // When & Then - 이스케이프한 % 는 문자 그대로, _ 는 임의 문자와 일치하지 않음
+        assertEquals(1, movieRepository.findByTitleOrGenreContaining("0!%", pageable).getTotalElements());
+        assertEquals(0, movieRepository.findByTitleOrGenreContaining("!_", pageable).getTotalElements());
+    }
+
     @Test
     void testFindAllByOrderByRecommendationCountDesc() {
         // Given
@@ -225,4 +241,97 @@ class MovieRepositoryTest {
         assertEquals(1, result.getTotalElements());
         assertEquals("The Dark Knight", result.getContent().get(0).getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindSliceOrderByRecommendationCountAfter() {
+        // Given - first slice of one movie
+        Slice<MovieEntity> first = movieRepository.findSliceOrderByRecommendationCount(PageRequest.of(0, 1));
+        MovieEntity last = first.getContent().get(0);
+
+        // When
+        Slice<MovieEntity> next = movieRepository.findSliceOrderByRecommendationCountAfter(
+                last.getRecommendationCount(), last.getId(), PageRequest.of(0, 1));
+
+        // Then
+        assertTrue(first.hasNext());
+        assertEquals("The Dark Knight", last.getTitle());
+        assertEquals("Inception", next.getContent().get(0).getTitle());
+        assertTrue(next.hasNext());
+    }
+
+    @Test
+    void testFindSliceOrderByCreatedAtAfter() {
+        // Given
+        Slice<MovieEntity> first = movieRepository.findSliceOrderByCreatedAt(PageRequest.of(0, 2));
+        MovieEntity last = first.getContent().get(1);
+
+        // When
+        Slice<MovieEntity> next = movieRepository.findSliceOrderByCreatedAtAfter(
+                last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // Then
+        assertEquals(2, first.getNumberOfElements());
+        assertEquals(1, next.getNumberOfElements());
+        assertFalse(next.hasNext());
+        assertTrue(first.getContent().stream().noneMatch(movie -> movie.getId().equals(next.getContent().get(0).getId())));
+    }
+
+    @Test
+    void testFindByNormalizedGenre() {
+        // Given - "Action" and a genre that merely contains "action"
+        MovieEntity documentary = entityManager.persist(MovieEntity.builder()
+                .title("Making of an Action Movie")
+                .genre("Reaction Documentary, 다큐멘터리")
+                .build());
+        for (MovieEntity movie : List.of(testMovie1, testMovie2, testMovie3, documentary)) {
+            MovieGenreEntity.forMovie(movie.getId(), movie.getGenre()).forEach(entityManager::persist);
+        }
+        entityManager.flush();
+
+        // When
+        Page<MovieEntity> action = movieRepository.findByNormalizedGenre("action", PageRequest.of(0, 1));
+        Page<MovieEntity> documentaries = movieRepository.findByNormalizedGenre("다큐멘터리", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(2, action.getTotalElements());
+        assertEquals(1, action.getContent().size());
+        assertEquals("Action", action.getContent().get(0).getGenre());
+        assertEquals(1, documentaries.getTotalElements());
+        assertEquals(documentary.getId(), documentaries.getContent().get(0).getId());
+    }
+
+    @Test
+    void testReleaseColumnsDerivedOnPersist() {
+        assertEquals(LocalDate.of(2008, 7, 18), testMovie1.getReleasedOn());
+        assertEquals(2008, testMovie1.getReleaseYear());
+    }
+
+    @Test
+    void testFindByReleaseYear() {
+        // When
+        Page<MovieEntity> result = movieRepository.findByReleaseYear(2010, PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Inception", result.getContent().get(0).getTitle());
+    }
+
+    @Test
+    void testFindByReleaseYearBetween() {
+        // When
+        Page<MovieEntity> result = movieRepository.findByReleaseYearBetween(2009, 2012,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.desc("releasedOn"), Sort.Order.desc("id"))));
+
+        // Then
+        assertEquals(2, result.getTotalElements());
+        assertEquals("The Dark Knight Rises", result.getContent().get(0).getTitle());
+        assertEquals("Inception", result.getContent().get(1).getTitle());
+    }
+
+    @Test
+    void testLockByIdForUpdate() {
+        // When & Then - 잠금 조회는 영화 존재 여부도 함께 알려줌
+        assertEquals(Optional.of(testMovie1.getId()), movieRepository.lockByIdForUpdate(testMovie1.getId()));
+        assertTrue(movieRepository.lockByIdForUpdate(-1L).isEmpty());
+    }
+}
@@ -0,0 +1,134 @@
+package com.tel.member.security;
+
+import com.tel.member.dto.MemberDTO;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LoginContext and TokenAuthenticationFilter
+ * LoginContext / TokenAuthenticationFilter 테스트 클래스
+ */
+class LoginContextTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sessionMode_StoresLoginInSession() {
+        // Given
+        LoginContext loginContext = new LoginContext("session", "", Duration.ofHours(1), Clock.systemUTC());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // When & Then
+        assertNull(loginContext.getLoginId(request));
+        assertNull(request.getSession(false));
+
+        assertNull(loginContext.login(request, new MockHttpServletResponse(), member("alice")));
+        assertEquals("alice", loginContext.getLoginId(request));
+        assertEquals("alice@example.com", request.getSession().getAttribute("loginEmail"));
+
+        loginContext.logout(request, new MockHttpServletResponse());
+        assertNull(loginContext.getLoginId(request));
+    }
+
+    @Test
+    void tokenMode_FilterAuthenticatesBearerHeaderAndCookie() throws Exception {
+        // Given - 로그인 노드와 다른 노드 (같은 서명 키)
+        LoginContext loginNode = new LoginContext("token", SECRET, Duration.ofHours(1), Clock.systemUTC());
+        LoginContext otherNode = new LoginContext("TOKEN", SECRET, Duration.ofHours(1), Clock.systemUTC());
+        MockHttpServletRequest loginRequest = new MockHttpServletRequest();
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+
+        // When
+        LoginToken token = loginNode.login(loginRequest, loginResponse, member("alice"));
+
+        // Then - 세션 없이 쿠키로 토큰 전달
+        assertNotNull(token);
+        assertNull(loginRequest.getSession(false));
+        assertTrue(loginResponse.getHeader(HttpHeaders.SET_COOKIE).startsWith(LoginContext.TOKEN_COOKIE + "=" + token.token()));
+
+        MockHttpServletRequest bearer = new MockHttpServletRequest();
+        bearer.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token.token());
+        filter(otherNode, bearer);
+        assertEquals("alice", otherNode.getLoginId(bearer));
+        assertEquals("alice", SecurityContextHolder.getContext().getAuthentication().getName());
+
+        MockHttpServletRequest cookie = new MockHttpServletRequest();
+        cookie.setCookies(new Cookie(LoginContext.TOKEN_COOKIE, token.token()));
+        filter(otherNode, cookie);
+        assertEquals("alice", otherNode.getLoginId(cookie));
+    }
+
+    @Test
+    void tokenMode_InvalidTokenStaysUnauthenticated() throws Exception {
+        // Given
+        LoginContext loginContext = new LoginContext("token", SECRET, Duration.ofHours(1), Clock.systemUTC());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer forged.token.value");
+
+        // When
+        MockFilterChain chain = filter(loginContext, request);
+
+        // Then - 요청은 계속 진행되지만 로그인 상태가 아님
+        assertNotNull(chain.getRequest());
+        assertNull(loginContext.getLoginId(request));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void tokenMode_LogoutClearsCookie() {
+        // Given
+        LoginContext loginContext = new LoginContext("token", SECRET, Duration.ofHours(1), Clock.systemUTC());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        loginContext.logout(new MockHttpServletRequest(), response);
+
+        // Then
+        assertTrue(response.getHeader(HttpHeaders.SET_COOKIE).contains("Max-Age=0"));
+    }
+
+    @Test
+    void constructor_TokenModeRequiresSecret() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoginContext("token", "", Duration.ofHours(1), Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoginContext("token", "   ", Duration.ofHours(1), Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoginContext("token", null, Duration.ofHours(1), Clock.systemUTC()));
+    }
+
+    @Test
+    void constructor_RejectsUnknownMode() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LoginContext("jwt", SECRET, Duration.ofHours(1), Clock.systemUTC()));
+    }
+
+    private static MockFilterChain filter(LoginContext loginContext, MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        new TokenAuthenticationFilter(loginContext).doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    private static MemberDTO member(String id) {
+        MemberDTO member = new MemberDTO();
+        member.setId(id);
+        member.setEmail(id + "@example.com");
+        return member;
+    }
+}
@@ -0,0 +1,76 @@
+package com.tel.member.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LoginTokenCodec
+ * LoginTokenCodec 테스트 클래스
+ */
+class LoginTokenCodecTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void issueAndVerify_RoundTrip() {
+        // Given
+        LoginTokenCodec codec = codecAt(NOW);
+
+        // When
+        LoginToken issued = codec.issue("회원.one");
+
+        // Then
+        assertEquals("회원.one", codec.verify(issued.token()));
+        assertEquals(NOW.plusSeconds(3600), issued.expiresAt());
+    }
+
+    @Test
+    void verify_RejectsTamperedToken() {
+        // Given
+        LoginTokenCodec codec = codecAt(NOW);
+        String token = codec.issue("alice").token();
+        String[] parts = token.split("\\.");
+
+        // When - 회원 ID 또는 만료 시각 변조
+        String otherMember = codec.issue("mallory").token().split("\\.")[0] + "." + parts[1] + "." + parts[2];
+        String extended = parts[0] + "." + (Long.parseLong(parts[1]) + 86_400) + "." + parts[2];
+
+        // Then
+        assertNull(codec.verify(otherMember));
+        assertNull(codec.verify(extended));
+        assertNull(codec.verify("garbage"));
+        assertNull(codec.verify("a.b.c"));
+        assertNull(codec.verify(null));
+    }
+
+    @Test
+    void verify_RejectsExpiredTokenAndForeignSecret() {
+        // Given
+        String token = codecAt(NOW).issue("alice").token();
+
+        // Then
+        assertEquals("alice", codecAt(NOW.plusSeconds(3599)).verify(token));
+        assertNull(codecAt(NOW.plusSeconds(3600)).verify(token));
+        LoginTokenCodec otherNode = new LoginTokenCodec("another-secret-another-secret-xx".getBytes(StandardCharsets.UTF_8),
+                Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        assertNull(otherNode.verify(token));
+    }
+
+    @Test
+    void constructor_RejectsShortSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new LoginTokenCodec(
+                "short".getBytes(StandardCharsets.UTF_8), Duration.ofHours(1), Clock.systemUTC()));
+    }
+
+    private static LoginTokenCodec codecAt(Instant now) {
+        return new LoginTokenCodec(SECRET, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,90 @@
+package com.tel.member.security;
+
+import com.tel.member.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PasswordHashingService
+ * PasswordHashingService 테스트 클래스
+ */
+class PasswordHashingServiceTest {
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void encodeAndMatches_RoundTrip() {
+        // Given
+        service = new PasswordHashingService(2, 4, 3000, 4, false, 250);
+
+        // When
+        String hash = service.encode("secret");
+
+        // Then
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(service.matches("secret", hash));
+        assertFalse(service.matches("wrong", hash));
+        assertFalse(service.matches(null, hash));
+    }
+
+    @Test
+    void submit_RejectsWhenQueueIsFull() throws Exception {
+        // Given - 스레드 1개, 대기열 1개
+        service = new PasswordHashingService(1, 1, 3000, 4, false, 250);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        service.submit(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        service.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(PasswordHashingBusyException.class, () -> service.encode("secret"));
+        assertEquals(1L, service.getStats().get("rejected"));
+        release.countDown();
+    }
+
+    @Test
+    void encode_TimesOutWhenQueuedTooLong() throws Exception {
+        // Given
+        service = new PasswordHashingService(1, 4, 50, 4, false, 250);
+        CountDownLatch release = new CountDownLatch(1);
+        service.submit(() -> release.await(5, TimeUnit.SECONDS));
+
+        // When & Then
+        assertThrows(PasswordHashingBusyException.class, () -> service.encode("secret"));
+        assertEquals(1L, service.getStats().get("timeouts"));
+        release.countDown();
+    }
+
+    @Test
+    void calibrateStrength_PicksHighestStrengthWithinTarget() {
+        // 강도 10 = 100 ms, 11 = 200 ms, 12 = 400 ms
+        int strength = PasswordHashingService.calibrateStrength(
+                TimeUnit.MILLISECONDS.toNanos(250), s -> (1L << (s - 10)) * 100_000_000L);
+
+        assertEquals(11, strength);
+    }
+
+    @Test
+    void calibrateStrength_NeverGoesBelowDefaultOrAboveCap() {
+        assertEquals(PasswordHashingService.MIN_CALIBRATED_STRENGTH, PasswordHashingService.calibrateStrength(
+                TimeUnit.MILLISECONDS.toNanos(250), s -> TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(PasswordHashingService.MAX_CALIBRATED_STRENGTH, PasswordHashingService.calibrateStrength(
+                TimeUnit.MILLISECONDS.toNanos(250), s -> 1_000L));
+    }
+}
@@ -0,0 +1,163 @@
+package com.tel.member.service;
+
+import com.tel.member.dto.DatasetGenerationResultDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DatasetGeneratorService
+ * DatasetGeneratorService 테스트 클래스
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset-generator;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "member.dataset.batch-size=100",
+        "member.dataset.threads=4",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+class DatasetGeneratorServiceTest {
+
+    @Autowired
+    private DatasetGeneratorService generatorService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_LoadsVolumesWithConsistentCountsAndAlignedSequences() {
+        // Given
+        long moviesBefore = count("SELECT COUNT(*) FROM movies");
+
+        // When
+        DatasetGenerationResultDto result = generatorService.generate(
+                new DatasetGeneratorService.Spec(500, 100, 2_000, 1.0, 7, "load", "password1234"));
+
+        // Then
+        assertEquals(500, count("SELECT COUNT(*) FROM movies") - moviesBefore);
+        assertEquals(100, count("SELECT COUNT(*) FROM member_table WHERE id LIKE 'load%'"));
+        assertEquals(result.getRecommendations(),
+                count("SELECT COUNT(*) FROM movie_recommendations WHERE member_id LIKE 'load%'"));
+        assertTrue(result.getRecommendations() > 1_000, "expected roughly the requested volume: " + result);
+        assertTrue(result.getMovieGenres() >= 500);
+        // 추천 수 컬럼은 추천 행 수와 일치
+        assertEquals(count("SELECT COUNT(*) FROM movie_recommendations"),
+                count("SELECT COALESCE(SUM(recommendation_count), 0) FROM movies"));
+        // 시퀀스가 적재된 ID 이후로 조정되어 JPA 저장이 충돌하지 않음
+        long maxId = count("SELECT MAX(id) FROM movies");
+        MovieEntity saved = movieRepository.save(MovieEntity.builder().title("After Load").genre("드라마").build());
+        assertTrue(saved.getId() > maxId);
+    }
+
+    @Test
+    void generate_SkewsRecommendationsTowardsPopularMovies() {
+        // When
+        DatasetGenerationResultDto result = generatorService.generate(
+                new DatasetGeneratorService.Spec(500, 100, 2_000, 1.0, 11, "zipf", "password1234"));
+
+        // Then - 영화 1% 가 받은 추천 비율 (균등 분포라면 약 1%)
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM movie_recommendations WHERE member_id LIKE 'zipf%' " +
+                "GROUP BY movie_id ORDER BY COUNT(*) DESC", Long.class);
+        long top = counts.stream().limit(5).mapToLong(Long::longValue).sum();
+        assertTrue(top * 10 > result.getRecommendations(),
+                "expected the top 5 movies to get more than 10% of recommendations: " + top);
+    }
+
+    @Test
+    void generate_SameSeed_ProducesSameRowsRelativeToTheStartingIds() {
+        // When - 같은 시드로 두 번 적재 (작업 스레드 4개, 청크 완료 순서는 매번 다름)
+        List<String> first = loadAndDescribe(new DatasetGeneratorService.Spec(300, 50, 600, 1.0, 21, "detA", "password1234"));
+        List<String> second = loadAndDescribe(new DatasetGeneratorService.Spec(300, 50, 600, 1.0, 21, "detB", "password1234"));
+
+        // Then - ID 는 시작 ID 기준 오프셋, 시각은 고정 기준점 기준이라 그대로 같음
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void generate_ExistingMemberPrefix_ThrowsIllegalStateException() {
+        // Given
+        generatorService.generate(new DatasetGeneratorService.Spec(10, 5, 0, 1.0, 3, "dup", "password1234"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> generatorService.generate(
+                new DatasetGeneratorService.Spec(10, 5, 0, 1.0, 3, "dup", "password1234")));
+    }
+
+    @Test
+    void generate_TooManyRecommendations_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> generatorService.generate(
+                new DatasetGeneratorService.Spec(10, 10, 60, 1.0, 3, "many", "password1234")));
+    }
+
+    @Test
+    void zipfSampler_StaysInRangeWithLongTail() {
+        // Given
+        DatasetGeneratorService.ZipfSampler sampler = new DatasetGeneratorService.ZipfSampler(1_000, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // When
+        Set<Long> sampled = new HashSet<>();
+        for (int i = 0; i < 2_000; i++) {
+            long index = sampler.sampleMovieIndex(random);
+            assertTrue(index >= 0 && index < 1_000);
+            sampled.add(index);
+        }
+
+        // Then - 롱테일이라 일부 영화만 뽑히지만 한 영화에 몰리지는 않음
+        assertTrue(sampled.size() > 100 && sampled.size() < 1_000, "sampled " + sampled.size());
+    }
+
+    @Test
+    void recommendationsFor_AveragesToTheRequestedMean() {
+        SplittableRandom random = new SplittableRandom(5);
+        long total = 0;
+        for (int i = 0; i < 100_000; i++) {
+            total += DatasetGeneratorService.recommendationsFor(random, 20.0);
+        }
+        assertEquals(20.0, total / 100_000.0, 0.5);
+    }
+
+    private List<String> loadAndDescribe(DatasetGeneratorService.Spec spec) {
+        long movieBase = count("SELECT COALESCE(MAX(id), 0) FROM movies");
+        long genreBase = count("SELECT COALESCE(MAX(id), 0) FROM movie_genres");
+        long recommendationBase = count("SELECT COALESCE(MAX(id), 0) FROM movie_recommendations");
+        generatorService.generate(spec);
+        int prefix = spec.memberIdPrefix().length();
+        List<String> rows = new ArrayList<>();
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT(id - ?, '|', title, '|', genre, '|', created_at) FROM movies WHERE id > ? ORDER BY id",
+                String.class, movieBase, movieBase));
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT(id - ?, '|', movie_id - ?, '|', genre) FROM movie_genres WHERE id > ? ORDER BY id",
+                String.class, genreBase, movieBase, genreBase));
+        rows.addAll(jdbcTemplate.queryForList(
+                "SELECT CONCAT(id - ?, '|', movie_id - ?, '|', SUBSTRING(member_id, ?), '|', created_at) " +
+                "FROM movie_recommendations WHERE id > ? ORDER BY id",
+                String.class, recommendationBase, movieBase, prefix + 1, recommendationBase));
+        return rows;
+    }
+
+    private long count(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        return value == null ? 0 : value;
+    }
+}
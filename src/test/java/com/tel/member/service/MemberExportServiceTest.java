@@ -0,0 +1,76 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.entity.MemberEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MemberExportService
+ * MemberExportService 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MemberExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class MemberExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MemberExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        for (String id : List.of("carol", "alice", "bob")) {
+            MemberEntity member = new MemberEntity();
+            member.setId(id);
+            member.setName(id.toUpperCase());
+            member.setEmail(id + "@example.com");
+            member.setPassword("$2a$10$hash-of-" + id);
+            member.setJoinDate(LocalDate.of(2024, 1, 1));
+            member.setGrade("C");
+            entityManager.persist(member);
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void exportSummaries_WritesEveryMemberAsOneJsonLineInIdOrderWithoutPassword() throws Exception {
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = exportService.exportSummaries(output);
+
+        // Then
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertEquals(3, count);
+        assertEquals(List.of("alice", "bob", "carol"), lines.stream().map(line -> line.get("id").asText()).toList());
+        assertEquals("alice@example.com", lines.get(0).get("email").asText());
+        assertEquals("C", lines.get(0).get("grade").asText());
+        assertFalse(lines.get(0).has("password"));
+        assertFalse(output.toString(StandardCharsets.UTF_8).contains("$2a$10$"));
+    }
+}
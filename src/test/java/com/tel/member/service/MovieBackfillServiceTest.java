@@ -0,0 +1,140 @@
+package com.tel.member.service;
+
+import com.tel.member.entity.BackfillProgressEntity;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
+import com.tel.member.repository.BackfillProgressRepository;
+import com.tel.member.repository.MovieGenreRepository;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MovieBackfillService
+ * MovieBackfillService 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MovieBackfillService.class)
+@TestPropertySource(properties = "movie.backfill.batch-size=2")
+class MovieBackfillServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieBackfillService backfillService;
+
+    @Autowired
+    private MovieGenreRepository movieGenreRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private BackfillProgressRepository backfillProgressRepository;
+
+    @Test
+    void backfillGenres_MapsEveryUnmappedMovieAcrossBatches() {
+        // Given - one movie already mapped, three without mappings, one without genre, one with separators only
+        MovieEntity mapped = persistMovie("Mapped", "액션");
+        movieGenreRepository.saveAll(MovieGenreEntity.forMovie(mapped.getId(), mapped.getGenre()));
+        MovieEntity inception = persistMovie("인셉션", "액션, SF");
+        MovieEntity parasite = persistMovie("기생충", "드라마 / 스릴러");
+        MovieEntity minari = persistMovie("미나리", " 드라마 ,드라마");
+        persistMovie("No Genre", null);
+        MovieEntity separatorsOnly = persistMovie("Separators Only", " , / ");
+        entityManager.flush();
+
+        // When
+        int movies = backfillService.backfillGenres();
+
+        // Then
+        assertEquals(3, movies);
+        assertEquals(List.of("액션", "sf"), genresOf(inception));
+        assertEquals(List.of("드라마", "스릴러"), genresOf(parasite));
+        assertEquals(List.of("드라마"), genresOf(minari));
+        assertEquals(1, genresOf(mapped).size());
+        assertEquals(List.of(), genresOf(separatorsOnly));
+        // 매핑할 장르가 없는 영화까지 처리 완료로 기록되어 다음 실행은 새 영화만 확인
+        assertEquals(separatorsOnly.getId(),
+                backfillProgressRepository.findById(MovieBackfillService.GENRES).orElseThrow().getLastId());
+        assertEquals(0, backfillService.backfillGenres());
+    }
+
+    @Test
+    void backfillGenres_ScansOnlyMoviesAddedAfterTheRecordedProgress() {
+        // Given - 이전 실행이 기존 영화까지 처리한 상태에서 매핑 없는 영화 추가
+        MovieEntity processed = persistMovie("Processed", "액션");
+        entityManager.flush();
+        backfillProgressRepository.save(new BackfillProgressEntity(MovieBackfillService.GENRES, processed.getId()));
+        MovieEntity added = persistMovie("Added", "드라마");
+        entityManager.flush();
+
+        // When
+        int movies = backfillService.backfillGenres();
+
+        // Then
+        assertEquals(1, movies);
+        assertEquals(List.of(), genresOf(processed));
+        assertEquals(List.of("드라마"), genresOf(added));
+    }
+
+    @Test
+    void backfillReleaseDates_DerivesColumnsFromOriginalString() {
+        // Given - rows stored before the typed columns existed
+        MovieEntity fullDate = persistMovie("인셉션", null, "2010.07.21");
+        MovieEntity yearOnly = persistMovie("미정작", null, "2027");
+        MovieEntity unknown = persistMovie("알 수 없음", null, "미정");
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE movies SET released_on = NULL, release_year = NULL")
+                .executeUpdate();
+        entityManager.clear();
+
+        // When
+        int movies = backfillService.backfillReleaseDates();
+        entityManager.clear();
+
+        // Then - 연도를 알 수 없는 영화는 적재 수에서 제외하고 다음 실행에서 다시 읽지 않음
+        assertEquals(2, movies);
+        MovieEntity backfilled = movieRepository.findById(fullDate.getId()).orElseThrow();
+        assertEquals(LocalDate.of(2010, 7, 21), backfilled.getReleasedOn());
+        assertEquals(2010, backfilled.getReleaseYear());
+        MovieEntity backfilledYear = movieRepository.findById(yearOnly.getId()).orElseThrow();
+        assertNull(backfilledYear.getReleasedOn());
+        assertEquals(2027, backfilledYear.getReleaseYear());
+        assertNull(movieRepository.findById(unknown.getId()).orElseThrow().getReleaseYear());
+        assertEquals(unknown.getId(),
+                backfillProgressRepository.findById(MovieBackfillService.RELEASE_DATES).orElseThrow().getLastId());
+        assertEquals(0, backfillService.backfillReleaseDates());
+    }
+
+    private MovieEntity persistMovie(String title, String genre) {
+        return persistMovie(title, genre, null);
+    }
+
+    private MovieEntity persistMovie(String title, String genre, String releaseDate) {
+        return entityManager.persist(MovieEntity.builder()
+                .title(title)
+                .genre(genre)
+                .releaseDate(releaseDate)
+                .build());
+    }
+
+    private List<String> genresOf(MovieEntity movie) {
+        return movieGenreRepository.findByMovieId(movie.getId()).stream()
+                .map(MovieGenreEntity::getGenre)
+                .toList();
+    }
+}
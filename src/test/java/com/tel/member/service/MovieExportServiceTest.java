@@ -0,0 +1,118 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieGenreEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MovieExportService
+ * MovieExportService 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MovieExportService.class, RecommendationCounterService.class, MovieEntityCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class MovieExportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MovieEntity inception;
+
+    @BeforeEach
+    void setUp() {
+        inception = persistMovie("인셉션", "액션, SF", "2010-07-21");
+        persistMovie("기생충", "드라마", "2019.05.30");
+        persistMovie("미나리", "드라마", null);
+        entityManager.flush();
+    }
+
+    @Test
+    void exportMovies_WritesEveryMovieAsOneJsonLineInIdOrder() throws Exception {
+        // When
+        List<JsonNode> lines = export(null, null);
+
+        // Then
+        assertEquals(3, lines.size());
+        JsonNode first = lines.get(0);
+        assertEquals(inception.getId(), first.get("id").asLong());
+        assertEquals("인셉션", first.get("title").asText());
+        assertEquals("2010-07-21", first.get("releasedOn").asText());
+        assertEquals(2010, first.get("releaseYear").asInt());
+        assertEquals(0, first.get("recommendationCount").asInt());
+        assertTrue(first.get("createdAt").isTextual());
+        assertTrue(lines.get(2).get("releaseYear").isNull());
+    }
+
+    @Test
+    void exportMovies_FiltersByGenreAndUpdatedSince() throws Exception {
+        // Given - inception was last updated long ago
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE movies SET updated_at = :updatedAt WHERE id = :id")
+                .setParameter("updatedAt", LocalDateTime.of(2020, 1, 1, 0, 0))
+                .setParameter("id", inception.getId())
+                .executeUpdate();
+
+        // When & Then
+        assertEquals(List.of(inception.getId()), ids(export("sf", null)));
+        assertEquals(2, export("드라마", null).size());
+        assertEquals(List.of(inception.getId()), ids(export("액션, sf", null)));
+        // 여러 장르 입력의 %, _ 는 와일드카드가 아님
+        assertTrue(export("%, _", null).isEmpty());
+        assertEquals(2, export(null, LocalDateTime.of(2021, 1, 1, 0, 0)).size());
+        assertTrue(export("sf", LocalDateTime.of(2021, 1, 1, 0, 0)).isEmpty());
+    }
+
+    private List<JsonNode> export(String genre, LocalDateTime updatedSince) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportService.exportMovies(genre, updatedSince, output);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        assertEquals(rows, lines.size());
+        return lines;
+    }
+
+    private static List<Long> ids(List<JsonNode> lines) {
+        return lines.stream().map(line -> line.get("id").asLong()).toList();
+    }
+
+    private MovieEntity persistMovie(String title, String genre, String releaseDate) {
+        MovieEntity movie = entityManager.persist(MovieEntity.builder()
+                .title(title)
+                .genre(genre)
+                .releaseDate(releaseDate)
+                .recommendationCount(0)
+                .build());
+        MovieGenreEntity.forMovie(movie.getId(), genre).forEach(entityManager::persist);
+        return movie;
+    }
+}
@@ -0,0 +1,171 @@
+package com.tel.member.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tel.member.dto.MovieImportResultDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.event.MovieCreatedEvent;
+import com.tel.member.repository.MovieGenreRepository;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for MovieImportService
+ * MovieImportService 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(MovieImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@TestPropertySource(properties = "movie.import.batch-size=2")
+@RecordApplicationEvents
+class MovieImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MovieImportService importService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieGenreRepository movieGenreRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void importMovies_JsonArrayDeduplicatesTitlesAndReportsEveryRow() throws Exception {
+        // Given - one title already in the catalog
+        entityManager.persist(MovieEntity.builder().title("Inception").recommendationCount(0).build());
+        entityManager.flush();
+        String json = "[" +
+                "{\"title\":\"기생충\",\"genre\":\"드라마, 스릴러\",\"releaseDate\":\"2019-05-30\"}," +
+                "{\"title\":\"  INCEPTION \"}," +
+                "{\"title\":\"\"}," +
+                "{\"title\":\"미나리\",\"genre\":\"드라마\"}," +
+                "{\"title\":\"기생충\"}," +
+                "42," +
+                "{\"title\":\"부산행\"}" +
+                "]";
+
+        // When
+        List<JsonNode> results = run(json, "json");
+        entityManager.clear();
+
+        // Then
+        assertEquals(List.of("CREATED", "DUPLICATE", "INVALID", "CREATED", "DUPLICATE", "INVALID", "CREATED"),
+                results.stream().map(result -> result.get("status").asText()).toList());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L),
+                results.stream().map(result -> result.get("row").asLong()).toList());
+        assertEquals(4, movieRepository.count());
+
+        Long parasiteId = results.get(0).get("movieId").asLong();
+        MovieEntity parasite = movieRepository.findById(parasiteId).orElseThrow();
+        assertEquals(2019, parasite.getReleaseYear());
+        assertEquals(2, movieGenreRepository.findByMovieId(parasiteId).size());
+        assertEquals(3, events.stream(MovieCreatedEvent.class).count());
+    }
+
+    @Test
+    void importMovies_CsvWithQuotedFields() throws Exception {
+        // Given
+        String csv = "title,genre,release_date,description\r\n" +
+                "\"Crouching Tiger, Hidden Dragon\",Action,2000,\"A \"\"wuxia\"\" film\nwith two lines\"\r\n" +
+                "\r\n" +
+                "Her,Romance,,\r\n";
+
+        // When
+        List<JsonNode> results = run(csv, "csv");
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, results.size());
+        MovieEntity tiger = movieRepository.findById(results.get(0).get("movieId").asLong()).orElseThrow();
+        assertEquals("Crouching Tiger, Hidden Dragon", tiger.getTitle());
+        assertEquals("A \"wuxia\" film\nwith two lines", tiger.getDescription());
+        MovieEntity her = movieRepository.findById(results.get(1).get("movieId").asLong()).orElseThrow();
+        assertNull(her.getReleaseDate());
+    }
+
+    @Test
+    void importMovies_MalformedJsonKeepsEarlierRowsAndReportsAbort() throws Exception {
+        // When
+        List<JsonNode> results = run("[{\"title\":\"Her\"}, {\"title\": ", "json");
+
+        // Then
+        assertEquals("CREATED", results.get(0).get("status").asText());
+        assertEquals(MovieImportResultDto.INVALID, results.get(1).get("status").asText());
+        assertEquals(1, movieRepository.count());
+    }
+
+    @Test
+    void importMovies_DuplicateRowsAreWrittenPerBatch() throws Exception {
+        // Given - 이미 적재된 카탈로그를 다시 적재
+        entityManager.persist(MovieEntity.builder().title("Her").recommendationCount(0).build());
+        entityManager.persist(MovieEntity.builder().title("Inception").recommendationCount(0).build());
+        entityManager.flush();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int[] writtenBeforeEnd = {-1};
+        InputStream input = new SequenceInputStream(stream("title\nHer\nInception\n"), new InputStream() {
+            @Override
+            public int read() {
+                writtenBeforeEnd[0] = output.size();
+                return -1;
+            }
+        });
+
+        // When
+        importService.importMovies(input, "csv", output);
+
+        // Then - 입력이 끝나기 전에 배치 크기(2)만큼의 중복 결과가 이미 출력됨
+        assertTrue(writtenBeforeEnd[0] > 0, "duplicates were held until the end of input");
+        assertEquals(2, output.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    void importMovies_RejectsUnsupportedFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.importMovies(stream("[]"), "xml", new ByteArrayOutputStream()));
+    }
+
+    private List<JsonNode> run(String body, String format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        importService.importMovies(stream(body), format, output);
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,143 @@
+package com.tel.member.service;
+
+import com.tel.member.cache.GenreCatalogCache;
+import com.tel.member.cache.MemberRecommendationCache;
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.cache.MovieSearchIndex;
+import com.tel.member.cache.RecommendationLeaderboard;
+import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieRecommendationEntity;
+import com.tel.member.service.impl.MovieServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query count test for MovieService list methods
+ * MovieService 목록 조회 메서드의 페이지당 쿼리 수 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MovieServiceImpl.class, MemberRecommendationCache.class, MovieEntityCache.class,
+        GenreCatalogCache.class, RecommendationLeaderboard.class, MovieSearchIndex.class,
+        RecommendationCounterService.class})
+class MovieServiceQueryCountTest {
+
+    private static final String TEST_MEMBER_ID = "testUser";
+    private static final int MOVIE_COUNT = 60;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MemberRecommendationCache recommendationCache;
+
+    @Autowired
+    private MovieEntityCache movieEntityCache;
+
+    @Autowired
+    private RecommendationLeaderboard leaderboard;
+
+    @Autowired
+    private MovieSearchIndex searchIndex;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // Every third movie is recommended by the test member
+        for (int i = 0; i < MOVIE_COUNT; i++) {
+            MovieEntity movie = entityManager.persist(MovieEntity.builder()
+                    .title("Movie " + i)
+                    .genre("Action")
+                    .releaseDate("2024-01-01")
+                    .recommendationCount(i)
+                    .build());
+            if (i % 3 == 0) {
+                entityManager.persist(MovieRecommendationEntity.create(movie.getId(), TEST_MEMBER_ID));
+            }
+        }
+        entityManager.flush();
+        leaderboard.reload();
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void getAllMovies_QueryCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(() -> movieService.getAllMovies(PageRequest.of(0, 5), TEST_MEMBER_ID));
+        long largePage = countStatements(() -> movieService.getAllMovies(PageRequest.of(0, 50), TEST_MEMBER_ID));
+
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void getRecommendedMovies_QueryCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(() -> movieService.getRecommendedMovies(PageRequest.of(0, 5), TEST_MEMBER_ID));
+        long largePage = countStatements(() -> movieService.getRecommendedMovies(PageRequest.of(0, 50), TEST_MEMBER_ID));
+
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void searchMovies_QueryCountDoesNotGrowWithPageSize() {
+        long smallPage = countStatements(() -> movieService.searchMovies("movie", PageRequest.of(0, 5), TEST_MEMBER_ID));
+        long largePage = countStatements(() -> movieService.searchMovies("movie", PageRequest.of(0, 50), TEST_MEMBER_ID));
+
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void getTopRecommendedMovies_QueryCountDoesNotGrowWithLimit() {
+        long small = countStatements(() -> movieService.getTopRecommendedMovies(5, TEST_MEMBER_ID));
+        long large = countStatements(() -> movieService.getTopRecommendedMovies(50, TEST_MEMBER_ID));
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void getAllMovies_MapsRecommendationStatusPerMovie() {
+        // When
+        Page<MovieResponseDto> result = movieService.getAllMovies(PageRequest.of(0, MOVIE_COUNT), TEST_MEMBER_ID);
+
+        // Then
+        List<MovieResponseDto> content = result.getContent();
+        assertEquals(MOVIE_COUNT, content.size());
+        for (MovieResponseDto dto : content) {
+            int index = Integer.parseInt(dto.getTitle().substring("Movie ".length()));
+            assertEquals(index % 3 == 0, dto.isRecommendedByCurrentUser(), dto.getTitle());
+        }
+    }
+
+    private long countStatements(Supplier<?> call) {
+        entityManager.clear();
+        recommendationCache.invalidateAll();
+        movieEntityCache.invalidateAll();
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
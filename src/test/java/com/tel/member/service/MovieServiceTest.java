@@ -1,11 +1,20 @@
 package com.tel.member.service;
 
+import com.tel.member.cache.GenreCatalogCache;
+import com.tel.member.cache.MemberRecommendationCache;
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.cache.MovieSearchIndex;
+import com.tel.member.cache.RecommendationLeaderboard;
 import com.tel.member.dto.MovieCreateRequestDto;
+import com.tel.member.dto.MovieCursor;
 import com.tel.member.dto.MovieResponseDto;
+import com.tel.member.dto.MovieSliceResponseDto;
 import com.tel.member.dto.RecommendationResponseDto;
 import com.tel.member.entity.MovieEntity;
 import com.tel.member.entity.MovieRecommendationEntity;
+import com.tel.member.event.MovieCreatedEvent;
 import com.tel.member.exception.MovieNotFoundException;
+import com.tel.member.repository.MovieGenreRepository;
 import com.tel.member.repository.MovieRecommendationRepository;
 import com.tel.member.repository.MovieRepository;
 import com.tel.member.service.impl.MovieServiceImpl;
@@ -14,11 +23,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -42,6 +55,30 @@ class MovieServiceTest {
     @Mock
     private MovieRecommendationRepository recommendationRepository;
 
+    @Mock
+    private MovieGenreRepository movieGenreRepository;
+
+    @Mock
+    private MemberRecommendationCache recommendationCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MovieEntityCache movieEntityCache = new MovieEntityCache(100);
+
+    @Spy
+    private GenreCatalogCache genreCatalogCache = new GenreCatalogCache();
+
+    @Mock
+    private RecommendationLeaderboard leaderboard;
+
+    @Mock
+    private MovieSearchIndex searchIndex;
+
+    @Mock
+    private RecommendationCounterService recommendationCounter;
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
@@ -72,6 +109,12 @@ class MovieServiceTest {
                 .description("New movie description")
                 .posterUrl("https://example.com/new-poster.jpg")
                 .build();
+
+        // Direct counter mode: the persisted count is the effective count
+        lenient().when(recommendationCounter.effectiveCount(any(), any())).thenAnswer(invocation -> {
+            Integer count = invocation.getArgument(1);
+            return count == null ? 0 : count;
+        });
     }
 
     @Test
@@ -95,6 +138,7 @@ class MovieServiceTest {
         assertEquals(createRequestDto.getGenre(), result.getGenre());
         assertEquals(0, result.getRecommendationCount());
         verify(movieRepository).save(any(MovieEntity.class));
+        verify(movieGenreRepository).saveAll(anyList());
     }
 
     @Test
@@ -115,7 +159,8 @@ class MovieServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         when(movieRepository.findAll(pageable)).thenReturn(moviePage);
-        when(recommendationRepository.existsByMovieIdAndMemberId(anyLong(), anyString())).thenReturn(false);
+        when(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(eq(TEST_MEMBER_ID), anyCollection()))
+                .thenReturn(List.of());
 
         // When
         Page<MovieResponseDto> result = movieService.getAllMovies(pageable, TEST_MEMBER_ID);
@@ -133,10 +178,11 @@ class MovieServiceTest {
         List<MovieEntity> movies = Arrays.asList(testMovie);
         Page<MovieEntity> moviePage = new PageImpl<>(movies);
         Pageable pageable = PageRequest.of(0, 10);
-        String genre = "Action";
+        String genre = " Action ";
         
-        when(movieRepository.findByGenreContainingIgnoreCase(genre, pageable)).thenReturn(moviePage);
-        when(recommendationRepository.existsByMovieIdAndMemberId(anyLong(), anyString())).thenReturn(false);
+        when(movieRepository.findByNormalizedGenre("action", pageable)).thenReturn(moviePage);
+        when(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(eq(TEST_MEMBER_ID), anyCollection()))
+                .thenReturn(List.of());
 
         // When
         Page<MovieResponseDto> result = movieService.getMoviesByGenre(genre, pageable, TEST_MEMBER_ID);
@@ -145,7 +191,15 @@ class MovieServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(testMovie.getTitle(), result.getContent().get(0).getTitle());
-        verify(movieRepository).findByGenreContainingIgnoreCase(genre, pageable);
+        verify(movieRepository).findByNormalizedGenre("action", pageable);
+        verify(movieRepository, never()).findByGenreContainingIgnoreCase(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void getMoviesByYearRange_RejectsReversedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> movieService.getMoviesByYearRange(2020, 2010, PageRequest.of(0, 10), null));
+        verifyNoInteractions(movieRepository);
     }
 
     @Test
@@ -157,7 +211,8 @@ class MovieServiceTest {
         String keyword = "Test";
         
         when(movieRepository.findByTitleOrGenreContaining(keyword, pageable)).thenReturn(moviePage);
-        when(recommendationRepository.existsByMovieIdAndMemberId(anyLong(), anyString())).thenReturn(false);
+        when(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(eq(TEST_MEMBER_ID), anyCollection()))
+                .thenReturn(List.of());
 
         // When
         Page<MovieResponseDto> result = movieService.searchMovies(keyword, pageable, TEST_MEMBER_ID);
@@ -169,6 +224,44 @@ class MovieServiceTest {
         verify(movieRepository).findByTitleOrGenreContaining(keyword, pageable);
     }
 
+    @Test
+    void searchMovies_SortedFallbackEscapesLikeWildcards() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        when(movieRepository.findByTitleOrGenreContaining("100!% !_x!!", pageable)).thenReturn(Page.empty(pageable));
+
+        // When
+        movieService.searchMovies("100% _x!", pageable, null);
+
+        // Then
+        verify(movieRepository).findByTitleOrGenreContaining("100!% !_x!!", pageable);
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void searchMovies_FromIndexFetchesOnlyPageRowsByPrimaryKey() {
+        // Given - index matches three movies, second page of size 2 holds only the last one
+        Pageable pageable = PageRequest.of(1, 2);
+        MovieEntity thirdMovie = MovieEntity.builder()
+                .id(7L)
+                .title("Test Movie 3")
+                .genre("Drama")
+                .recommendationCount(0)
+                .build();
+        when(searchIndex.search("test")).thenReturn(new long[]{1L, 3L, 7L});
+        when(movieRepository.findAllById(List.of(7L))).thenReturn(List.of(thirdMovie));
+
+        // When
+        Page<MovieResponseDto> result = movieService.searchMovies("test", pageable, null);
+
+        // Then
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertEquals(1, result.getContent().size());
+        assertEquals("Test Movie 3", result.getContent().get(0).getTitle());
+        verify(movieRepository, never()).findByTitleOrGenreContaining(anyString(), any(Pageable.class));
+    }
+
     @Test
     void getRecommendedMovies() {
         // Given
@@ -177,7 +270,8 @@ class MovieServiceTest {
         Pageable pageable = PageRequest.of(0, 10);
         
         when(movieRepository.findAllByOrderByRecommendationCountDesc(pageable)).thenReturn(moviePage);
-        when(recommendationRepository.existsByMovieIdAndMemberId(anyLong(), anyString())).thenReturn(false);
+        when(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(eq(TEST_MEMBER_ID), anyCollection()))
+                .thenReturn(List.of());
 
         // When
         Page<MovieResponseDto> result = movieService.getRecommendedMovies(pageable, TEST_MEMBER_ID);
@@ -195,8 +289,10 @@ class MovieServiceTest {
         List<MovieEntity> movies = Arrays.asList(testMovie);
         int limit = 5;
         
+        when(leaderboard.topMovieIds(limit)).thenReturn(null);
         when(movieRepository.findTopMoviesByRecommendationCount(any(Pageable.class))).thenReturn(movies);
-        when(recommendationRepository.existsByMovieIdAndMemberId(anyLong(), anyString())).thenReturn(false);
+        when(recommendationRepository.findMovieIdsByMemberIdAndMovieIdIn(eq(TEST_MEMBER_ID), anyCollection()))
+                .thenReturn(List.of());
 
         // When
         List<MovieResponseDto> result = movieService.getTopRecommendedMovies(limit, TEST_MEMBER_ID);
@@ -208,6 +304,122 @@ class MovieServiceTest {
         verify(movieRepository).findTopMoviesByRecommendationCount(any(Pageable.class));
     }
 
+    @Test
+    void getTopRecommendedMovies_FromLeaderboard() {
+        // Given
+        MovieEntity secondMovie = MovieEntity.builder()
+                .id(2L)
+                .title("Second Movie")
+                .recommendationCount(9)
+                .build();
+        when(leaderboard.topMovieIds(2)).thenReturn(List.of(2L, 1L));
+        when(movieRepository.findAllById(anyIterable())).thenReturn(List.of(testMovie, secondMovie));
+
+        // When
+        List<MovieResponseDto> result = movieService.getTopRecommendedMovies(2, null);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+        verify(movieRepository, never()).findTopMoviesByRecommendationCount(any(Pageable.class));
+    }
+
+    @Test
+    void scrollMovies_ReturnsNextCursorForLastRow() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 1);
+        when(movieRepository.findSliceOrderByRecommendationCount(pageable))
+                .thenReturn(new SliceImpl<>(List.of(testMovie), pageable, true));
+
+        // When
+        MovieSliceResponseDto result = movieService.scrollMovies("recommendationCount", null, 1, null);
+
+        // Then
+        assertTrue(result.isHasNext());
+        assertEquals(1, result.getSize());
+        MovieCursor cursor = MovieCursor.decode(result.getNextCursor(), "recommendationCount");
+        assertEquals("5", cursor.getSortKey());
+        assertEquals(1L, cursor.getId());
+    }
+
+    @Test
+    void scrollMovies_UsesCursorForNextSlice() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        String cursor = new MovieCursor("recommendationCount", "5", 1L).encode();
+        when(movieRepository.findSliceOrderByRecommendationCountAfter(5, 1L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        MovieSliceResponseDto result = movieService.scrollMovies("recommendationCount", cursor, 10, null);
+
+        // Then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scrollMovies_RejectsSizeOutOfRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> movieService.scrollMovies("createdAt", null, 0, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> movieService.scrollMovies("createdAt", null, 1_000_000, null));
+        verifyNoInteractions(movieRepository);
+    }
+
+    @Test
+    void scrollMovies_LastRowWithoutCreatedAt_ContinuesAmongRowsWithoutCreatedAt() {
+        // Given - 등록일이 없는 행이 슬라이스의 마지막
+        Pageable pageable = PageRequest.of(0, 1);
+        testMovie.setCreatedAt(null);
+        when(movieRepository.findSliceOrderByCreatedAt(pageable))
+                .thenReturn(new SliceImpl<>(List.of(testMovie), pageable, true));
+        when(movieRepository.findSliceWithoutCreatedAtAfter(1L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        MovieSliceResponseDto first = movieService.scrollMovies("createdAt", null, 1, null);
+        MovieSliceResponseDto next = movieService.scrollMovies("createdAt", first.getNextCursor(), 1, null);
+
+        // Then
+        assertEquals("", MovieCursor.decode(first.getNextCursor(), "createdAt").getSortKey());
+        assertFalse(next.isHasNext());
+        verify(movieRepository).findSliceWithoutCreatedAtAfter(1L, pageable);
+    }
+
+    @Test
+    void scrollMovies_DatedRowsRunOut_ContinuesWithRowsWithoutCreatedAt() {
+        // Given - 등록일 있는 행이 1건만 남고 그 뒤에 등록일이 없는 행
+        Pageable pageable = PageRequest.of(0, 2);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        MovieEntity undated = MovieEntity.builder().id(2L).title("Undated").genre("Drama").build();
+        testMovie.setCreatedAt(createdAt);
+        when(movieRepository.findSliceOrderByCreatedAtAfter(createdAt, 5L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(testMovie), pageable, false));
+        when(movieRepository.findSliceWithoutCreatedAtAfter(Long.MAX_VALUE, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(undated), PageRequest.of(0, 1), true));
+        String cursor = new MovieCursor("createdAt", createdAt.toString(), 5L).encode();
+
+        // When
+        MovieSliceResponseDto result = movieService.scrollMovies("createdAt", cursor, 2, null);
+
+        // Then
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        MovieCursor next = MovieCursor.decode(result.getNextCursor(), "createdAt");
+        assertEquals("", next.getSortKey());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    void scrollMovies_RejectsCursorOfOtherSort() {
+        String cursor = new MovieCursor("createdAt", "2024-01-01T00:00", 1L).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> movieService.scrollMovies("recommendationCount", cursor, 10, null));
+    }
+
     @Test
     void getMovieById_Success() {
         // Given
@@ -225,6 +437,20 @@ class MovieServiceTest {
         verify(movieRepository).findById(1L);
     }
 
+    @Test
+    void getMovieById_SecondCallServedFromCache() {
+        // Given
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(testMovie));
+
+        // When
+        movieService.getMovieById(1L, null);
+        MovieResponseDto result = movieService.getMovieById(1L, null);
+
+        // Then
+        assertEquals(testMovie.getTitle(), result.getTitle());
+        verify(movieRepository, times(1)).findById(1L);
+    }
+
     @Test
     void getMovieById_NotFound() {
         // Given
@@ -238,10 +464,10 @@ class MovieServiceTest {
     @Test
     void toggleRecommendation_Add() {
         // Given
-        when(movieRepository.findById(1L)).thenReturn(Optional.of(testMovie));
-        when(recommendationRepository.findByMovieIdAndMemberId(1L, TEST_MEMBER_ID)).thenReturn(Optional.empty());
-        when(recommendationRepository.save(any(MovieRecommendationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(movieRepository.save(any(MovieEntity.class))).thenReturn(testMovie);
+        when(recommendationCounter.lockMovie(1L)).thenReturn(true);
+        when(recommendationRepository.deleteRecommendation(1L, TEST_MEMBER_ID)).thenReturn(0);
+        when(recommendationRepository.saveAndFlush(any(MovieRecommendationEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(recommendationCounter.applyDelta(1L, 1)).thenReturn(6);
 
         // When
         RecommendationResponseDto result = movieService.toggleRecommendation(1L, TEST_MEMBER_ID);
@@ -250,24 +476,19 @@ class MovieServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getMovieId());
         assertTrue(result.isRecommended());
-        assertEquals(6, testMovie.getRecommendationCount()); // Incremented from 5 to 6
-        verify(recommendationRepository).save(any(MovieRecommendationEntity.class));
-        verify(movieRepository).save(testMovie);
+        assertEquals(6, result.getRecommendationCount());
+        verify(recommendationRepository).saveAndFlush(any(MovieRecommendationEntity.class));
+        verify(recommendationCounter).applyDelta(1L, 1);
+        verify(movieRepository, never()).findById(anyLong());
+        verify(movieRepository, never()).save(any(MovieEntity.class));
     }
 
     @Test
     void toggleRecommendation_Remove() {
         // Given
-        MovieRecommendationEntity recommendation = MovieRecommendationEntity.builder()
-                .id(1L)
-                .movieId(1L)
-                .memberId(TEST_MEMBER_ID)
-                .build();
-        
-        when(movieRepository.findById(1L)).thenReturn(Optional.of(testMovie));
-        when(recommendationRepository.findByMovieIdAndMemberId(1L, TEST_MEMBER_ID)).thenReturn(Optional.of(recommendation));
-        doNothing().when(recommendationRepository).delete(any(MovieRecommendationEntity.class));
-        when(movieRepository.save(any(MovieEntity.class))).thenReturn(testMovie);
+        when(recommendationCounter.lockMovie(1L)).thenReturn(true);
+        when(recommendationRepository.deleteRecommendation(1L, TEST_MEMBER_ID)).thenReturn(1);
+        when(recommendationCounter.applyDelta(1L, -1)).thenReturn(4);
 
         // When
         RecommendationResponseDto result = movieService.toggleRecommendation(1L, TEST_MEMBER_ID);
@@ -276,9 +497,33 @@ class MovieServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.getMovieId());
         assertFalse(result.isRecommended());
-        assertEquals(4, testMovie.getRecommendationCount()); // Decremented from 5 to 4
-        verify(recommendationRepository).delete(recommendation);
-        verify(movieRepository).save(testMovie);
+        assertEquals(4, result.getRecommendationCount());
+        verify(recommendationCounter).applyDelta(1L, -1);
+        verify(recommendationRepository, never()).saveAndFlush(any(MovieRecommendationEntity.class));
+        verify(movieRepository, never()).save(any(MovieEntity.class));
+    }
+
+    @Test
+    void toggleRecommendation_MovieNotFound() {
+        // Given
+        when(recommendationCounter.lockMovie(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(MovieNotFoundException.class, () -> movieService.toggleRecommendation(99L, TEST_MEMBER_ID));
+        verifyNoInteractions(recommendationRepository);
+    }
+
+    @Test
+    void getMovieById_IncludesPendingWriteBehindDelta() {
+        // Given - two recommendations are waiting to be flushed
+        when(movieRepository.findById(1L)).thenReturn(Optional.of(testMovie));
+        when(recommendationCounter.effectiveCount(1L, 5)).thenReturn(7);
+
+        // When
+        MovieResponseDto result = movieService.getMovieById(1L, null);
+
+        // Then
+        assertEquals(7, result.getRecommendationCount());
     }
 
     @Test
@@ -312,4 +557,26 @@ class MovieServiceTest {
         assertTrue(result.contains("Comedy"));
         verify(movieRepository).findAllDistinctGenres();
     }
+
+    @Test
+    void getAllGenres_ServedFromSnapshotUntilNewGenreIsCreated() {
+        // Given
+        when(movieRepository.findAllDistinctGenres()).thenReturn(Arrays.asList("Action", "Drama"));
+
+        // When - repeated reads and a movie with a known genre
+        movieService.getAllGenres();
+        movieService.getAllGenres();
+        genreCatalogCache.onMovieCreated(new MovieCreatedEvent(2L, "Other", "Action", 0, LocalDateTime.now()));
+        movieService.getAllGenres();
+
+        // Then
+        verify(movieRepository, times(1)).findAllDistinctGenres();
+
+        // When - a movie introduces a new genre
+        genreCatalogCache.onMovieCreated(new MovieCreatedEvent(3L, "New", "Comedy", 0, LocalDateTime.now()));
+        movieService.getAllGenres();
+
+        // Then
+        verify(movieRepository, times(2)).findAllDistinctGenres();
+    }
 }
\ No newline at end of file
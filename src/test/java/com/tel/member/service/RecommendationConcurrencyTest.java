@@ -0,0 +1,107 @@
+package com.tel.member.service;
+
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.exception.DuplicateRecommendationException;
+import com.tel.member.repository.MovieRecommendationRepository;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency test for MovieService.toggleRecommendation
+ * 동시 추천 토글 시 추천 수 정합성 테스트
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recommendation-concurrency;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@ActiveProfiles("test")
+class RecommendationConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int TOGGLES_PER_THREAD = 500;
+    private static final int MEMBERS = 20;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieRecommendationRepository recommendationRepository;
+
+    private Long movieId;
+
+    @AfterEach
+    void tearDown() {
+        if (movieId != null) {
+            recommendationRepository.deleteAll(
+                    recommendationRepository.findByMovieId(movieId, Pageable.unpaged()));
+            movieRepository.deleteById(movieId);
+        }
+    }
+
+    @Test
+    void toggleRecommendation_CountMatchesRecommendationsAfterConcurrentToggles() throws Exception {
+        // Given
+        movieId = movieRepository.save(MovieEntity.builder()
+                .title("Launch Day Movie")
+                .genre("Action")
+                .recommendationCount(0)
+                .build()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When - every thread toggles random members on the same movie
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                    String memberId = "member" + ThreadLocalRandom.current().nextInt(MEMBERS);
+                    try {
+                        movieService.toggleRecommendation(movieId, memberId);
+                        completed.incrementAndGet();
+                    } catch (DuplicateRecommendationException e) {
+                        // 같은 회원의 동시 추천 추가는 한쪽만 성공
+                        duplicates.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // Then
+        int count = movieRepository.findRecommendationCountById(movieId);
+        long recommendations = recommendationRepository.countByMovieId(movieId);
+        assertEquals(THREADS * TOGGLES_PER_THREAD, completed.get() + duplicates.get());
+        assertEquals(recommendations, count);
+        assertTrue(count >= 0 && count <= MEMBERS);
+    }
+}
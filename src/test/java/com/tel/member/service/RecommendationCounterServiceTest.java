@@ -0,0 +1,206 @@
+package com.tel.member.service;
+
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for RecommendationCounterService
+ * RecommendationCounterService 테스트 클래스
+ */
+@ExtendWith(MockitoExtension.class)
+class RecommendationCounterServiceTest {
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RecommendationCounterService counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = writeBehindCounter();
+    }
+
+    @Test
+    void applyDelta_DirectModeUpdatesRowAtomically() {
+        // Given
+        counter = new RecommendationCounterService(movieRepository, new MovieEntityCache(100),
+                jdbcTemplate, transactionTemplate, false);
+        when(movieRepository.findRecommendationCountById(1L)).thenReturn(6);
+
+        // When
+        int count = counter.applyDelta(1L, 1);
+
+        // Then
+        assertEquals(6, count);
+        verify(movieRepository).addRecommendationCount(1L, 1);
+        assertEquals(0, counter.flush());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void lockMovie_DirectModeLocksMovieRowAndWriteBehindOnlyChecksExistence() {
+        // Given
+        RecommendationCounterService direct = new RecommendationCounterService(movieRepository,
+                new MovieEntityCache(100), jdbcTemplate, transactionTemplate, false);
+        when(movieRepository.lockByIdForUpdate(1L)).thenReturn(Optional.of(1L));
+        when(movieRepository.lockByIdForUpdate(99L)).thenReturn(Optional.empty());
+        when(movieRepository.existsById(1L)).thenReturn(true);
+
+        // When & Then
+        assertTrue(direct.lockMovie(1L));
+        assertFalse(direct.lockMovie(99L));
+        assertTrue(counter.lockMovie(1L));
+        verify(movieRepository, times(1)).lockByIdForUpdate(1L);
+    }
+
+    @Test
+    void applyDelta_WriteBehindKeepsDeltaInMemoryAndMergesReads() {
+        // Given
+        when(movieRepository.findRecommendationCountById(1L)).thenReturn(5);
+
+        // When
+        int afterFirst = counter.applyDelta(1L, 1);
+        int afterSecond = counter.applyDelta(1L, 1);
+
+        // Then
+        assertEquals(6, afterFirst);
+        assertEquals(7, afterSecond);
+        assertEquals(7, counter.effectiveCount(1L, 5));
+        assertEquals(3, counter.effectiveCount(2L, 3));
+        verify(movieRepository, never()).addRecommendationCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_CollapsesChurnIntoOneNetUpdatePerMovie() {
+        // Given - on/off churn on movie 1 nets +1, movie 2 nets zero
+        when(movieRepository.findRecommendationCountById(anyLong())).thenReturn(0);
+        runTransactionCallbacks();
+        counter.applyDelta(1L, 1);
+        counter.applyDelta(1L, -1);
+        counter.applyDelta(1L, 1);
+        counter.applyDelta(2L, 1);
+        counter.applyDelta(2L, -1);
+
+        // When
+        int flushed = counter.flush();
+
+        // Then
+        assertEquals(1, flushed);
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertArrayEquals(new Object[]{1L, 1L}, batch.getValue().get(0));
+        assertEquals(5, counter.effectiveCount(1L, 5));
+        assertEquals(0, counter.flush());
+    }
+
+    @Test
+    void flush_KeepsDeltaVisibleUntilBatchCommitted() {
+        // Given
+        when(movieRepository.findRecommendationCountById(1L)).thenReturn(5);
+        counter.applyDelta(1L, 1);
+        int[] duringFlush = new int[1];
+        doAnswer(invocation -> {
+            // 배치 커밋 전에는 DB 추천 수가 아직 5
+            duringFlush[0] = counter.effectiveCount(1L, 5);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // When
+        counter.flush();
+
+        // Then
+        assertEquals(6, duringFlush[0]);
+        assertEquals(6, counter.effectiveCount(1L, 6));
+        assertEquals(0L, counter.getStats().get("pendingMovies"));
+    }
+
+    @Test
+    void flush_KeepsDeltasWhenBatchFails() {
+        // Given
+        when(movieRepository.findRecommendationCountById(1L)).thenReturn(5);
+        doThrow(new IllegalStateException("database unavailable"))
+                .when(transactionTemplate).executeWithoutResult(any());
+        counter.applyDelta(1L, 1);
+
+        // When
+        int flushed = counter.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        assertEquals(6, counter.effectiveCount(1L, 5));
+        assertEquals(1L, counter.getStats().get("flushFailures"));
+    }
+
+    @Test
+    void recount_DropsDeltasAlreadyCountedByTheRecount() {
+        // Given - movie 1 has a pending delta, movie 2 is toggled while the recount runs
+        when(movieRepository.findRecommendationCountById(anyLong())).thenReturn(5);
+        runTransactionCallbacks();
+        counter.applyDelta(1L, 1);
+        when(movieRepository.recountRecommendations(anyCollection())).thenAnswer(invocation -> {
+            counter.applyDelta(2L, 1);
+            return 2;
+        });
+
+        // When
+        counter.recount(List.of(1L, 2L));
+
+        // Then - movie 1 was flushed before the recount, movie 2 is counted by the recount
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertEquals(6, counter.effectiveCount(2L, 6));
+        assertEquals(0, counter.flush());
+    }
+
+    @Test
+    void drain_FlushesPendingDeltasOnShutdown() {
+        // Given
+        when(movieRepository.findRecommendationCountById(1L)).thenReturn(5);
+        runTransactionCallbacks();
+        counter.applyDelta(1L, -1);
+
+        // When
+        counter.drain();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertEquals(0L, counter.getStats().get("pendingMovies"));
+    }
+
+    private RecommendationCounterService writeBehindCounter() {
+        return new RecommendationCounterService(movieRepository, new MovieEntityCache(100),
+                jdbcTemplate, transactionTemplate, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionCallbacks() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,191 @@
+package com.tel.member.service;
+
+import com.tel.member.cache.MovieEntityCache;
+import com.tel.member.dto.RecommendationImportStatusDto;
+import com.tel.member.entity.MovieEntity;
+import com.tel.member.entity.MovieRecommendationEntity;
+import com.tel.member.event.RecommendationsImportedEvent;
+import com.tel.member.repository.MovieRecommendationRepository;
+import com.tel.member.repository.MovieRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for RecommendationImportService
+ * RecommendationImportService 테스트 클래스
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({RecommendationImportService.class, RecommendationCounterService.class, MovieEntityCache.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "movie.import.batch-size=2")
+@RecordApplicationEvents
+class RecommendationImportServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RecommendationImportService importService;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private MovieRecommendationRepository recommendationRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long inceptionId;
+    private Long parasiteId;
+
+    @BeforeEach
+    void setUp() {
+        inceptionId = persistMovie("인셉션").getId();
+        parasiteId = persistMovie("기생충").getId();
+        entityManager.persist(MovieRecommendationEntity.create(inceptionId, "existing"));
+        entityManager.flush();
+    }
+
+    @Test
+    void importRecommendations_CsvSkipsExistingPairsAndRecountsAffectedMovies() {
+        // Given - header, duplicate in file, existing pair, unknown movie and malformed rows
+        String csv = String.join("\n",
+                "movieId,memberId,createdAt",
+                inceptionId + ",alice,2015-03-01T10:15:30",
+                inceptionId + ",bob,2016-01-01 09:00:00",
+                inceptionId + ",alice,2017-01-01T00:00:00",
+                inceptionId + ",existing,2015-01-01T00:00:00",
+                parasiteId + ",\"carol\"",
+                "999999,dave,2015-01-01T00:00:00",
+                "not-a-number,erin",
+                "",
+                parasiteId + ",");
+
+        // When
+        RecommendationImportStatusDto result = importService.importRecommendations(stream(csv), "csv");
+        entityManager.clear();
+
+        // Then
+        assertEquals("COMPLETED", result.getState());
+        assertEquals(8, result.getRowsRead());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getSkippedExisting());
+        assertEquals(1, result.getUnknownMovies());
+        assertEquals(2, result.getInvalidRows());
+        assertEquals(2, result.getAffectedMovies());
+        assertEquals(2, result.getErrors().size());
+
+        assertEquals(3, movieRepository.findRecommendationCountById(inceptionId));
+        assertEquals(1, movieRepository.findRecommendationCountById(parasiteId));
+        LocalDateTime aliceCreatedAt = recommendationRepository.findByMovieIdAndMemberId(inceptionId, "alice")
+                .orElseThrow().getCreatedAt();
+        assertEquals(LocalDateTime.of(2015, 3, 1, 10, 15, 30), aliceCreatedAt);
+        assertNotNull(recommendationRepository.findByMovieIdAndMemberId(parasiteId, "carol")
+                .orElseThrow().getCreatedAt());
+
+        RecommendationsImportedEvent event = events.stream(RecommendationsImportedEvent.class)
+                .findFirst().orElseThrow();
+        assertEquals(Set.of(inceptionId, parasiteId), event.getMovieIds());
+        assertEquals(3, event.getImportedRows());
+        assertEquals("COMPLETED", importService.getStatus().getState());
+    }
+
+    @Test
+    void importRecommendations_Ndjson() {
+        // Given
+        String ndjson = String.join("\n",
+                "{\"movieId\":" + parasiteId + ",\"memberId\":\"alice\",\"createdAt\":\"2019-05-30T20:00:00+09:00\"}",
+                "{\"movieId\":" + parasiteId + ",\"memberId\":\"bob\"}",
+                "{\"movieId\":" + parasiteId + "}",
+                "[1, 2]");
+
+        // When
+        RecommendationImportStatusDto result = importService.importRecommendations(stream(ndjson), "NDJSON");
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getInvalidRows());
+        assertEquals(2, movieRepository.findRecommendationCountById(parasiteId));
+        // 적재 대상이 아닌 영화는 재계산하지 않음
+        assertEquals(0, movieRepository.findRecommendationCountById(inceptionId));
+    }
+
+    @Test
+    void importRecommendations_MatchesExistingPairsExactly() {
+        // Given - 기존 쌍 (인셉션, existing) 의 영화와 회원이 각각 다른 쌍으로 등장
+        String csv = String.join("\n",
+                parasiteId + ",existing",
+                inceptionId + ",existing",
+                inceptionId + ",frank");
+
+        // When
+        RecommendationImportStatusDto result = importService.importRecommendations(stream(csv), "csv");
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getSkippedExisting());
+        assertEquals(1, movieRepository.findRecommendationCountById(parasiteId));
+        assertEquals(2, movieRepository.findRecommendationCountById(inceptionId));
+    }
+
+    @Test
+    void importRecommendations_RejectsUnsupportedFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> importService.importRecommendations(stream(""), "xml"));
+        assertNull(importService.getStatus());
+    }
+
+    @Test
+    void startImport_RunsInBackgroundAndReportsThroughStatus() throws InterruptedException {
+        // Given - 테스트 트랜잭션의 영화는 적재 스레드에서 보이지 않으므로 없는 영화 행만 사용
+        String csv = String.join("\n", "999999,alice", "999998,bob");
+
+        // When
+        RecommendationImportStatusDto started = importService.startImport(stream(csv), "csv");
+
+        // Then
+        assertNotNull(started.getState());
+        RecommendationImportStatusDto status = importService.getStatus();
+        for (int i = 0; i < 100 && "RUNNING".equals(status.getState()); i++) {
+            Thread.sleep(50);
+            status = importService.getStatus();
+        }
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(2, status.getRowsRead());
+        assertEquals(2, status.getUnknownMovies());
+    }
+
+    private MovieEntity persistMovie(String title) {
+        return entityManager.persist(MovieEntity.builder()
+                .title(title)
+                .genre("드라마")
+                .recommendationCount(0)
+                .build());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}